@@ -0,0 +1,93 @@
+package net.sattler22.bowling.benchmark;
+
+import net.sattler22.bowling.core.ColumnarScorer;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+import net.sattler22.bowling.model.Frame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ten Pin Bowling Columnar Scorer Benchmarks
+ * <p>
+ * Rescores a batch of games with the {@link ColumnarScorer} versus one {@link PackedGame} at a time. The scores are
+ * reported per game. The forked JVM adds the {@code jdk.incubator.vector} module, so the SIMD kernel is measured.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ColumnarScorerBenchmark {
+
+    private static final int NBR_GAMES = 4_096;
+    private static final String PLAYER_NAME = "Bach Scorer";
+
+    @Param
+    private GameType gameType;
+
+    private PackedGame[] packedGames;
+    private int[] rolls;
+    private int[] nbrRolls;
+    private final int[] frameScores = new int[Game.MAX_FRAMES * NBR_GAMES];
+    private final int[] nbrScoredFrames = new int[NBR_GAMES];
+
+    @Setup
+    public void setUp() {
+        final Game game = new Game(PLAYER_NAME);
+        for (final Frame frame : gameType.frames())
+            game.addFrame(frame);
+        final PackedGame packedGame = PackedGame.of(game);
+        packedGames = new PackedGame[NBR_GAMES];
+        rolls = new int[Game.MAX_ROLLS * NBR_GAMES];
+        nbrRolls = new int[NBR_GAMES];
+        for (int gameIndex = 0; gameIndex < NBR_GAMES; gameIndex++) {
+            packedGames[gameIndex] = packedGame;
+            nbrRolls[gameIndex] = packedGame.nbrRolls();
+            for (int rollIndex = 0; rollIndex < packedGame.nbrRolls(); rollIndex++)
+                rolls[rollIndex * NBR_GAMES + gameIndex] = packedGame.roll(rollIndex);
+        }
+    }
+
+    /**
+     * Scores the whole batch in columnar form
+     */
+    @Benchmark
+    @OperationsPerInvocation(NBR_GAMES)
+    public int columnarScore() {
+        ColumnarScorer.score(rolls, nbrRolls, NBR_GAMES, frameScores, nbrScoredFrames);
+        return frameScores[(Game.MAX_FRAMES - 1) * NBR_GAMES];
+    }
+
+    /**
+     * Scores the same batch one packed game at a time
+     */
+    @Benchmark
+    @OperationsPerInvocation(NBR_GAMES)
+    public int packedScore() {
+        int totalScore = 0;
+        for (final PackedGame packedGame : packedGames) {
+            packedGame.score(frameScores);
+            totalScore += frameScores[Game.MAX_FRAMES - 1];
+        }
+        return totalScore;
+    }
+}
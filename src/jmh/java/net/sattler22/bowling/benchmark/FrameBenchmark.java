@@ -0,0 +1,66 @@
+package net.sattler22.bowling.benchmark;
+
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ten Pin Bowling Frame Benchmarks
+ * <p>
+ * Measures the cost of creating new {@link Frame}s versus looking up the interned ones. Run with {@code -prof gc}
+ * to also report the allocation rate per operation.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameBenchmark {
+
+    //Non-final fields keep the JIT from constant folding the constructor arguments:
+    private int nbrPins1 = 7;
+    private int nbrPins2 = 3;
+    private int bonusNbrPins = 5;
+
+    @Benchmark
+    public DefaultFrame newDefaultFrame() {
+        return new DefaultFrame(nbrPins1, nbrPins2);
+    }
+
+    @Benchmark
+    public DefaultFrame strike() {
+        return DefaultFrame.strike();
+    }
+
+    @Benchmark
+    public FinalFrame newFinalFrame() {
+        return new FinalFrame(nbrPins1, nbrPins2, bonusNbrPins);
+    }
+
+    @Benchmark
+    public DefaultFrame ofDefaultFrame() {
+        return DefaultFrame.of(nbrPins1, nbrPins2);
+    }
+
+    @Benchmark
+    public FinalFrame ofFinalFrame() {
+        return FinalFrame.of(nbrPins1, nbrPins2, bonusNbrPins);
+    }
+}
@@ -0,0 +1,127 @@
+package net.sattler22.bowling.benchmark;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+import net.sattler22.bowling.model.Frame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ten Pin Bowling Game Benchmarks
+ * <p>
+ * Measures the throughput and latency of the {@link Game} scoring path. Run with {@code -prof gc} to also report
+ * the allocation rate per operation.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    private static final String PLAYER_NAME = "Bench Press";
+
+    @Param
+    private GameType gameType;
+
+    private Frame[] frames;
+    private Game scoredGame;
+    private PackedGame packedGame;
+    private int[] rolls;
+    private final int[] frameScores = new int[Game.MAX_FRAMES];
+
+    @Setup
+    public void setUp() {
+        frames = gameType.frames();
+        scoredGame = new Game(PLAYER_NAME);
+        for (final Frame frame : frames)
+            scoredGame.addFrame(frame);
+        scoredGame.updateScore();
+        packedGame = PackedGame.of(scoredGame);
+        rolls = new int[packedGame.nbrRolls()];
+        for (int index = 0; index < rolls.length; index++)
+            rolls[index] = packedGame.roll(index);
+    }
+
+    /**
+     * Adds all ten frames without scoring them
+     */
+    @Benchmark
+    public Game addFrame() {
+        final Game game = new Game(PLAYER_NAME);
+        for (final Frame frame : frames)
+            game.addFrame(frame);
+        return game;
+    }
+
+    /**
+     * Adds all ten frames, then scores the complete game once
+     */
+    @Benchmark
+    public int updateScoreOnce(Blackhole blackhole) {
+        final Game game = new Game(PLAYER_NAME);
+        for (final Frame frame : frames)
+            game.addFrame(frame);
+        blackhole.consume(game.updateScore());
+        return game.score();
+    }
+
+    /**
+     * Scores the game after every frame, the way a live display does
+     */
+    @Benchmark
+    public int updateScoreEveryFrame(Blackhole blackhole) {
+        final Game game = new Game(PLAYER_NAME);
+        for (final Frame frame : frames) {
+            game.addFrame(frame);
+            blackhole.consume(game.updateScore());
+        }
+        return game.score();
+    }
+
+    /**
+     * Feeds every roll to the game, settling bonuses as soon as their deciding roll arrives
+     */
+    @Benchmark
+    public int addRoll(Blackhole blackhole) {
+        final Game game = new Game(PLAYER_NAME);
+        for (final int nbrPins : rolls)
+            blackhole.consume(game.addRoll(nbrPins));
+        return game.score();
+    }
+
+    /**
+     * Reads the total score of a completely scored game
+     */
+    @Benchmark
+    public int score() {
+        return scoredGame.score();
+    }
+
+    /**
+     * Scores the packed form of the game into a reusable array
+     */
+    @Benchmark
+    public int packedScore() {
+        packedGame.score(frameScores);
+        return frameScores[Game.MAX_FRAMES - 1];
+    }
+}
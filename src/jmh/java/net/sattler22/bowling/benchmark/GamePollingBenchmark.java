@@ -0,0 +1,75 @@
+package net.sattler22.bowling.benchmark;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.Frame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ten Pin Bowling Game Polling Benchmarks
+ * <p>
+ * One pinsetter thread keeps adding and scoring frames while several display threads poll the same {@link Game}.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GamePollingBenchmark {
+
+    private static final String PLAYER_NAME = "Paul Ling";
+
+    private Frame[] frames;
+    private int frameIndex;
+    private volatile Game game;
+
+    @Setup
+    public void setUp() {
+        frames = GameType.TYPICAL.frames();
+        game = new Game(PLAYER_NAME);
+    }
+
+    @Benchmark
+    @Group("lane")
+    @GroupThreads(1)
+    public void pinsetter() {
+        if (frameIndex == frames.length) {
+            game = new Game(PLAYER_NAME);
+            frameIndex = 0;
+        }
+        game.addFrame(frames[frameIndex++]);
+        game.updateScore();
+    }
+
+    @Benchmark
+    @Group("lane")
+    @GroupThreads(3)
+    public int displayScore() {
+        return game.score();
+    }
+
+    @Benchmark
+    @Group("lane")
+    @GroupThreads(1)
+    public String displayFrames() {
+        return game.toString();
+    }
+}
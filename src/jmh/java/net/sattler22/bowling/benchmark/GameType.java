@@ -0,0 +1,75 @@
+package net.sattler22.bowling.benchmark;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+
+/**
+ * Ten Pin Bowling Benchmark Game Types
+ * <p>
+ * The complete games replayed by the benchmarks, covering the typical, best and simplest scoring paths
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+public enum GameType {
+
+    /**
+     * A league night regular: X 7/ 9- X X 8/ 6- X 9/ X8/ (178)
+     */
+    TYPICAL {
+        @Override
+        Frame[] frames() {
+            return new Frame[] {
+                DefaultFrame.strike(),
+                new DefaultFrame(7, 3),
+                new DefaultFrame(9, 0),
+                DefaultFrame.strike(),
+                DefaultFrame.strike(),
+                new DefaultFrame(8, 2),
+                new DefaultFrame(6, 0),
+                DefaultFrame.strike(),
+                new DefaultFrame(9, 1),
+                new FinalFrame(Frame.MAX_PINS, 8, 2)
+            };
+        }
+    },
+
+    /**
+     * The perfect game: twelve strikes in a row (300)
+     */
+    ALL_STRIKES {
+        @Override
+        Frame[] frames() {
+            final Frame[] frames = new Frame[Game.MAX_FRAMES];
+            for (int index = 0; index < Game.MAX_FRAMES - 1; index++)
+                frames[index] = DefaultFrame.strike();
+            frames[Game.MAX_FRAMES - 1] = new FinalFrame(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS);
+            return frames;
+        }
+    },
+
+    /**
+     * Ten open frames without a single bonus (70)
+     */
+    ALL_OPEN {
+        @Override
+        Frame[] frames() {
+            final Frame[] frames = new Frame[Game.MAX_FRAMES];
+            for (int index = 0; index < Game.MAX_FRAMES - 1; index++)
+                frames[index] = new DefaultFrame(4, 3);
+            frames[Game.MAX_FRAMES - 1] = new FinalFrame(4, 3);
+            return frames;
+        }
+    };
+
+    /**
+     * Get frames
+     *
+     * @return All ten frames of this game type
+     */
+    abstract Frame[] frames();
+}
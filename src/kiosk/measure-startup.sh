@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Measures the time-to-first-prompt of the kiosk score calculator: from launching the JVM until the player name
+# prompt has been written to the (pseudo) terminal. Reports the median of several runs on the trimmed runtime, first
+# with just its default CDS archive and then with the trained AOT cache.
+set -euo pipefail
+KIOSK_HOME=$(cd "$(dirname "$0")" && pwd)
+NBR_RUNS=${NBR_RUNS:-7}
+JAVA="'$KIOSK_HOME/runtime/bin/java'"
+JAR="'$KIOSK_HOME/bowling-for-dollars.jar'"
+
+first_prompt_millis() {
+    local answered start_time prompt_time
+    answered=$(mktemp -u)
+    start_time=$(date +%s%N)
+    #Only answer once the prompt is seen, since script(1) holds back the output after its input ends:
+    prompt_time=$({ until [[ -e $answered ]]; do sleep 0.01; done; echo quit; } |
+        script -qefc "$1" /dev/null | {
+            while IFS= read -r -d ':' output; do
+                if [[ $output == *"Enter player name"* ]]; then
+                    date +%s%N
+                    touch "$answered"
+                    break
+                fi
+            done
+            touch "$answered"
+            cat > /dev/null  #Let the calculator finish
+        })
+    rm -f "$answered"
+    if [[ -z $prompt_time ]]; then
+        echo "No prompt from: $1" >&2
+        exit 1
+    fi
+    echo $(( (prompt_time - start_time) / 1000000 ))
+}
+
+median_millis() {
+    local run
+    for (( run = 0; run < NBR_RUNS; run++ )); do
+        first_prompt_millis "$1"
+    done | sort -n | sed -n "$(( NBR_RUNS / 2 + 1 ))p"
+}
+
+first_prompt_millis "$JAVA -jar $JAR" > /dev/null  #Warm the file system cache
+default_millis=$(median_millis "$JAVA -jar $JAR")
+aot_millis=$(median_millis "$JAVA -XX:AOTCache='$KIOSK_HOME/score-calculator.aot' -jar $JAR")
+echo "Time-to-first-prompt (median of $NBR_RUNS runs): ${default_millis} ms with the default CDS archive," \
+    "${aot_millis} ms with the AOT cache"
@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+# Bowls one interactive game on a pseudo-terminal (just like a walk-in customer) and writes every class it loads and
+# links to the AOT cache of the kiosk score calculator
+set -euo pipefail
+KIOSK_HOME=$(cd "$(dirname "$0")" && pwd)
+AOT_CACHE="$KIOSK_HOME/score-calculator.aot"
+
+rm -f "$AOT_CACHE"
+#Player name, then a strike, spare, open frame and gutter frame mix that finishes with a turkey:
+printf '%s\n' "Kiosk Training" 10 7 3 9 0 10 10 8 1 6 4 10 0 0 10 10 10 |
+    script -qefc "'$KIOSK_HOME/runtime/bin/java' -XX:AOTCacheOutput='$AOT_CACHE' \
+        -jar '$KIOSK_HOME/bowling-for-dollars.jar'" /dev/null > "$KIOSK_HOME/training.log"
+if [[ ! -s $AOT_CACHE ]]; then
+    echo "AOT cache was not created (see $KIOSK_HOME/training.log)" >&2
+    exit 1
+fi
+echo "AOT cache: $AOT_CACHE ($(du -k "$AOT_CACHE" | cut -f1) KB)"
@@ -0,0 +1,295 @@
+package net.sattler22.bowling.archive;
+
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.NotationScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Ten Pin Bowling Archive Importer
+ *
+ * <p>
+ * Imports large archives of {@code player,notation} lines (the same format read by the batch scorer). The archive is
+ * memory-mapped in chunks that end on line boundaries, and the chunks are parsed and scored in parallel on a
+ * fork/join pool. Every worker reuses its own scanner and buffers, so nothing is allocated per game unless an
+ * {@link ImportedGameHandler} asks for the games.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class ArchiveImporter {
+
+    /**
+     * Default chunk size (64 MiB)
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveImporter.class);
+    private static final int MAX_NOTATION_LENGTH = 256;
+    private static final int MAX_PLAYER_NAME_LENGTH = 1024;
+    private static final int BOUNDARY_BUFFER_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Constructs a new {@code ArchiveImporter} on the common pool with the default chunk size
+     */
+    public ArchiveImporter() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code ArchiveImporter}
+     *
+     * @param pool The fork/join pool that parses the chunks
+     * @param chunkSize The target number of bytes per chunk (chunks are extended to the end of their last line)
+     */
+    public ArchiveImporter(ForkJoinPool pool, int chunkSize) {
+        if (pool == null)
+            throw new IllegalArgumentException("Fork/join pool is required");
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("Invalid chunk size");
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Executes the Ten Pin Bowling Archive Importer
+     *
+     * @param args The archive file
+     * @throws IOException If the archive could not be read
+     */
+    static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ArchiveImporter <archive file>");
+            return;
+        }
+        final ImportSummary importSummary = new ArchiveImporter().importFile(Path.of(args[0]));
+        System.out.printf("Imported %,d games (%,d skipped) in %,d ms: %,.0f games/sec%n",
+                importSummary.nbrGames(), importSummary.nbrRejected(), importSummary.elapsedNanos() / 1_000_000,
+                importSummary.gamesPerSecond());
+    }
+
+    /**
+     * Import and score an archive
+     *
+     * @param archive The archive file
+     * @return The {@link ImportSummary}
+     * @throws IOException If the archive could not be read
+     */
+    public ImportSummary importFile(Path archive) throws IOException {
+        return importFile(archive, null);
+    }
+
+    /**
+     * Import and score an archive
+     *
+     * @param archive The archive file
+     * @param handler Receives every scored game (optional)
+     * @return The {@link ImportSummary}
+     * @throws IOException If the archive could not be read
+     */
+    public ImportSummary importFile(Path archive, ImportedGameHandler handler) throws IOException {
+        if (archive == null)
+            throw new IllegalArgumentException("Archive is required");
+        final long startTime = System.nanoTime();
+        try (final FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            final long nbrBytes = channel.size();
+            final List<long[]> chunks = split(channel, nbrBytes);
+            final ChunkTotals totals;
+            try {
+                totals = pool.invoke(new ImportTask(channel, chunks, 0, chunks.size(), handler));
+            }
+            catch (UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            final ImportSummary importSummary = new ImportSummary(totals.nbrGames, totals.nbrRejected,
+                    totals.totalScore, nbrBytes, System.nanoTime() - startTime);
+            LOGGER.info("Imported {}: {}", archive, importSummary);
+            return importSummary;
+        }
+    }
+
+    /**
+     * Split the archive into chunks of about the chunk size that always end right after a line terminator (or at the
+     * end of the archive)
+     */
+    private List<long[]> split(FileChannel channel, long nbrBytes) throws IOException {
+        final List<long[]> chunks = new ArrayList<>();
+        final ByteBuffer boundaryBuffer = ByteBuffer.allocate(BOUNDARY_BUFFER_SIZE);
+        long start = 0;
+        while (start < nbrBytes) {
+            final long end = lineEnd(channel, Math.min(start + chunkSize, nbrBytes), nbrBytes, boundaryBuffer);
+            if (end - start > Integer.MAX_VALUE)
+                throw new IllegalArgumentException("Line too long at byte %d".formatted(start));
+            chunks.add(new long[] {start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static long lineEnd(FileChannel channel, long end, long nbrBytes, ByteBuffer boundaryBuffer)
+            throws IOException {
+        long position = end - 1;  //The chunk may already end with a line terminator
+        while (position < nbrBytes) {
+            boundaryBuffer.clear();
+            final int nbrRead = channel.read(boundaryBuffer, position);
+            if (nbrRead <= 0)
+                break;
+            for (int index = 0; index < nbrRead; index++)
+                if (boundaryBuffer.get(index) == '\n')
+                    return position + index + 1;
+            position += nbrRead;
+        }
+        return nbrBytes;
+    }
+
+    /**
+     * Per chunk totals, combined as the tasks join
+     */
+    private static final class ChunkTotals {
+
+        private long nbrGames;
+        private long nbrRejected;
+        private long totalScore;
+
+        private ChunkTotals add(ChunkTotals other) {
+            nbrGames += other.nbrGames;
+            nbrRejected += other.nbrRejected;
+            totalScore += other.totalScore;
+            return this;
+        }
+    }
+
+    /**
+     * Imports a range of chunks, splitting it in half until a single chunk is left
+     */
+    private static final class ImportTask extends RecursiveTask<ChunkTotals> {
+
+        private final FileChannel channel;
+        private final List<long[]> chunks;
+        private final int from;
+        private final int to;
+        private final ImportedGameHandler handler;
+
+        private ImportTask(FileChannel channel, List<long[]> chunks, int from, int to, ImportedGameHandler handler) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.handler = handler;
+        }
+
+        @Override
+        protected ChunkTotals compute() {
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                final ImportTask left = new ImportTask(channel, chunks, from, middle, handler);
+                left.fork();
+                final ChunkTotals right = new ImportTask(channel, chunks, middle, to, handler).compute();
+                return right.add(left.join());
+            }
+            final ChunkTotals totals = new ChunkTotals();
+            if (from == to)
+                return totals;  //Empty archive
+            final long[] chunk = chunks.get(from);
+            final MappedByteBuffer mappedChunk;
+            try {
+                mappedChunk = channel.map(FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] - chunk[0]);
+            }
+            catch (IOException ioException) {
+                throw new UncheckedIOException(ioException);
+            }
+            new ChunkParser(handler).parse(mappedChunk, totals);
+            return totals;
+        }
+    }
+
+    /**
+     * Parses the lines of a single mapped chunk with reusable buffers
+     */
+    private static final class ChunkParser {
+
+        private final ImportedGameHandler handler;
+        private final NotationScanner scanner = new NotationScanner();
+        private final int[] frameScores = new int[Game.MAX_FRAMES];
+        private final char[] notation = new char[MAX_NOTATION_LENGTH];
+        private final byte[] playerName = new byte[MAX_PLAYER_NAME_LENGTH];
+
+        private ChunkParser(ImportedGameHandler handler) {
+            this.handler = handler;
+        }
+
+        private void parse(ByteBuffer chunk, ChunkTotals totals) {
+            final int limit = chunk.limit();
+            int lineStart = 0;
+            for (int index = 0; index <= limit; index++) {
+                if (index == limit || chunk.get(index) == '\n') {
+                    parseLine(chunk, lineStart, index, totals);
+                    lineStart = index + 1;
+                }
+            }
+        }
+
+        private void parseLine(ByteBuffer chunk, int start, int end, ChunkTotals totals) {
+            if (end > start && chunk.get(end - 1) == '\r')
+                end--;
+            if (end == start)
+                return;  //Blank line
+            int separator = end - 1;
+            while (separator >= start && chunk.get(separator) != ',')
+                separator--;
+            final int notationLength = end - separator - 1;
+            try {
+                if (separator <= start)
+                    throw new IllegalArgumentException("Player name is required");
+                if (notationLength > MAX_NOTATION_LENGTH)
+                    throw new IllegalArgumentException("Score notation is too long");
+                if (handler != null && separator - start > MAX_PLAYER_NAME_LENGTH)
+                    throw new IllegalArgumentException("Player name is too long");
+                //Score notation is plain ASCII, so every byte is a character:
+                for (int index = 0; index < notationLength; index++)
+                    notation[index] = (char) chunk.get(separator + 1 + index);
+                scanner.scan(notation, 0, notationLength);
+                if (scanner.score(frameScores) < Game.MAX_FRAMES)
+                    throw new IllegalArgumentException("Incomplete game");
+            }
+            catch (IllegalArgumentException illegalArgumentException) {
+                totals.nbrRejected++;
+                LOGGER.debug("Line skipped: {}", illegalArgumentException.getMessage());
+                return;
+            }
+            final int score = frameScores[Game.MAX_FRAMES - 1];
+            totals.nbrGames++;
+            totals.totalScore += score;
+            if (handler != null) {
+                chunk.get(start, playerName, 0, separator - start);
+                handler.gameImported(new String(playerName, 0, separator - start, StandardCharsets.UTF_8),
+                        scanner.toPackedGame(), score);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [pool=%s, chunkSize=%s]", getClass().getSimpleName(), pool, chunkSize);
+    }
+}
@@ -0,0 +1,79 @@
+package net.sattler22.bowling.archive;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+
+import java.nio.ByteOrder;
+
+/**
+ * Ten Pin Bowling Game Log
+ *
+ * <p>
+ * The binary layout shared by the {@link GameLogWriter} and the {@link GameLogReader}. A game log starts with an
+ * {@value #HEADER_SIZE} byte header, followed by one fixed-width {@value #RECORD_SIZE} byte record per scored game,
+ * so any record can be found by its index alone. Every value is stored in little-endian byte order.
+ * </p>
+ * <p>
+ * Header:
+ * <ul>
+ * <li>{@code int} magic number ({@code BFDG})</li>
+ * <li>{@code short} format version</li>
+ * <li>{@code short} record size</li>
+ * </ul>
+ * Record:
+ * <ul>
+ * <li>{@code long} player id</li>
+ * <li>{@code long} nibbles of rolls #1-16 (see {@link PackedGame})</li>
+ * <li>{@code int} nibbles of rolls #17-21</li>
+ * <li>{@code byte} number of rolls</li>
+ * <li>{@code byte} number of scored frames</li>
+ * <li>{@code short} cumulative score of each of the {@value Game#MAX_FRAMES} frames (zero when not scored)</li>
+ * <li>Padding to the record size</li>
+ * </ul>
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+public final class GameLog {
+
+    /**
+     * Magic number ({@code BFDG})
+     */
+    public static final int MAGIC = 0x47444642;
+
+    /**
+     * Current format version
+     */
+    public static final short VERSION = 1;
+
+    /**
+     * Header size in bytes
+     */
+    public static final int HEADER_SIZE = 8;
+
+    /**
+     * Record size in bytes
+     */
+    public static final int RECORD_SIZE = 48;
+
+    /**
+     * Byte order of every value
+     */
+    public static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int RECORD_SIZE_OFFSET = 6;
+
+    static final int PLAYER_ID_OFFSET = 0;
+    static final int LOW_OFFSET = 8;
+    static final int HIGH_OFFSET = 16;
+    static final int NBR_ROLLS_OFFSET = 20;
+    static final int NBR_SCORED_FRAMES_OFFSET = 21;
+    static final int FRAME_SCORES_OFFSET = 22;
+
+    private GameLog() {
+    }
+}
@@ -0,0 +1,210 @@
+package net.sattler22.bowling.archive;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Ten Pin Bowling Game Log Reader
+ *
+ * <p>
+ * A flyweight cursor over the records of a {@link GameLog}. The reader works straight off a (typically memory-mapped)
+ * buffer: moving the cursor and reading the current record never allocates, and a {@link PackedGame} or {@link Game}
+ * is only created when asked for.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@NotThreadSafe
+public final class GameLogReader {
+
+    private final ByteBuffer buffer;
+    private final int nbrRecords;
+    private int recordIndex = -1;
+    private int recordStart;
+
+    /**
+     * Constructs a new {@code GameLogReader}
+     *
+     * @param buffer The complete game log, from the header to the last record
+     */
+    public GameLogReader(ByteBuffer buffer) {
+        if (buffer == null)
+            throw new IllegalArgumentException("Buffer is required");
+        this.buffer = buffer.slice().order(GameLog.BYTE_ORDER);
+        if (this.buffer.limit() < GameLog.HEADER_SIZE || this.buffer.getInt(GameLog.MAGIC_OFFSET) != GameLog.MAGIC)
+            throw new IllegalArgumentException("Not a game log");
+        if (this.buffer.getShort(GameLog.VERSION_OFFSET) != GameLog.VERSION)
+            throw new IllegalArgumentException("Unsupported game log version %d"
+                    .formatted(this.buffer.getShort(GameLog.VERSION_OFFSET)));
+        if (this.buffer.getShort(GameLog.RECORD_SIZE_OFFSET) != GameLog.RECORD_SIZE)
+            throw new IllegalArgumentException("Unsupported game log record size");
+        final int recordsSize = this.buffer.limit() - GameLog.HEADER_SIZE;
+        if (recordsSize % GameLog.RECORD_SIZE != 0)
+            throw new IllegalArgumentException("Game log is truncated");
+        this.nbrRecords = recordsSize / GameLog.RECORD_SIZE;
+    }
+
+    /**
+     * Memory-map a game log file
+     *
+     * @param path The game log file
+     * @return A new {@code GameLogReader}
+     * @throws IOException If the file could not be mapped
+     */
+    public static GameLogReader open(Path path) throws IOException {
+        if (path == null)
+            throw new IllegalArgumentException("Path is required");
+        try (final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            //The mapping stays valid after the channel is closed:
+            return new GameLogReader(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+        }
+    }
+
+    /**
+     * Get number of records
+     *
+     * @return The number of records in the game log
+     */
+    public int nbrRecords() {
+        return nbrRecords;
+    }
+
+    /**
+     * Advance to the next record
+     *
+     * @return True if the cursor is on a record. Otherwise, returns false (no more records).
+     */
+    public boolean next() {
+        if (recordIndex < nbrRecords)
+            recordIndex++;
+        recordStart = GameLog.HEADER_SIZE + recordIndex * GameLog.RECORD_SIZE;
+        return recordIndex < nbrRecords;
+    }
+
+    /**
+     * Move to a record
+     *
+     * @param recordIndex The zero-based record index
+     */
+    public void moveTo(int recordIndex) {
+        if (recordIndex < 0 || recordIndex >= nbrRecords)
+            throw new IndexOutOfBoundsException(recordIndex);
+        this.recordIndex = recordIndex;
+        this.recordStart = GameLog.HEADER_SIZE + recordIndex * GameLog.RECORD_SIZE;
+    }
+
+    /**
+     * Get record index
+     *
+     * @return The zero-based index of the current record
+     */
+    public int recordIndex() {
+        return recordIndex;
+    }
+
+    private int requireRecord() {
+        if (recordIndex < 0 || recordIndex >= nbrRecords)
+            throw new IllegalStateException("No current record");
+        return recordStart;
+    }
+
+    /**
+     * Get player id
+     *
+     * @return The player id of the current record
+     */
+    public long playerId() {
+        return buffer.getLong(requireRecord() + GameLog.PLAYER_ID_OFFSET);
+    }
+
+    /**
+     * Get low order rolls
+     *
+     * @return The nibbles of the first 16 rolls of the current record
+     */
+    public long low() {
+        return buffer.getLong(requireRecord() + GameLog.LOW_OFFSET);
+    }
+
+    /**
+     * Get high order rolls
+     *
+     * @return The nibbles of the remaining rolls of the current record
+     */
+    public long high() {
+        return Integer.toUnsignedLong(buffer.getInt(requireRecord() + GameLog.HIGH_OFFSET));
+    }
+
+    /**
+     * Get number of rolls
+     *
+     * @return The number of rolls of the current record
+     */
+    public int nbrRolls() {
+        return buffer.get(requireRecord() + GameLog.NBR_ROLLS_OFFSET);
+    }
+
+    /**
+     * Get number of scored frames
+     *
+     * @return The number of frames scored in the current record
+     */
+    public int nbrScoredFrames() {
+        return buffer.get(requireRecord() + GameLog.NBR_SCORED_FRAMES_OFFSET);
+    }
+
+    /**
+     * Get a frame score
+     *
+     * @param frameIndex The zero-based frame index
+     * @return The cumulative score through the frame of the current record
+     */
+    public int frameScore(int frameIndex) {
+        if (frameIndex < 0 || frameIndex >= nbrScoredFrames())
+            throw new IndexOutOfBoundsException(frameIndex);
+        return buffer.getShort(recordStart + GameLog.FRAME_SCORES_OFFSET + frameIndex * Short.BYTES);
+    }
+
+    /**
+     * Get score
+     *
+     * @return The score of the last scored frame of the current record (zero if none were scored)
+     */
+    public int score() {
+        final int nbrScoredFrames = nbrScoredFrames();
+        return nbrScoredFrames == 0 ? 0 : frameScore(nbrScoredFrames - 1);
+    }
+
+    /**
+     * Unpack the current record
+     *
+     * @return A new, validated {@link PackedGame}
+     */
+    public PackedGame toPackedGame() {
+        return PackedGame.of(low(), high(), nbrRolls());
+    }
+
+    /**
+     * Rebuild the game of the current record
+     *
+     * @param playerName The player's name
+     * @return A new, fully scored {@link Game}
+     */
+    public Game toGame(String playerName) {
+        return toPackedGame().toGame(playerName);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [nbrRecords=%s, recordIndex=%s]", getClass().getSimpleName(), nbrRecords, recordIndex);
+    }
+}
@@ -0,0 +1,168 @@
+package net.sattler22.bowling.archive;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Ten Pin Bowling Game Log Writer
+ *
+ * <p>
+ * Appends scored games to a {@link GameLog}. Records are staged in a reusable direct buffer and written to the channel
+ * in large batches, so nothing is allocated per game.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@NotThreadSafe
+public final class GameLogWriter implements Closeable {
+
+    private static final int RECORDS_PER_BATCH = 1024;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer =
+            ByteBuffer.allocateDirect(GameLog.RECORD_SIZE * RECORDS_PER_BATCH).order(GameLog.BYTE_ORDER);
+    private final int[] frameScores = new int[Game.MAX_FRAMES];
+    private long nbrRecords;
+
+    /**
+     * Constructs a new {@code GameLogWriter} and writes the header
+     *
+     * @param channel The channel to write to (positioned at the start of a new game log)
+     * @throws IOException If the header could not be written
+     */
+    public GameLogWriter(WritableByteChannel channel) throws IOException {
+        if (channel == null)
+            throw new IllegalArgumentException("Channel is required");
+        this.channel = channel;
+        buffer.putInt(GameLog.MAGIC).putShort(GameLog.VERSION).putShort((short) GameLog.RECORD_SIZE);
+        flush();
+    }
+
+    /**
+     * Create a new game log file (replacing any existing file)
+     *
+     * @param path The game log file
+     * @return A new {@code GameLogWriter}
+     * @throws IOException If the file could not be created
+     */
+    public static GameLogWriter create(Path path) throws IOException {
+        if (path == null)
+            throw new IllegalArgumentException("Path is required");
+        final FileChannel fileChannel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        try {
+            return new GameLogWriter(fileChannel);
+        }
+        catch (IOException | RuntimeException exception) {
+            fileChannel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Write a game
+     *
+     * @param playerId The player id
+     * @param game The game to write
+     * @throws IOException If the record could not be written
+     */
+    public void write(long playerId, Game game) throws IOException {
+        write(playerId, PackedGame.of(game));
+    }
+
+    /**
+     * Write a packed game
+     *
+     * @param playerId The player id
+     * @param packedGame The packed game to write
+     * @throws IOException If the record could not be written
+     */
+    public void write(long playerId, PackedGame packedGame) throws IOException {
+        if (packedGame == null)
+            throw new IllegalArgumentException("Packed game is required");
+        write(playerId, packedGame.low(), packedGame.high(), packedGame.nbrRolls());
+    }
+
+    /**
+     * Write rolls that are already packed (and validated) without allocating
+     *
+     * @param playerId The player id
+     * @param low The nibbles of the first 16 rolls
+     * @param high The nibbles of the remaining rolls
+     * @param nbrRolls The number of rolls
+     * @throws IOException If the record could not be written
+     */
+    public void write(long playerId, long low, long high, int nbrRolls) throws IOException {
+        if (nbrRolls < 0 || nbrRolls > Game.MAX_ROLLS)
+            throw new IllegalArgumentException("Invalid number of rolls");
+        if (!buffer.hasRemaining())
+            flush();
+        final int nbrScoredFrames = PackedGame.score(low, high, nbrRolls, frameScores);
+        final int start = buffer.position();
+        buffer.putLong(start + GameLog.PLAYER_ID_OFFSET, playerId)
+                .putLong(start + GameLog.LOW_OFFSET, low)
+                .putInt(start + GameLog.HIGH_OFFSET, (int) high)
+                .put(start + GameLog.NBR_ROLLS_OFFSET, (byte) nbrRolls)
+                .put(start + GameLog.NBR_SCORED_FRAMES_OFFSET, (byte) nbrScoredFrames);
+        for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES; frameIndex++) {
+            final int frameScore = frameIndex < nbrScoredFrames ? frameScores[frameIndex] : 0;
+            buffer.putShort(start + GameLog.FRAME_SCORES_OFFSET + frameIndex * Short.BYTES, (short) frameScore);
+        }
+        //Zero the padding, since the staging buffer is reused:
+        for (int offset = GameLog.FRAME_SCORES_OFFSET + Game.MAX_FRAMES * Short.BYTES; offset < GameLog.RECORD_SIZE;
+             offset++)
+            buffer.put(start + offset, (byte) 0);
+        buffer.position(start + GameLog.RECORD_SIZE);
+        nbrRecords++;
+    }
+
+    /**
+     * Get number of records
+     *
+     * @return The number of records written so far
+     */
+    public long nbrRecords() {
+        return nbrRecords;
+    }
+
+    /**
+     * Write every staged record to the channel
+     *
+     * @throws IOException If the records could not be written
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Flush and close the channel
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [nbrRecords=%s]", getClass().getSimpleName(), nbrRecords);
+    }
+}
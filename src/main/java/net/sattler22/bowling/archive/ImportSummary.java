@@ -0,0 +1,115 @@
+package net.sattler22.bowling.archive;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ten Pin Bowling Import Summary
+ *
+ * <p>
+ * The totals of a single {@link ArchiveImporter} run, including its throughput.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class ImportSummary {
+
+    private final long nbrGames;
+    private final long nbrRejected;
+    private final long totalScore;
+    private final long nbrBytes;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new {@code ImportSummary}
+     *
+     * @param nbrGames The number of games scored
+     * @param nbrRejected The number of lines that could not be scored
+     * @param totalScore The sum of all final scores
+     * @param nbrBytes The size of the archive
+     * @param elapsedNanos The elapsed import time in nanoseconds
+     */
+    public ImportSummary(long nbrGames, long nbrRejected, long totalScore, long nbrBytes, long elapsedNanos) {
+        if (nbrGames < 0 || nbrRejected < 0 || totalScore < 0 || nbrBytes < 0 || elapsedNanos < 0)
+            throw new IllegalArgumentException("Import totals cannot be negative");
+        this.nbrGames = nbrGames;
+        this.nbrRejected = nbrRejected;
+        this.totalScore = totalScore;
+        this.nbrBytes = nbrBytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get number of games
+     *
+     * @return The number of games scored
+     */
+    public long nbrGames() {
+        return nbrGames;
+    }
+
+    /**
+     * Get number of rejected games
+     *
+     * @return The number of lines that could not be scored
+     */
+    public long nbrRejected() {
+        return nbrRejected;
+    }
+
+    /**
+     * Get total score
+     *
+     * @return The sum of all final scores
+     */
+    public long totalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Get number of bytes
+     *
+     * @return The size of the archive
+     */
+    public long nbrBytes() {
+        return nbrBytes;
+    }
+
+    /**
+     * Get elapsed time
+     *
+     * @return The elapsed import time in nanoseconds
+     */
+    public long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Get average score
+     *
+     * @return The average final score (zero if no games were scored)
+     */
+    public double averageScore() {
+        return nbrGames == 0 ? 0 : (double) totalScore / nbrGames;
+    }
+
+    /**
+     * Get throughput
+     *
+     * @return The number of games scored per second
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nbrGames * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [nbrGames=%s, nbrRejected=%s, averageScore=%.1f, nbrBytes=%s, elapsedMillis=%s, " +
+                "gamesPerSecond=%.0f]", getClass().getSimpleName(), nbrGames, nbrRejected, averageScore(), nbrBytes,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), gamesPerSecond());
+    }
+}
@@ -0,0 +1,28 @@
+package net.sattler22.bowling.archive;
+
+import net.sattler22.bowling.core.PackedGame;
+
+/**
+ * Ten Pin Bowling Imported Game Handler
+ *
+ * <p>
+ * Receives every game scored by an {@link ArchiveImporter}. The archive is imported in parallel, so handlers are
+ * called concurrently from several worker threads and must be thread safe.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@FunctionalInterface
+public interface ImportedGameHandler {
+
+    /**
+     * Game imported notification
+     *
+     * @param playerName The player's name
+     * @param packedGame The player's rolls
+     * @param score The final score of the game
+     */
+    void gameImported(String playerName, PackedGame packedGame, int score);
+}
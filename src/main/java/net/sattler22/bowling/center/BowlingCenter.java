@@ -0,0 +1,85 @@
+package net.sattler22.bowling.center;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.List;
+
+/**
+ * Ten Pin Bowling Center
+ *
+ * <p>
+ * A fixed set of {@link Lane}s, numbered from one. The center itself holds no mutable state, so all of the locking is
+ * sharded per lane and no global lock ever serializes pinsetter events across lanes.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class BowlingCenter {
+
+    private final String name;
+    private final Lane[] lanes;
+
+    /**
+     * Constructs a new {@code BowlingCenter}
+     *
+     * @param name The bowling center name
+     * @param nbrLanes The number of lanes
+     */
+    public BowlingCenter(String name, int nbrLanes) {
+        if (name == null || name.isBlank())
+            throw new IllegalArgumentException("Bowling center name is required");
+        if (nbrLanes < 1)
+            throw new IllegalArgumentException("At least one lane is required");
+        this.name = name;
+        this.lanes = new Lane[nbrLanes];
+        for (int i = 0; i < nbrLanes; i++)
+            lanes[i] = new Lane(i + 1);
+    }
+
+    /**
+     * Get name
+     *
+     * @return The bowling center name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Get number of lanes
+     *
+     * @return The number of lanes
+     */
+    public int nbrLanes() {
+        return lanes.length;
+    }
+
+    /**
+     * Get a lane
+     *
+     * @param laneNbr The lane number (starting from one)
+     * @return The {@link Lane}
+     */
+    public Lane lane(int laneNbr) {
+        if (laneNbr < 1 || laneNbr > lanes.length)
+            throw new IllegalArgumentException("Invalid lane number");
+        return lanes[laneNbr - 1];
+    }
+
+    /**
+     * Get lanes
+     *
+     * @return An unmodifiable list of all lanes in lane number order
+     */
+    public List<Lane> lanes() {
+        return List.of(lanes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [name=%s, nbrLanes=%s]", getClass().getSimpleName(), name, lanes.length);
+    }
+}
@@ -0,0 +1,355 @@
+package net.sattler22.bowling.center;
+
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.ScoreListener;
+import net.sattler22.bowling.model.Frame;
+import net.sattler22.bowling.model.ScoredFrame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Ten Pin Bowling Lane
+ *
+ * <p>
+ * Owns the {@link Match} currently being bowled on a single lane. Every lane has its own lock, so pinsetter events on
+ * one lane never wait on another lane. The games themselves are published to readers without taking the lock.
+ * </p>
+ * <p>
+ * Every game started on the lane forwards its frame scores to the lane's {@link LaneScoreListener}s, so a display
+ * subscribes once per lane instead of once per game. Since rolls and corrected frames are all applied under the
+ * lane's lock, the listeners see every notification in order.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class Lane {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Lane.class);
+    private static final LaneScoreListener[] NO_LISTENERS = {};
+
+    private final int laneNbr;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Match match;  //Written under the lock, but read without it
+    private volatile LaneScoreListener[] listeners = NO_LISTENERS;  //Copy on write
+
+    /**
+     * Constructs a new {@code Lane}
+     *
+     * @param laneNbr The lane number
+     */
+    public Lane(int laneNbr) {
+        if (laneNbr < 1)
+            throw new IllegalArgumentException("Invalid lane number");
+        this.laneNbr = laneNbr;
+    }
+
+    /**
+     * Get lane number
+     *
+     * @return The lane number
+     */
+    public int laneNbr() {
+        return laneNbr;
+    }
+
+    /**
+     * Lane idle condition check
+     *
+     * @return True if no match is in progress on this lane. Otherwise, returns false.
+     */
+    public boolean isIdle() {
+        final Match currentMatch = match;
+        return currentMatch == null || currentMatch.isOver();
+    }
+
+    /**
+     * Start a new match
+     *
+     * @param bowlerNames The bowlers' names in their bowling order
+     */
+    public void startMatch(List<String> bowlerNames) {
+        lock.lock();
+        try {
+            if (!isIdle())
+                throw new IllegalStateException("Lane #%d already has a match in progress".formatted(laneNbr));
+            final Match newMatch = new Match(bowlerNames);
+            for (final Game game : newMatch.games())
+                game.addScoreListener(new GameForwarder(game));
+            match = newMatch;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void notifyListeners(Consumer<LaneScoreListener> notification) {
+        for (final LaneScoreListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            }
+            catch (RuntimeException runtimeException) {
+                //A misbehaving display must never stop the scoring:
+                LOGGER.warn("Score listener failed for lane #{}", laneNbr, runtimeException);
+            }
+        }
+    }
+
+    /**
+     * Add a score listener
+     *
+     * @param listener The {@link LaneScoreListener} to notify of every frame score on this lane
+     */
+    public void addScoreListener(LaneScoreListener listener) {
+        if (listener == null)
+            throw new IllegalArgumentException("Score listener is required");
+        lock.lock();
+        try {
+            final LaneScoreListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+            newListeners[listeners.length] = listener;
+            listeners = newListeners;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a score listener
+     *
+     * @param listener The {@link LaneScoreListener} to stop notifying
+     * @return True if the listener was removed. Otherwise, returns false.
+     */
+    public boolean removeScoreListener(LaneScoreListener listener) {
+        lock.lock();
+        try {
+            for (int index = 0; index < listeners.length; index++) {
+                if (listeners[index] == listener) {
+                    final LaneScoreListener[] newListeners = new LaneScoreListener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, newListeners, 0, index);
+                    System.arraycopy(listeners, index + 1, newListeners, index, newListeners.length - index);
+                    listeners = newListeners;
+                    return true;
+                }
+            }
+            return false;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Catch up with the lane's games
+     * <p>
+     * Runs under the lane's lock, which is also held while the lane's listeners are notified. So no frame can be scored
+     * on the lane while catching up, and every notification that follows is for a frame scored afterwards.
+     * </p>
+     *
+     * @param catchUp Given the latest match's games in bowling order (empty if no match was started)
+     */
+    public void catchUp(Consumer<List<Game>> catchUp) {
+        if (catchUp == null)
+            throw new IllegalArgumentException("Catch-up is required");
+        lock.lock();
+        try {
+            catchUp.accept(games());
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add a roll for the current bowler
+     *
+     * @param nbrPins The number of pins knocked down
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addRoll(int nbrPins) {
+        lock.lock();
+        try {
+            return requireMatch().addRoll(nbrPins);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add a complete frame for the current bowler
+     *
+     * @param frame The new {@link Frame}
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addFrame(Frame frame) {
+        lock.lock();
+        try {
+            return requireMatch().addFrame(frame);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add a roll for a bowler
+     *
+     * @param bowlerName The name of the bowler, which must be the bowler whose turn it is
+     * @param nbrPins The number of pins knocked down
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addRoll(String bowlerName, int nbrPins) {
+        lock.lock();
+        try {
+            return requireTurn(bowlerName).addRoll(nbrPins);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add a complete frame for a bowler from its rolls
+     *
+     * @param bowlerName The name of the bowler, which must be the bowler whose turn it is
+     * @param rolls The number of pins knocked down by each roll in the frame
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addFrame(String bowlerName, int... rolls) {
+        lock.lock();
+        try {
+            return requireTurn(bowlerName).addFrame(rolls);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Correct a frame of a bowler's game (see {@link Game#correctFrame(int, Frame)})
+     * <p>
+     * Corrections from the front desk must go through the lane, so their notifications are never interleaved with
+     * those of a roll being scored at the same time.
+     * </p>
+     *
+     * @param bowlerName The name of the bowler
+     * @param index The zero-based frame index
+     * @param frame The corrected {@link Frame}
+     * @return Zero or more {@link ScoredFrame}s that were rescored
+     */
+    public List<ScoredFrame> correctFrame(String bowlerName, int index, Frame frame) {
+        lock.lock();
+        try {
+            return requireFrame(bowlerName, index).correctFrame(index, frame);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Correct a frame of a bowler's game from its rolls
+     *
+     * @param bowlerName The name of the bowler
+     * @param index The zero-based frame index
+     * @param rolls The number of pins knocked down by each roll in the corrected frame
+     * @return Zero or more {@link ScoredFrame}s that were rescored
+     */
+    public List<ScoredFrame> correctFrame(String bowlerName, int index, int... rolls) {
+        lock.lock();
+        try {
+            return requireFrame(bowlerName, index).correctFrame(index, Match.frameOf(index, rolls));
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private Game requireFrame(String bowlerName, int index) {
+        for (final Game game : requireMatch().games()) {
+            if (game.playerName().equals(bowlerName)) {
+                if (index < 0 || index >= game.nbrFrames())
+                    throw new IllegalArgumentException("%s has no frame #%d".formatted(bowlerName, index + 1));
+                return game;
+            }
+        }
+        throw new IllegalArgumentException("%s is not bowling on lane #%d".formatted(bowlerName, laneNbr));
+    }
+
+    private Match requireTurn(String bowlerName) {
+        final Match currentMatch = requireMatch();
+        if (currentMatch.isOver())
+            throw new IllegalStateException("Lane #%d's match is over".formatted(laneNbr));
+        final String currentBowler = currentMatch.currentGame().playerName();
+        if (!currentBowler.equals(bowlerName))
+            throw new IllegalStateException("It's %s's turn on lane #%d".formatted(currentBowler, laneNbr));
+        return currentMatch;
+    }
+
+    private Match requireMatch() {
+        if (match == null)
+            throw new IllegalStateException("Lane #%d has no match".formatted(laneNbr));
+        return match;
+    }
+
+    /**
+     * Get current bowler
+     *
+     * @return The name of the bowler whose turn it is
+     */
+    public String currentBowler() {
+        lock.lock();
+        try {
+            return requireMatch().currentGame().playerName();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get games
+     *
+     * @return An unmodifiable list of the latest match's games in bowling order (empty if no match was started)
+     */
+    public List<Game> games() {
+        final Match currentMatch = match;
+        return currentMatch == null ? List.of() : currentMatch.games();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [laneNbr=%s, games=%s]", getClass().getSimpleName(), laneNbr, games());
+    }
+
+    /**
+     * Forwards the notifications of a single game to the lane's listeners
+     */
+    private final class GameForwarder implements ScoreListener {
+
+        private final Game game;
+
+        private GameForwarder(Game game) {
+            this.game = game;
+        }
+
+        @Override
+        public void frameScored(int frameIndex, int score, int frameTotal) {
+            notifyListeners(listener -> listener.frameScored(laneNbr, game, frameIndex, score, frameTotal));
+        }
+
+        @Override
+        public void framesUnscored(int frameIndex, int score) {
+            notifyListeners(listener -> listener.framesUnscored(laneNbr, game, frameIndex, score));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package net.sattler22.bowling.center;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.ScoreListener;
+
+/**
+ * Ten Pin Bowling Lane Score Listener
+ *
+ * <p>
+ * Receives every frame score settled for any bowler on a {@link Lane}, across all of the lane's matches. Just like a
+ * {@link ScoreListener}, notifications are delivered synchronously on the scoring thread (while the lane is locked),
+ * so listeners must return quickly and must not update the lane.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@FunctionalInterface
+public interface LaneScoreListener {
+
+    /**
+     * Frame scored notification
+     *
+     * @param laneNbr The lane number
+     * @param game The bowler's game
+     * @param frameIndex The zero-based frame index
+     * @param score The cumulative score through the frame
+     * @param frameTotal The total number of pins knocked down in the frame
+     */
+    void frameScored(int laneNbr, Game game, int frameIndex, int score, int frameTotal);
+
+    /**
+     * Frames unscored notification (after a corrected frame, see {@link ScoreListener#framesUnscored(int, int)})
+     *
+     * @param laneNbr The lane number
+     * @param game The bowler's game
+     * @param frameIndex The zero-based index of the first frame that is no longer scored
+     * @param score The cumulative score through the frames still scored
+     */
+    default void framesUnscored(int laneNbr, Game game, int frameIndex, int score) {
+    }
+}
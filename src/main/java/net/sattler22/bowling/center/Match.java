@@ -0,0 +1,169 @@
+package net.sattler22.bowling.center;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import net.sattler22.bowling.model.ScoredFrame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ten Pin Bowling Match
+ *
+ * <p>
+ * Tracks the games of every bowler sharing a lane, along with whose turn it is. Bowlers take turns one frame at a
+ * time, in the order they were entered, and the turn passes to the next bowler as soon as the current frame is
+ * complete.
+ * </p>
+ * <p>
+ * A match is confined to the {@link Lane} it is bowled on, which serializes all updates to it. The {@link Game}s
+ * themselves may still be read by any thread.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@NotThreadSafe
+public final class Match {
+
+    /**
+     * Maximum bowlers allowed
+     */
+    public static final int MAX_BOWLERS = 6;
+
+    private final List<Game> games;
+    private int currentBowler;
+
+    /**
+     * Constructs a new {@code Match}
+     *
+     * @param bowlerNames The bowlers' names in their bowling order
+     */
+    public Match(List<String> bowlerNames) {
+        if (bowlerNames == null || bowlerNames.isEmpty())
+            throw new IllegalArgumentException("At least one bowler is required");
+        if (bowlerNames.size() > MAX_BOWLERS)
+            throw new IllegalArgumentException("Maximum number of bowlers exceeded");
+        final List<Game> games = new ArrayList<>(bowlerNames.size());
+        for (final String bowlerName : bowlerNames)
+            games.add(new Game(bowlerName));
+        this.games = List.copyOf(games);
+    }
+
+    /**
+     * Get games
+     *
+     * @return An unmodifiable list of every bowler's game in bowling order
+     */
+    public List<Game> games() {
+        return games;
+    }
+
+    /**
+     * Get current game
+     *
+     * @return The game of the bowler whose turn it is
+     */
+    public Game currentGame() {
+        return games.get(currentBowler);
+    }
+
+    /**
+     * Match over condition check
+     *
+     * @return True if every bowler's game is over. Otherwise, returns false.
+     */
+    public boolean isOver() {
+        return games.getLast().isOver();  //The last bowler always finishes last
+    }
+
+    /**
+     * Add a roll for the current bowler
+     *
+     * @param nbrPins The number of pins knocked down
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addRoll(int nbrPins) {
+        if (isOver())
+            throw new IllegalStateException("Match is over");
+        final Game game = currentGame();
+        final int nbrFrames = game.nbrFrames();
+        final List<ScoredFrame> updatedFrames = game.addRoll(nbrPins);
+        if (game.nbrFrames() != nbrFrames)
+            nextBowler();
+        return updatedFrames;
+    }
+
+    /**
+     * Add a complete frame for the current bowler
+     *
+     * @param frame The new {@link Frame}
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addFrame(Frame frame) {
+        if (isOver())
+            throw new IllegalStateException("Match is over");
+        final Game game = currentGame();
+        game.addFrame(frame);
+        nextBowler();
+        return game.updateScore();
+    }
+
+    /**
+     * Add a complete frame for the current bowler from its rolls
+     * <p>
+     * The kind of frame is decided by the current bowler's game, so the final frame expects two rolls plus the bonus
+     * roll (if earned). A strike in any other frame may be given as a single roll.
+     * </p>
+     *
+     * @param rolls The number of pins knocked down by each roll in the frame
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addFrame(int... rolls) {
+        if (rolls == null || rolls.length == 0 || rolls.length > 3)
+            throw new IllegalArgumentException("Invalid number of rolls");
+        if (isOver())
+            throw new IllegalStateException("Match is over");
+        return addFrame(frameOf(currentGame().nbrFrames(), rolls));
+    }
+
+    /**
+     * Build a frame from its rolls
+     *
+     * @param frameIndex The zero-based index of the frame, which decides the kind of frame
+     * @param rolls The number of pins knocked down by each roll in the frame
+     * @return A new {@link Frame}
+     */
+    static Frame frameOf(int frameIndex, int... rolls) {
+        if (rolls == null || rolls.length == 0 || rolls.length > 3)
+            throw new IllegalArgumentException("Invalid number of rolls");
+        if (frameIndex < Game.MAX_FRAMES - 1) {
+            if (rolls.length == 3)
+                throw new IllegalArgumentException("Bonus roll is only allowed in the final frame");
+            if (rolls.length == 1 && rolls[0] != Frame.MAX_PINS)
+                throw new IllegalArgumentException("Second roll is required");
+            return rolls.length == 1 ? DefaultFrame.strike() : DefaultFrame.of(rolls[0], rolls[1]);
+        }
+        if (rolls.length == 1)
+            throw new IllegalArgumentException("Second roll is required");
+        if (rolls.length == 2 && FinalFrame.hasEarnedBonusRoll(rolls[0], rolls[1]))
+            throw new IllegalArgumentException("Bonus roll is required");
+        if (rolls.length == 2)
+            return FinalFrame.of(rolls[0], rolls[1]);
+        return FinalFrame.of(rolls[0], rolls[1], rolls[2]);
+    }
+
+    private void nextBowler() {
+        currentBowler = (currentBowler + 1) % games.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [games=%s, currentBowler=%s]",
+                getClass().getSimpleName(), games, currentGame().playerName());
+    }
+}
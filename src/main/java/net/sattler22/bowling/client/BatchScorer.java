@@ -0,0 +1,142 @@
+package net.sattler22.bowling.client;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.NotationScanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Ten Pin Bowling Batch Scorer
+ *
+ * <p>
+ * Rescores games in bulk. Every input line holds one game as {@code player,notation} (e.g.
+ * {@code Pete Moss,X 7/ 9- X X 8/ 6- X 9/ X8/}), and a matching {@code player,score} line is written for it. The
+ * input is read in large chunks and scanned in place, so nothing is allocated per game. Lines that cannot be scored
+ * are logged and skipped.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@NotThreadSafe
+public final class BatchScorer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchScorer.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final NotationScanner scanner = new NotationScanner();
+    private final int[] frameScores = new int[Game.MAX_FRAMES];
+    private final char[] digits = new char[3];  //A perfect game is only three digits long
+    private char[] buffer = new char[BUFFER_SIZE];
+    private long nbrGames;
+    private long nbrRejected;
+
+    /**
+     * Score every game
+     *
+     * @param reader The source of {@code player,notation} lines
+     * @param writer The destination of {@code player,score} lines (buffer it for best results)
+     * @return The number of games scored by this call
+     * @throws IOException If reading or writing failed
+     */
+    public long score(Reader reader, Writer writer) throws IOException {
+        if (reader == null)
+            throw new IllegalArgumentException("Reader is required");
+        if (writer == null)
+            throw new IllegalArgumentException("Writer is required");
+        final long nbrGamesBefore = nbrGames;
+        long lineNbr = 0;
+        int length = 0;
+        boolean endOfInput = false;
+        while (!endOfInput) {
+            if (length == buffer.length)
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);  //A single line filled the whole buffer
+            final int nbrRead = reader.read(buffer, length, buffer.length - length);
+            if (nbrRead < 0)
+                endOfInput = true;
+            else
+                length += nbrRead;
+            int lineStart = 0;
+            for (int index = 0; index < length; index++) {
+                if (buffer[index] == '\n') {
+                    scoreLine(++lineNbr, lineStart, index, writer);
+                    lineStart = index + 1;
+                }
+            }
+            if (endOfInput && lineStart < length) {
+                scoreLine(++lineNbr, lineStart, length, writer);  //Last line has no line terminator
+                lineStart = length;
+            }
+            //Keep the partial line for the next read:
+            length -= lineStart;
+            System.arraycopy(buffer, lineStart, buffer, 0, length);
+        }
+        writer.flush();
+        return nbrGames - nbrGamesBefore;
+    }
+
+    private void scoreLine(long lineNbr, int start, int end, Writer writer) throws IOException {
+        if (end > start && buffer[end - 1] == '\r')
+            end--;
+        if (end == start)
+            return;  //Blank line
+        int separator = end - 1;
+        while (separator >= start && buffer[separator] != ',')
+            separator--;
+        try {
+            if (separator <= start)
+                throw new IllegalArgumentException("Player name is required");
+            scanner.scan(buffer, separator + 1, end);
+            if (scanner.score(frameScores) < Game.MAX_FRAMES)
+                throw new IllegalArgumentException("Incomplete game");
+        }
+        catch (IllegalArgumentException illegalArgumentException) {
+            nbrRejected++;
+            LOGGER.warn("Line #{} skipped: {}", lineNbr, illegalArgumentException.getMessage());
+            return;
+        }
+        writer.write(buffer, start, separator - start + 1);  //Player name and separator
+        writeScore(frameScores[Game.MAX_FRAMES - 1], writer);
+        writer.write('\n');
+        nbrGames++;
+    }
+
+    private void writeScore(int score, Writer writer) throws IOException {
+        int index = digits.length;
+        do {
+            digits[--index] = (char) ('0' + score % 10);
+            score /= 10;
+        } while (score > 0);
+        writer.write(digits, index, digits.length - index);
+    }
+
+    /**
+     * Get number of games scored
+     *
+     * @return The total number of games scored by this batch scorer
+     */
+    public long nbrGames() {
+        return nbrGames;
+    }
+
+    /**
+     * Get number of rejected games
+     *
+     * @return The total number of lines that could not be scored
+     */
+    public long nbrRejected() {
+        return nbrRejected;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [nbrGames=%s, nbrRejected=%s]", getClass().getSimpleName(), nbrGames, nbrRejected);
+    }
+}
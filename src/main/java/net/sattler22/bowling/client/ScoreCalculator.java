@@ -4,27 +4,55 @@ import net.sattler22.bowling.core.Game;
 import net.sattler22.bowling.model.DefaultFrame;
 import net.sattler22.bowling.model.FinalFrame;
 import net.sattler22.bowling.model.Frame;
+import net.sattler22.bowling.model.ScoredFrame;
 
+import java.io.BufferedWriter;
 import java.io.Console;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Ten Pin Bowling Score Calculator
  * <p>
  * A simple command-line scoring calculator for the amazing Ten Pin Bowling game
  * </p>
+ * <p>
+ * Run with {@code --batch [file]} to rescore games written in standard score notation from a file (or standard input)
+ * without a terminal. See {@link BatchScorer} for the line format.
+ * </p>
  *
  * @author Pete Sattler
  * @since October 2025
- * @version June 2026
+ * @version October 2026
  */
 public final class ScoreCalculator {
 
     private static final String USER_TERMINATE = "quit";
+    private static final String BATCH_OPTION = "--batch";
+    private static final int WRITER_BUFFER_SIZE = 64 * 1024;
 
     /**
      * Executes the Ten Pin Bowling Scoring Calculator
+     *
+     * @param args Either nothing (interactive mode) or the batch option followed by an optional input file
+     * @throws IOException If the batch input could not be read or the scores could not be written
      */
-    static void main() {
+    static void main(String[] args) throws IOException {
+        if (args.length > 0 && BATCH_OPTION.equals(args[0])) {
+            batch(args.length > 1 ? Path.of(args[1]) : null);
+            return;
+        }
+        if (args.length > 0) {
+            System.err.printf("Usage: ScoreCalculator [%s [file]]%n", BATCH_OPTION);
+            return;
+        }
         final Console console = System.console();
         if (console == null || !console.isTerminal()) {
             System.err.println("Please run from a terminal/command prompt");
@@ -41,7 +69,7 @@ public final class ScoreCalculator {
             final Game game = new Game(playerName);
             for (int index = 0; index < Game.MAX_FRAMES - 1; index++) {
                 game.addFrame(captureDefaultFrame(console, index + 1));
-                for (final Frame updatedFrame : game.updateScore())
+                for (final ScoredFrame updatedFrame : game.updateScore())
                     console.printf("Added frame for %s: %s%n", playerName, updatedFrame);
             }
             final FinalFrame finalFrame = captureFinalFrame(console);
@@ -59,12 +87,27 @@ public final class ScoreCalculator {
         }
     }
 
+    private static void batch(Path inputFile) throws IOException {
+        final BatchScorer batchScorer = new BatchScorer();
+        final long startTime = System.nanoTime();
+        try (final Reader reader = inputFile == null
+                ? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+                : Files.newBufferedReader(inputFile, StandardCharsets.UTF_8);
+             final Writer writer = new BufferedWriter(
+                     new OutputStreamWriter(System.out, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE)) {
+            batchScorer.score(reader, writer);
+        }
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        System.err.printf("Scored %,d games (%,d skipped) in %,d ms%n",
+                batchScorer.nbrGames(), batchScorer.nbrRejected(), elapsedMillis);
+    }
+
     private static DefaultFrame captureDefaultFrame(Console console, int frameNbr) {
         final int nbrPins1 = captureRoll(console, "FIRST", frameNbr);
         if (nbrPins1 == Frame.MAX_PINS)
             return DefaultFrame.strike();
         final int nbrPins2 = captureRoll(console, "SECOND", frameNbr);
-        return new DefaultFrame(nbrPins1, nbrPins2);
+        return DefaultFrame.of(nbrPins1, nbrPins2);
     }
 
     private static FinalFrame captureFinalFrame(Console console) {
@@ -72,9 +115,9 @@ public final class ScoreCalculator {
         final int nbrPins2 = captureRoll(console, "SECOND", Game.MAX_FRAMES);
         if (FinalFrame.hasEarnedBonusRoll(nbrPins1, nbrPins2)) {
             final int bonusNbrPins = captureRoll(console, "BONUS", Game.MAX_FRAMES);
-            return new FinalFrame(nbrPins1, nbrPins2, bonusNbrPins);
+            return FinalFrame.of(nbrPins1, nbrPins2, bonusNbrPins);
         }
-        return new FinalFrame(nbrPins1, nbrPins2);
+        return FinalFrame.of(nbrPins1, nbrPins2);
     }
 
     private static int captureRoll(Console console, String attemptWord, int frameNbr) {
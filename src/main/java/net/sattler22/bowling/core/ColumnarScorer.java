@@ -0,0 +1,179 @@
+package net.sattler22.bowling.core;
+
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Ten Pin Bowling Columnar Scorer
+ *
+ * <p>
+ * Rescores many games at once from columnar arrays. The rolls of {@code nbrGames} games are laid out roll by roll,
+ * so roll {@code r} of game {@code g} is found at {@code rolls[r * nbrGames + g]}, and the number of rolls of each
+ * game at {@code nbrRolls[g]}. The cumulative score of frame {@code f} of game {@code g} is written to
+ * {@code frameScores[f * nbrGames + g]} (zero when the frame cannot be scored yet) and the number of scored frames of
+ * each game to {@code nbrScoredFrames[g]}. The results match {@link Game#updateScore()} exactly.
+ * </p>
+ * <p>
+ * When built with the {@code vector} profile and the {@code jdk.incubator.vector} module is available (start the JVM
+ * with {@code --add-modules jdk.incubator.vector}), one frame of as many games as fit in a SIMD register is scored
+ * per pass, with the strike, spare and final frame rules applied as lane masks instead of branches. Otherwise, and
+ * for the games left over at the end, every game is scored one at a time.
+ * </p>
+ * <p>
+ * The rolls are expected to be valid (see {@link PackedGame}), since they are not checked again.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class ColumnarScorer {
+
+    //The kernel is looked up rather than linked, so the default build never needs the incubating module:
+    private static final MethodHandle VECTOR_SCORE = vectorKernel("score",
+            MethodType.methodType(int.class, int[].class, int[].class, int.class, int[].class, int[].class));
+    private static final MethodHandle VECTOR_LANE_WIDTH = vectorKernel("laneWidth", MethodType.methodType(int.class));
+    private static final boolean VECTORIZED = VECTOR_SCORE != null && VECTOR_LANE_WIDTH != null;
+
+    private ColumnarScorer() {
+    }
+
+    private static MethodHandle vectorKernel(String name, MethodType methodType) {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty())
+            return null;
+        try {
+            final Class<?> kernel = Class.forName(ColumnarScorer.class.getPackageName() + ".VectorFrameScorer");
+            return MethodHandles.lookup().findStatic(kernel, name, methodType);
+        }
+        catch (ReflectiveOperationException reflectiveOperationException) {
+            return null;  //Built without the vector profile
+        }
+    }
+
+    /**
+     * Get vectorized
+     *
+     * @return True if the games are scored with the Vector API, otherwise false
+     */
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Get lane width
+     *
+     * @return The number of games scored per pass
+     */
+    public static int laneWidth() {
+        if (!VECTORIZED)
+            return 1;
+        try {
+            return (int) VECTOR_LANE_WIDTH.invokeExact();
+        }
+        catch (RuntimeException | Error exception) {
+            throw exception;
+        }
+        catch (Throwable throwable) {
+            throw new UndeclaredThrowableException(throwable);
+        }
+    }
+
+    /**
+     * Score a batch of games
+     *
+     * @param rolls The rolls of every game, roll by roll
+     * @param nbrRolls The number of rolls of every game
+     * @param nbrGames The number of games
+     * @param frameScores Receives the cumulative frame scores of every game, frame by frame
+     * @param nbrScoredFrames Receives the number of scored frames of every game
+     */
+    public static void score(int[] rolls, int[] nbrRolls, int nbrGames, int[] frameScores, int[] nbrScoredFrames) {
+        validate(rolls, nbrRolls, nbrGames, frameScores, nbrScoredFrames);
+        final int firstGame = VECTORIZED ? scoreVectorized(rolls, nbrRolls, nbrGames, frameScores, nbrScoredFrames) : 0;
+        scoreScalar(rolls, nbrRolls, nbrGames, firstGame, frameScores, nbrScoredFrames);
+    }
+
+    /**
+     * Score every complete group of lanes with the vector kernel (a constant method handle, so it is inlined)
+     *
+     * @return The index of the first game that was not scored
+     */
+    private static int scoreVectorized(int[] rolls, int[] nbrRolls, int nbrGames, int[] frameScores,
+                                       int[] nbrScoredFrames) {
+        try {
+            return (int) VECTOR_SCORE.invokeExact(rolls, nbrRolls, nbrGames, frameScores, nbrScoredFrames);
+        }
+        catch (RuntimeException | Error exception) {
+            throw exception;
+        }
+        catch (Throwable throwable) {
+            throw new UndeclaredThrowableException(throwable);
+        }
+    }
+
+    private static void validate(int[] rolls, int[] nbrRolls, int nbrGames, int[] frameScores,
+                                 int[] nbrScoredFrames) {
+        if (nbrGames < 0)
+            throw new IllegalArgumentException("Invalid number of games");
+        if (rolls == null || rolls.length < (long) Game.MAX_ROLLS * nbrGames)
+            throw new IllegalArgumentException("Room for %d rolls per game is required".formatted(Game.MAX_ROLLS));
+        if (nbrRolls == null || nbrRolls.length < nbrGames)
+            throw new IllegalArgumentException("Number of rolls per game is required");
+        if (frameScores == null || frameScores.length < (long) Game.MAX_FRAMES * nbrGames)
+            throw new IllegalArgumentException("Room for %d frame scores per game is required"
+                    .formatted(Game.MAX_FRAMES));
+        if (nbrScoredFrames == null || nbrScoredFrames.length < nbrGames)
+            throw new IllegalArgumentException("Room for the number of scored frames per game is required");
+    }
+
+    /**
+     * Score the games from {@code firstGame} on, one at a time
+     */
+    static void scoreScalar(int[] rolls, int[] nbrRolls, int nbrGames, int firstGame, int[] frameScores,
+                            int[] nbrScoredFrames) {
+        for (int gameIndex = firstGame; gameIndex < nbrGames; gameIndex++) {
+            final int nbrGameRolls = nbrRolls[gameIndex];
+            int runningScore = 0;
+            int rollIndex = 0;
+            int nbrScored = 0;
+            for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES; frameIndex++) {
+                final int firstRoll = rollIndex < nbrGameRolls ? rolls[rollIndex * nbrGames + gameIndex] : 0;
+                final int secondRoll =
+                        rollIndex + 1 < nbrGameRolls ? rolls[(rollIndex + 1) * nbrGames + gameIndex] : 0;
+                final int nbrFrameRolls;
+                final int nbrCountedRolls;  //This frame's own rolls plus any bonus rolls
+                if (frameIndex == Game.MAX_FRAMES - 1) {
+                    nbrFrameRolls = 0;
+                    nbrCountedRolls = rollIndex + 1 < nbrGameRolls
+                            && FinalFrame.hasEarnedBonusRoll(firstRoll, secondRoll) ? 3 : 2;
+                }
+                else if (firstRoll == Frame.MAX_PINS) {
+                    nbrFrameRolls = 1;
+                    nbrCountedRolls = 3;
+                }
+                else {
+                    nbrFrameRolls = 2;
+                    nbrCountedRolls = firstRoll + secondRoll == Frame.MAX_PINS ? 3 : 2;
+                }
+                if (nbrScored == frameIndex && rollIndex + nbrCountedRolls <= nbrGameRolls) {
+                    runningScore += firstRoll + secondRoll;
+                    if (nbrCountedRolls == 3)
+                        runningScore += rolls[(rollIndex + 2) * nbrGames + gameIndex];
+                    frameScores[frameIndex * nbrGames + gameIndex] = runningScore;
+                    nbrScored++;
+                }
+                else
+                    frameScores[frameIndex * nbrGames + gameIndex] = 0;
+                rollIndex += nbrFrameRolls;
+            }
+            nbrScoredFrames[gameIndex] = nbrScored;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package net.sattler22.bowling.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Ten Pin Bowling Frame Added Event
+ *
+ * <p>
+ * Flight Recorder event for a frame added to a {@link Game}, timed over the call that added or completed the frame
+ * (including any wait on the game's lock and, for a roll, the scores it settled).
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Name(FrameAddedEvent.NAME)
+@Label("Frame Added")
+@Category({"Bowling", "Scoring"})
+@Description("A frame added to a game")
+@StackTrace(false)
+final class FrameAddedEvent extends jdk.jfr.Event {
+
+    static final String NAME = "net.sattler22.bowling.FrameAdded";
+
+    @Label("Player Name")
+    String playerName;
+
+    @Label("Frame Index")
+    @Description("The zero-based frame index")
+    int frameIndex;
+
+    @Label("Frame Total")
+    @Description("The number of pins knocked down in the frame")
+    int frameTotal;
+
+    @Label("Strike")
+    boolean strike;
+
+    @Label("Spare")
+    boolean spare;
+}
@@ -1,20 +1,47 @@
 package net.sattler22.bowling.core;
 
 import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.metrics.ScoringMetrics;
 import net.sattler22.bowling.model.DefaultFrame;
 import net.sattler22.bowling.model.FinalFrame;
 import net.sattler22.bowling.model.Frame;
+import net.sattler22.bowling.model.PinMask;
+import net.sattler22.bowling.model.ScoredFrame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.OptionalInt;
+import java.util.concurrent.locks.StampedLock;
 
 /**
  * Ten Pin Bowling Game
  *
  * <p>
- * Tracks and scores all frames for a ten pin bowling player.
+ * Tracks and scores all frames for a ten pin bowling player. The {@link Frame}s themselves are immutable and may be
+ * shared, so the cumulative score of each frame is held by the game.
+ * </p>
+ * <p>
+ * Only a single writer (the pinsetter) updates a game at a time, while any number of readers (the overhead displays)
+ * may poll it. The running score and number of frames are published through {@code volatile} fields, and everything
+ * else is read optimistically, so readers never block the writer or each other.
+ * </p>
+ * <p>
+ * Every roll also updates the lowest and highest final score still within reach, even while strike and spare bonuses
+ * are unsettled. Each roll is banked as soon as it is thrown, multiplied by the bonuses of the frames still waiting
+ * on it, so the minimum is a gutter ball finish and the maximum a closed-form strike-out finish.
+ * </p>
+ * <p>
+ * A misread frame can be corrected after the fact. Only the frames whose score depends on it (the frame itself and up
+ * to two strikes or spares before it) are invalidated, and scoring resumes forward from the earliest of them, so the
+ * score listeners are only told about the frames that were actually rescored.
+ * </p>
+ * <p>
+ * Every update is counted and timed in the global {@link ScoringMetrics}, along with any wait on the game's lock.
+ * The game's lifecycle is also recorded as Flight Recorder events (game started, frame added, score updated and game
+ * over), each of which can be disabled in the recording settings. A disabled event costs nothing.
  * </p>
  * <p>
  * Scoring Rules:
@@ -38,7 +65,7 @@ import java.util.OptionalInt;
  *
  * @author Pete Sattler
  * @since October 2025
- * @version June 2026
+ * @version October 2026
  */
 @ThreadSafe
 public final class Game {
@@ -48,8 +75,39 @@ public final class Game {
      */
     public static final int MAX_FRAMES = 10;
 
+    /**
+     * Maximum rolls allowed (two per frame, plus the final frame bonus roll)
+     */
+    public static final int MAX_ROLLS = 2 * MAX_FRAMES + 1;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Game.class);
+    private static final ScoringMetrics METRICS = ScoringMetrics.global();
+    private static final ScoreListener[] NO_LISTENERS = {};
+    private static final short UNKNOWN_RACK = -1;  //Only the count of a roll leaving pins standing was reported
+
     private final String playerName;
-    private final List<Frame> frames = Collections.synchronizedList(new ArrayList<>());
+    private final StampedLock lock = new StampedLock();
+    private final Frame[] frames = new Frame[MAX_FRAMES];
+    private final int[] frameScores = new int[MAX_FRAMES];
+    private volatile int nbrFrames;
+    //Every roll in the order it was thrown, along with the position of each frame's first roll:
+    private final int[] rolls = new int[MAX_ROLLS];
+    private final int[] frameStarts = new int[MAX_FRAMES];
+    private int nbrRolls;
+    private long startTime;  //When the first roll was thrown
+    private boolean completed;  //Counted as over, so a corrected final score is not counted twice
+    private int nbrFrameRolls;  //Rolls thrown so far in a frame that is still in progress
+    private short rack = PinMask.ALL_PINS;  //The pins standing for the next roll
+    //Cursor to the oldest unscored frame (all frames before it are scored):
+    private int nbrScoredFrames;
+    private int maxScoredFrames;  //The most frames ever scored, so a rescored bonus is only counted once
+    private volatile int runningScore;
+    //Pins banked so far (bonuses included) and the extra times the next roll and the one after it will count:
+    private int bankedScore;
+    private int nextRollBonus;
+    private int secondRollBonus;
+    private volatile long projectedScores = projectedScores(0, maxScoreFrom(0, 0, 0));  //Maximum and minimum
+    private volatile ScoreListener[] listeners = NO_LISTENERS;  //Copy on write
 
     /**
      * Constructs a new {@code Game}
@@ -76,8 +134,8 @@ public final class Game {
      *
      * @return True if the game is over (all frames recorded, but not necessarily scored). Otherwise, returns false.
      */
-    public synchronized boolean isOver() {
-        return frames.size() == MAX_FRAMES;
+    public boolean isOver() {
+        return nbrFrames == MAX_FRAMES;
     }
 
     /**
@@ -94,80 +152,627 @@ public final class Game {
      *
      * @param frame The new {@link Frame}
      */
-    public synchronized void addFrame(Frame frame) {
-        if (isOver())
-            throw new IllegalStateException("%s's game is over".formatted(playerName));
+    public void addFrame(Frame frame) {
         if (frame == null)
             throw new IllegalArgumentException("Frame is required");
-        if (frames.size() < MAX_FRAMES - 1 && frame instanceof FinalFrame)
-            throw new IllegalArgumentException("Default frame is required");
-        if (frames.size() == MAX_FRAMES - 1 && !(frame instanceof FinalFrame))
-            throw new IllegalArgumentException("Final frame is required");
-        frames.add(Frame.copyOf(frame));  //Defensive copy
+        final long startTime = System.nanoTime();
+        final FrameAddedEvent frameAddedEvent = new FrameAddedEvent();
+        frameAddedEvent.begin();
+        final long stamp = writeLock();
+        try {
+            if (isOver())
+                throw new IllegalStateException("%s's game is over".formatted(playerName));
+            if (nbrFrameRolls > 0)
+                throw new IllegalStateException("Frame #%d is still in progress".formatted(nbrFrames + 1));
+            if (nbrFrames < MAX_FRAMES - 1 && frame instanceof FinalFrame)
+                throw new IllegalArgumentException("Default frame is required");
+            if (nbrFrames == MAX_FRAMES - 1 && !(frame instanceof FinalFrame))
+                throw new IllegalArgumentException("Final frame is required");
+            if (nbrRolls == 0)
+                start();
+            frameStarts[nbrFrames] = nbrRolls;
+            nbrRolls += copyRolls(frame, rolls, nbrRolls);
+            bankFrame(frame);
+            frames[nbrFrames] = frame;  //Frames are immutable, so no defensive copy is needed
+            nbrFrames++;                //Publish the new frame
+            project();
+            frameAdded(frameAddedEvent, frame);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+            METRICS.addFrameLatency().record(System.nanoTime() - startTime);
+        }
     }
 
     /**
-     * Update the score
+     * Add a roll
+     * <p>
+     * Frames are built from the rolls as they arrive, and any pending bonus is settled as soon as its deciding roll
+     * has been thrown.
+     * </p>
      *
-     * @return Zero or more {@link Frame}s that were updated
-     */
-    public synchronized List<Frame> updateScore() {
-        final List<Frame> updatedFrames = new ArrayList<>();
-        for (int index = 0; index < frames.size(); index++) {
-            final Frame currentFrame = frames.get(index);
-            if (!currentFrame.hasScore()) {
-                final int start = index > 0 ? frames.get(index - 1).score().orElse(0) : 0;
-                switch (currentFrame) {
-                    case DefaultFrame defaultFrame -> {
-                        int bonus = calculateBonus(defaultFrame, index);
-                        if (bonus > -1) {
-                            defaultFrame.updateScore(start, bonus);
-                            updatedFrames.add(Frame.copyOf(currentFrame));
-                        }
-                    }
-                    case FinalFrame finalFrame -> {
-                        finalFrame.updateScore(start);
-                        updatedFrames.add(Frame.copyOf(currentFrame));
-                    }
-                }
+     * @param nbrPins The number of pins knocked down
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addRoll(int nbrPins) {
+        return addRoll(nbrPins, UNKNOWN_RACK);
+    }
+
+    /**
+     * Add a roll reported by a pinsetter as the pins left standing
+     * <p>
+     * The number of pins knocked down is derived from the pins that were standing for the roll: a full rack at the
+     * start of every frame (and after a cleared deck in the final frame), otherwise the pins reported by the previous
+     * roll.
+     * </p>
+     *
+     * @param standingPins The {@link PinMask} of the pins standing after the roll
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addStandingPins(short standingPins) {
+        if (!PinMask.isValid(standingPins))
+            throw new IllegalArgumentException("Invalid pin mask");
+        return addRoll(-1, standingPins);
+    }
+
+    private List<ScoredFrame> addRoll(int nbrPins, short standingPins) {
+        final long startTime = System.nanoTime();
+        final FrameAddedEvent frameAddedEvent = new FrameAddedEvent();
+        frameAddedEvent.begin();
+        final List<ScoredFrame> updatedFrames;
+        final long stamp = writeLock();
+        try {
+            if (isOver())
+                throw new IllegalStateException("%s's game is over".formatted(playerName));
+            if (standingPins != UNKNOWN_RACK) {
+                if (rack == UNKNOWN_RACK)
+                    throw new IllegalStateException("Standing pins are unknown after a roll reported as a count");
+                nbrPins = PinMask.knockedDown(rack, standingPins);
+            }
+            if (nbrPins < 0)
+                throw new IllegalArgumentException("Invalid number of pins");
+            if (nbrPins > pinsStanding())
+                throw new IllegalArgumentException("Maximum number of pins exceeded");
+            if (nbrRolls == 0)
+                start();
+            if (nbrFrameRolls == 0)
+                frameStarts[nbrFrames] = nbrRolls;
+            //A strike pays for the next two rolls and a spare for the next one (but not in the final frame):
+            final int nbrBonusRolls =
+                    nbrFrames < MAX_FRAMES - 1 && nbrPins == pinsStanding() ? (nbrFrameRolls == 0 ? 2 : 1) : 0;
+            rolls[nbrRolls++] = nbrPins;
+            nbrFrameRolls++;
+            bank(nbrPins, nbrBonusRolls);
+            final Frame completedFrame = completedFrame();
+            if (completedFrame != null) {
+                frames[nbrFrames] = completedFrame;
+                nbrFrameRolls = 0;
+                nbrFrames++;  //Publish the new frame
             }
+            rack = pinsStanding() == Frame.MAX_PINS ? PinMask.ALL_PINS : standingPins;
+            project();
+            updatedFrames = settle();
+            if (completedFrame != null)
+                frameAdded(frameAddedEvent, completedFrame);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+            METRICS.addRollLatency().record(System.nanoTime() - startTime);
         }
+        notifyListeners(updatedFrames);
         return updatedFrames;
     }
 
-    private int calculateBonus(DefaultFrame defaultFrame, final int index) {
-        //No BONUS:
-        if (defaultFrame.isZero() || defaultFrame.isOpen())
+    /**
+     * Correct a frame
+     * <p>
+     * The corrected frame replaces the recorded one, and the rolls thrown after it are kept. Scores are invalidated
+     * from the earliest frame whose score depends on the corrected rolls and settled forward from there.
+     * </p>
+     *
+     * @param index The zero-based frame index
+     * @param frame The corrected {@link Frame}
+     * @return Zero or more {@link ScoredFrame}s that were rescored
+     */
+    public List<ScoredFrame> correctFrame(int index, Frame frame) {
+        if (frame == null)
+            throw new IllegalArgumentException("Frame is required");
+        final List<ScoredFrame> rescoredFrames;
+        final int unscoredFrame;
+        final int score;
+        final long stamp = writeLock();
+        try {
+            if (index < 0 || index >= nbrFrames)
+                throw new IndexOutOfBoundsException(index);
+            if (index < MAX_FRAMES - 1 && frame instanceof FinalFrame)
+                throw new IllegalArgumentException("Default frame is required");
+            if (index == MAX_FRAMES - 1 && !(frame instanceof FinalFrame))
+                throw new IllegalArgumentException("Final frame is required");
+            final int firstAffectedFrame = firstAffectedFrame(index);
+            final int oldNbrScoredFrames = nbrScoredFrames;
+            //Swap in the corrected rolls, shifting any later rolls when a strike became two rolls (or vice versa):
+            final int frameStart = frameStarts[index];
+            final int frameEnd = index + 1 < nbrFrames ? frameStarts[index + 1] : nbrRolls - nbrFrameRolls;
+            final int[] correctedRolls = new int[3];
+            final int nbrCorrectedRolls = copyRolls(frame, correctedRolls, 0);
+            final int shift = nbrCorrectedRolls - (frameEnd - frameStart);
+            System.arraycopy(rolls, frameEnd, rolls, frameEnd + shift, nbrRolls - frameEnd);
+            System.arraycopy(correctedRolls, 0, rolls, frameStart, nbrCorrectedRolls);
+            nbrRolls += shift;
+            final int lastFrameIndex = nbrFrameRolls > 0 ? nbrFrames : nbrFrames - 1;  //Including one in progress
+            for (int frameIndex = index + 1; frameIndex <= lastFrameIndex; frameIndex++)
+                frameStarts[frameIndex] += shift;
+            frames[index] = frame;
+            rebank();
+            project();
+            nbrScoredFrames = Math.min(nbrScoredFrames, firstAffectedFrame);
+            rescoredFrames = settle();
+            runningScore = nbrScoredFrames == 0 ? 0 : frameScores[nbrScoredFrames - 1];  //Even if nothing settled
+            unscoredFrame = nbrScoredFrames < oldNbrScoredFrames ? nbrScoredFrames : -1;
+            score = runningScore;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+        notifyListeners(rescoredFrames);
+        if (unscoredFrame >= 0)
+            notifyUnscored(unscoredFrame, score);
+        return rescoredFrames;
+    }
+
+    /**
+     * Find the earliest frame whose score depends on a frame's rolls: a strike or spare up to two frames before it
+     * whose last bonus roll (always two rolls past its first one) falls within the frame
+     */
+    private int firstAffectedFrame(int index) {
+        for (int frameIndex = Math.max(0, index - 2); frameIndex < index; frameIndex++)
+            if (!frames[frameIndex].isOpen() && frameStarts[frameIndex] + 2 >= frameStarts[index])
+                return frameIndex;
+        return index;
+    }
+
+    /**
+     * Copy the rolls of a frame
+     *
+     * @return The number of rolls copied
+     */
+    private static int copyRolls(Frame frame, int[] destination, int position) {
+        destination[position] = frame.firstRoll();
+        if (frame instanceof FinalFrame finalFrame) {
+            destination[position + 1] = finalFrame.secondRoll();
+            if (!FinalFrame.hasEarnedBonusRoll(finalFrame.firstRoll(), finalFrame.secondRoll()))
+                return 2;
+            destination[position + 2] = finalFrame.bonusRoll();
+            return 3;
+        }
+        if (frame.isStrike())
+            return 1;
+        destination[position + 1] = frame.secondRoll();
+        return 2;
+    }
+
+    private void bankFrame(Frame frame) {
+        if (frame instanceof FinalFrame finalFrame) {
+            bank(finalFrame.firstRoll(), 0);
+            bank(finalFrame.secondRoll(), 0);
+            if (FinalFrame.hasEarnedBonusRoll(finalFrame.firstRoll(), finalFrame.secondRoll()))
+                bank(finalFrame.bonusRoll(), 0);
+        }
+        else if (frame.isStrike())
+            bank(frame.firstRoll(), 2);
+        else {
+            bank(frame.firstRoll(), 0);
+            bank(frame.secondRoll(), frame.isSpare() ? 1 : 0);
+        }
+    }
+
+    /**
+     * Bank every roll again after a correction (a frame still in progress never pays a bonus yet)
+     */
+    private void rebank() {
+        bankedScore = 0;
+        nextRollBonus = 0;
+        secondRollBonus = 0;
+        for (int frameIndex = 0; frameIndex < nbrFrames; frameIndex++)
+            bankFrame(frames[frameIndex]);
+        for (int rollIndex = nbrRolls - nbrFrameRolls; rollIndex < nbrRolls; rollIndex++)
+            bank(rolls[rollIndex], 0);
+    }
+
+    private void start() {
+        startTime = System.nanoTime();
+        final GameStartedEvent event = new GameStartedEvent();
+        if (event.shouldCommit()) {
+            event.playerName = playerName;
+            event.commit();
+        }
+    }
+
+    private void frameAdded(FrameAddedEvent event, Frame frame) {
+        METRICS.frameAdded();
+        if (event.shouldCommit()) {
+            event.playerName = playerName;
+            event.frameIndex = nbrFrames - 1;
+            event.frameTotal = frame.total();
+            event.strike = frame.isStrike();
+            event.spare = frame.isSpare();
+            event.commit();
+        }
+    }
+
+    private int pinsStanding() {
+        if (nbrFrameRolls == 0)
+            return Frame.MAX_PINS;
+        final int nbrPins1 = rolls[nbrRolls - nbrFrameRolls];
+        if (nbrFrameRolls == 1)
+            return nbrPins1 == Frame.MAX_PINS ? Frame.MAX_PINS : Frame.MAX_PINS - nbrPins1;  //Final frame only
+        return FinalFrame.bonusPinsStanding(nbrPins1, rolls[nbrRolls - 1]);
+    }
+
+    /**
+     * Bank a roll, along with the bonuses it pays to earlier frames
+     *
+     * @param nbrPins The number of pins knocked down
+     * @param nbrBonusRolls The number of later rolls this one earns as a bonus (two for a strike, one for a spare)
+     */
+    private void bank(int nbrPins, int nbrBonusRolls) {
+        bankedScore += (1 + nextRollBonus) * nbrPins;
+        nextRollBonus = secondRollBonus + (nbrBonusRolls > 0 ? 1 : 0);
+        secondRollBonus = nbrBonusRolls > 1 ? 1 : 0;
+    }
+
+    /**
+     * Publish the lowest and highest final score still within reach
+     */
+    private void project() {
+        projectedScores = projectedScores(bankedScore, bankedScore + maxRemainingScore());
+    }
+
+    private static long projectedScores(int minScore, int maxScore) {
+        return (long) maxScore << Integer.SIZE | minScore;
+    }
+
+    /**
+     * Get the most the rest of the game can add: clear every rack from here on
+     */
+    private int maxRemainingScore() {
+        if (nbrFrames == MAX_FRAMES)
             return 0;
-        //SPARE bonus is next roll:
-        if (defaultFrame.isSpare() && index < frames.size() - 1)
-            return frames.get(index + 1).firstRoll();
-        //STRIKE bonus when the NEXT frame contains both needed rolls:
-        if (index < frames.size() - 1) {
-            final Frame nextFrame = frames.get(index + 1);
-            if (nextFrame.isOpen() || nextFrame.isSpare() || nextFrame instanceof FinalFrame)
-                return nextFrame.firstRoll() + nextFrame.secondRoll();
+        if (nbrFrameRolls == 0)
+            return maxScoreFrom(nbrFrames, nextRollBonus, secondRollBonus);
+        final int nextRollScore = (1 + nextRollBonus) * pinsStanding();
+        if (nbrFrames < MAX_FRAMES - 1)
+            return nextRollScore + maxScoreFrom(nbrFrames + 1, secondRollBonus + 1, 0);  //Spare, then strike out
+        return nbrFrameRolls == 1 ? nextRollScore + Frame.MAX_PINS : nextRollScore;  //Earn the bonus roll and strike
+    }
+
+    /**
+     * Get the most a strike-out from the start of a frame adds: one roll per frame (three in the final frame), each
+     * strike before the final frame paying for the next two rolls
+     */
+    private static int maxScoreFrom(int frameIndex, int nextRollBonus, int secondRollBonus) {
+        final int nbrBonusStrikes = MAX_FRAMES - 1 - frameIndex;
+        final int nbrRollsLeft = nbrBonusStrikes + 3;
+        return Frame.MAX_PINS * (nbrRollsLeft + 2 * nbrBonusStrikes + nextRollBonus + secondRollBonus);
+    }
+
+    private Frame completedFrame() {
+        final int nbrPins1 = rolls[nbrRolls - nbrFrameRolls];
+        if (nbrFrames < MAX_FRAMES - 1) {
+            if (nbrPins1 == Frame.MAX_PINS)
+                return DefaultFrame.strike();
+            return nbrFrameRolls == 2 ? DefaultFrame.of(nbrPins1, rolls[nbrRolls - 1]) : null;
         }
-        //STRIKE bonus is next two rolls (over TWO frames):
-        if (index < frames.size() - 2 && frames.get(index + 1).isStrike())
-            return frames.get(index + 1).firstRoll() + frames.get(index + 2).firstRoll();
-        return -1;
+        if (nbrFrameRolls < 2)
+            return null;
+        final int nbrPins2 = rolls[nbrRolls - nbrFrameRolls + 1];
+        if (!FinalFrame.hasEarnedBonusRoll(nbrPins1, nbrPins2))
+            return FinalFrame.of(nbrPins1, nbrPins2);
+        return nbrFrameRolls == 3 ? FinalFrame.of(nbrPins1, nbrPins2, rolls[nbrRolls - 1]) : null;
+    }
+
+    /**
+     * Update the score
+     * <p>
+     * Scoring resumes at the oldest unscored frame and stops at the first frame still waiting on its bonus rolls,
+     * so every frame is only ever settled once.
+     * </p>
+     *
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> updateScore() {
+        final long startTime = System.nanoTime();
+        final List<ScoredFrame> updatedFrames;
+        final long stamp = writeLock();
+        try {
+            updatedFrames = settle();
+        }
+        finally {
+            lock.unlockWrite(stamp);
+            METRICS.updateScoreLatency().record(System.nanoTime() - startTime);
+        }
+        notifyListeners(updatedFrames);
+        return updatedFrames;
+    }
+
+    /**
+     * Acquire the write lock, timing the wait only when another thread holds the lock
+     */
+    private long writeLock() {
+        final long stamp = lock.tryWriteLock();
+        if (stamp != 0L)
+            return stamp;
+        final long waitStart = System.nanoTime();
+        final long waitedStamp = lock.writeLock();
+        METRICS.lockWaited(System.nanoTime() - waitStart);
+        return waitedStamp;
+    }
+
+    /**
+     * Acquire the read lock, timing the wait only when the writer holds the lock
+     */
+    private long readLock() {
+        final long stamp = lock.tryReadLock();
+        if (stamp != 0L)
+            return stamp;
+        final long waitStart = System.nanoTime();
+        final long waitedStamp = lock.readLock();
+        METRICS.lockWaited(System.nanoTime() - waitStart);
+        return waitedStamp;
+    }
+
+    private List<ScoredFrame> settle() {
+        final ScoreUpdatedEvent event = new ScoreUpdatedEvent();
+        event.begin();
+        final int firstFrameIndex = nbrScoredFrames;
+        int score = nbrScoredFrames == 0 ? 0 : frameScores[nbrScoredFrames - 1];
+        List<ScoredFrame> updatedFrames = List.of();
+        while (nbrScoredFrames < nbrFrames) {
+            final Frame currentFrame = frames[nbrScoredFrames];
+            final int bonus = calculateBonus(currentFrame, nbrScoredFrames);
+            if (bonus < 0)
+                break;  //Later frames cannot be scored before this one
+            if (nbrScoredFrames == maxScoredFrames) {  //Settled for the first time
+                maxScoredFrames++;
+                if (!currentFrame.isOpen() && !(currentFrame instanceof FinalFrame))
+                    METRICS.bonusSettled();
+            }
+            final int frameScore = score + currentFrame.total() + bonus;
+            frameScores[nbrScoredFrames] = frameScore;
+            if (updatedFrames.isEmpty())
+                updatedFrames = new ArrayList<>(MAX_FRAMES - nbrScoredFrames);
+            updatedFrames.add(new ScoredFrame(nbrScoredFrames, currentFrame, frameScore));
+            nbrScoredFrames++;
+            score = frameScore;
+            runningScore = frameScore;  //Publish the new running total
+            if (nbrScoredFrames == MAX_FRAMES && !completed)
+                gameOver();
+        }
+        if (event.shouldCommit()) {
+            event.playerName = playerName;
+            event.nbrFramesSettled = nbrScoredFrames - firstFrameIndex;
+            event.score = runningScore;
+            event.commit();
+        }
+        return updatedFrames;
+    }
+
+    private void gameOver() {
+        completed = true;
+        METRICS.gameCompleted();
+        final GameOverEvent event = new GameOverEvent();
+        if (event.shouldCommit()) {
+            event.playerName = playerName;
+            event.score = runningScore;
+            event.gameDuration = System.nanoTime() - startTime;
+            event.commit();
+        }
+    }
+
+    /**
+     * Notify the score listeners once the write lock has been released, so a listener may read the game (or add and
+     * remove listeners) without blocking its own thread
+     */
+    private void notifyListeners(List<ScoredFrame> scoredFrames) {
+        if (scoredFrames.isEmpty())
+            return;
+        final ScoreListener[] currentListeners = listeners;
+        for (final ScoredFrame scoredFrame : scoredFrames) {
+            for (final ScoreListener listener : currentListeners) {
+                try {
+                    listener.frameScored(scoredFrame);
+                }
+                catch (RuntimeException runtimeException) {
+                    //A misbehaving display must never stop the scoring:
+                    LOGGER.warn("Score listener failed for {}'s frame #{}",
+                            playerName, scoredFrame.index() + 1, runtimeException);
+                }
+            }
+        }
+    }
+
+    private void notifyUnscored(int frameIndex, int score) {
+        for (final ScoreListener listener : listeners) {
+            try {
+                listener.framesUnscored(frameIndex, score);
+            }
+            catch (RuntimeException runtimeException) {
+                LOGGER.warn("Score listener failed for {}'s frame #{}", playerName, frameIndex + 1, runtimeException);
+            }
+        }
+    }
+
+    /**
+     * Add a score listener
+     *
+     * @param listener The {@link ScoreListener} notified of every frame scored from now on
+     */
+    public void addScoreListener(ScoreListener listener) {
+        if (listener == null)
+            throw new IllegalArgumentException("Score listener is required");
+        final long stamp = writeLock();
+        try {
+            final ScoreListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+            newListeners[listeners.length] = listener;
+            listeners = newListeners;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove a score listener
+     *
+     * @param listener The {@link ScoreListener} to remove
+     * @return True if the listener was removed. Otherwise, returns false.
+     */
+    public boolean removeScoreListener(ScoreListener listener) {
+        final long stamp = writeLock();
+        try {
+            for (int index = 0; index < listeners.length; index++) {
+                if (listeners[index] == listener) {
+                    final ScoreListener[] newListeners = new ScoreListener[listeners.length - 1];
+                    System.arraycopy(listeners, 0, newListeners, 0, index);
+                    System.arraycopy(listeners, index + 1, newListeners, index, newListeners.length - index);
+                    listeners = newListeners;
+                    return true;
+                }
+            }
+            return false;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private int calculateBonus(Frame frame, int index) {
+        //No BONUS (the final frame total already includes its own bonus roll):
+        if (frame.isOpen() || frame instanceof FinalFrame)
+            return 0;
+        //STRIKE bonus is the next two rolls, SPARE bonus is the next roll (both may span frames):
+        final int nextRoll = frameStarts[index] + (frame.isStrike() ? 1 : 2);
+        final int nbrBonusRolls = frame.isStrike() ? 2 : 1;
+        if (nextRoll + nbrBonusRolls > nbrRolls)
+            return -1;  //Still waiting on the deciding roll
+        return frame.isStrike() ? rolls[nextRoll] + rolls[nextRoll + 1] : rolls[nextRoll];
     }
 
     /**
      * Score a single player's game
+     *
+     * @return The cumulative score of the last scored frame
+     */
+    public int score() {
+        return runningScore;
+    }
+
+    /**
+     * Get the minimum possible score
+     *
+     * @return The final score if every remaining roll is a gutter ball (counting every pin knocked down so far,
+     * including those still owed to unsettled strikes and spares)
+     */
+    public int minPossibleScore() {
+        return (int) projectedScores;
+    }
+
+    /**
+     * Get the maximum possible score
+     *
+     * @return The final score if every remaining roll knocks down all the pins standing
+     */
+    public int maxPossibleScore() {
+        return (int) (projectedScores >>> Integer.SIZE);
+    }
+
+    /**
+     * Get number of frames
+     *
+     * @return The number of frames recorded so far
+     */
+    public int nbrFrames() {
+        return nbrFrames;
+    }
+
+    /**
+     * Get a frame
+     *
+     * @param index The zero-based frame index
+     * @return The recorded {@link Frame}
+     */
+    public Frame frame(int index) {
+        if (index < 0 || index >= nbrFrames)
+            throw new IndexOutOfBoundsException(index);
+        return frames[index];  //Published by the volatile frame count
+    }
+
+    /**
+     * Get a frame score
+     *
+     * @param index The zero-based frame index
+     * @return The optional cumulative score through the frame (empty until the frame has been scored)
+     */
+    public OptionalInt frameScore(int index) {
+        if (index < 0 || index >= nbrFrames)
+            throw new IndexOutOfBoundsException(index);
+        long stamp = lock.tryOptimisticRead();
+        boolean scored = index < nbrScoredFrames;
+        int frameScore = frameScores[index];
+        if (!lock.validate(stamp)) {
+            stamp = readLock();  //Only while the writer was busy
+            try {
+                scored = index < nbrScoredFrames;
+                frameScore = frameScores[index];
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return scored ? OptionalInt.of(frameScore) : OptionalInt.empty();
+    }
+
+    /**
+     * Get rolls
+     *
+     * @return A copy of every roll in the order it was thrown
      */
-    public synchronized int score() {
-        return frames.reversed().stream()
-                .filter(Frame::hasScore)
-                .map(Frame::score)
-                .flatMapToInt(OptionalInt::stream)
-                .findFirst()
-                .orElse(0);
+    int[] rolls() {
+        final long stamp = readLock();
+        try {
+            return Arrays.copyOf(rolls, nbrRolls);
+        }
+        finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     @Override
     public String toString() {
-        return String.format("%s [playerName=%s, frames=%s]", getClass().getSimpleName(), playerName, frames);
+        final Frame[] framesCopy = new Frame[MAX_FRAMES];
+        final int[] frameScoresCopy = new int[MAX_FRAMES];
+        long stamp = lock.tryOptimisticRead();
+        int frameCount = copyFrames(framesCopy, frameScoresCopy);
+        int scoredCount = nbrScoredFrames;
+        if (!lock.validate(stamp)) {
+            stamp = readLock();  //Only while the writer was busy
+            try {
+                frameCount = copyFrames(framesCopy, frameScoresCopy);
+                scoredCount = nbrScoredFrames;
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return String.format("%s [playerName=%s, frames=%s, frameScores=%s]",
+                getClass().getSimpleName(), playerName, Arrays.asList(framesCopy).subList(0, frameCount),
+                Arrays.toString(Arrays.copyOf(frameScoresCopy, Math.min(scoredCount, frameCount))));
+    }
+
+    private int copyFrames(Frame[] framesCopy, int[] frameScoresCopy) {
+        final int frameCount = nbrFrames;
+        System.arraycopy(frames, 0, framesCopy, 0, frameCount);
+        System.arraycopy(frameScores, 0, frameScoresCopy, 0, frameCount);
+        return frameCount;
     }
 }
@@ -0,0 +1,40 @@
+package net.sattler22.bowling.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Ten Pin Bowling Game Over Event
+ *
+ * <p>
+ * Flight Recorder event for the final frame of a {@link Game} being scored.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Name(GameOverEvent.NAME)
+@Label("Game Over")
+@Category({"Bowling", "Scoring"})
+@Description("The final frame of a game scored")
+@StackTrace(false)
+final class GameOverEvent extends jdk.jfr.Event {
+
+    static final String NAME = "net.sattler22.bowling.GameOver";
+
+    @Label("Player Name")
+    String playerName;
+
+    @Label("Score")
+    int score;
+
+    @Label("Game Duration")
+    @Description("The time from the first roll until the final frame was scored")
+    @Timespan(Timespan.NANOSECONDS)
+    long gameDuration;
+}
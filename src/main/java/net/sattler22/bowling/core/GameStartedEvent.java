@@ -0,0 +1,31 @@
+package net.sattler22.bowling.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Ten Pin Bowling Game Started Event
+ *
+ * <p>
+ * Flight Recorder event for the first roll of a {@link Game}.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Name(GameStartedEvent.NAME)
+@Label("Game Started")
+@Category({"Bowling", "Scoring"})
+@Description("The first roll of a game")
+@StackTrace(false)
+final class GameStartedEvent extends jdk.jfr.Event {
+
+    static final String NAME = "net.sattler22.bowling.GameStarted";
+
+    @Label("Player Name")
+    String playerName;
+}
@@ -0,0 +1,190 @@
+package net.sattler22.bowling.core;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+
+/**
+ * Ten Pin Bowling Notation Scanner
+ *
+ * <p>
+ * Reads a game written in standard score notation (e.g. {@code X 7/ 9- X X 8/ 6- X 9/ X8/}) straight out of a
+ * character buffer and packs its rolls the same way as a {@link PackedGame}. A scanner is meant to be reused for
+ * every line of a large batch, so scanning and scoring never allocate.
+ * </p>
+ * <p>
+ * Notation:
+ * <ul>
+ * <li>{@code X} is a strike</li>
+ * <li>{@code /} is a spare (the rest of the pins standing)</li>
+ * <li>{@code -} is a gutter ball and {@code F} is a foul, which both count as zero</li>
+ * <li>{@code 0} through {@code 9} are the number of pins knocked down</li>
+ * </ul>
+ * White space between frames is optional and ignored. Every completed frame is validated with the same rules as the
+ * {@link Frame} it represents.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@NotThreadSafe
+public final class NotationScanner {
+
+    private static final int BITS_PER_ROLL = 4;
+    private static final int ROLLS_PER_LONG = Long.SIZE / BITS_PER_ROLL;
+
+    private long low;
+    private long high;
+    private int nbrRolls;
+
+    /**
+     * Scan a game
+     *
+     * @param notation The game in standard score notation
+     */
+    public void scan(CharSequence notation) {
+        if (notation == null)
+            throw new IllegalArgumentException("Score notation is required");
+        final char[] chars = new char[notation.length()];
+        for (int index = 0; index < chars.length; index++)
+            chars[index] = notation.charAt(index);
+        scan(chars, 0, chars.length);
+    }
+
+    /**
+     * Scan a game without allocating
+     *
+     * @param chars The buffer holding the game in standard score notation
+     * @param start The index of the first character (inclusive)
+     * @param end The index of the last character (exclusive)
+     */
+    public void scan(char[] chars, int start, int end) {
+        if (chars == null)
+            throw new IllegalArgumentException("Score notation is required");
+        if (start < 0 || start > end || end > chars.length)
+            throw new IndexOutOfBoundsException("Invalid range [%d, %d)".formatted(start, end));
+        low = 0;
+        high = 0;
+        nbrRolls = 0;
+        int frameIndex = 0;
+        int nbrFrameRolls = 0;
+        int nbrPins1 = 0;
+        int nbrPins2 = 0;
+        for (int index = start; index < end; index++) {
+            final char c = chars[index];
+            if (c == ' ' || c == '\t')
+                continue;
+            if (frameIndex == Game.MAX_FRAMES)
+                throw new IllegalArgumentException("Maximum number of frames exceeded");
+            final int pinsStanding = switch (nbrFrameRolls) {
+                case 0 -> Frame.MAX_PINS;
+                case 1 -> nbrPins1 == Frame.MAX_PINS ? Frame.MAX_PINS : Frame.MAX_PINS - nbrPins1;
+                default -> FinalFrame.bonusPinsStanding(nbrPins1, nbrPins2);
+            };
+            //A fresh rack has had no ball thrown at it yet (a gutter ball or foul still leaves all ten pins standing):
+            final boolean freshRack = switch (nbrFrameRolls) {
+                case 0 -> true;
+                case 1 -> nbrPins1 == Frame.MAX_PINS;
+                default -> nbrPins1 < Frame.MAX_PINS || nbrPins2 == Frame.MAX_PINS;  //After a spare or two strikes
+            };
+            final int nbrPins = switch (c) {
+                case 'X', 'x' -> Frame.MAX_PINS;
+                case '/' -> {
+                    if (freshRack)
+                        throw new IllegalArgumentException("Spare must follow a roll in the same rack");
+                    yield pinsStanding;
+                }
+                case '-', 'F', 'f' -> 0;
+                default -> {
+                    if (c < '0' || c > '9')
+                        throw new IllegalArgumentException("Invalid score notation '%c'".formatted(c));
+                    yield c - '0';
+                }
+            };
+            if (nbrPins > pinsStanding)
+                throw new IllegalArgumentException("Maximum number of pins exceeded");
+            addRoll(nbrPins);
+            nbrFrameRolls++;
+            if (nbrFrameRolls == 1)
+                nbrPins1 = nbrPins;
+            else if (nbrFrameRolls == 2)
+                nbrPins2 = nbrPins;
+            //Validate each completed frame against the interned frames:
+            if (frameIndex < Game.MAX_FRAMES - 1) {
+                if (nbrPins1 == Frame.MAX_PINS || nbrFrameRolls == 2) {
+                    DefaultFrame.of(nbrPins1, nbrFrameRolls == 2 ? nbrPins2 : 0);
+                    frameIndex++;
+                    nbrFrameRolls = 0;
+                }
+            }
+            else if (nbrFrameRolls == 3
+                    || nbrFrameRolls == 2 && !FinalFrame.hasEarnedBonusRoll(nbrPins1, nbrPins2)) {
+                FinalFrame.of(nbrPins1, nbrPins2, nbrFrameRolls == 3 ? nbrPins : 0);
+                frameIndex++;
+                nbrFrameRolls = 0;
+            }
+        }
+    }
+
+    private void addRoll(int nbrPins) {
+        if (nbrRolls < ROLLS_PER_LONG)
+            low |= (long) nbrPins << (nbrRolls * BITS_PER_ROLL);
+        else
+            high |= (long) nbrPins << ((nbrRolls - ROLLS_PER_LONG) * BITS_PER_ROLL);
+        nbrRolls++;
+    }
+
+    /**
+     * Get number of rolls
+     *
+     * @return The number of rolls in the last game scanned
+     */
+    public int nbrRolls() {
+        return nbrRolls;
+    }
+
+    /**
+     * Get low order rolls
+     *
+     * @return The nibbles of the first 16 rolls of the last game scanned
+     */
+    public long low() {
+        return low;
+    }
+
+    /**
+     * Get high order rolls
+     *
+     * @return The nibbles of the remaining rolls of the last game scanned
+     */
+    public long high() {
+        return high;
+    }
+
+    /**
+     * Score the last game scanned without allocating
+     *
+     * @param frameScores The cumulative score of each frame (must hold at least {@value Game#MAX_FRAMES} elements)
+     * @return The number of frames that could be scored
+     */
+    public int score(int[] frameScores) {
+        return PackedGame.score(low, high, nbrRolls, frameScores);
+    }
+
+    /**
+     * Pack the last game scanned
+     *
+     * @return A new {@link PackedGame} holding all rolls of the last game scanned
+     */
+    public PackedGame toPackedGame() {
+        return new PackedGame(low, high, nbrRolls);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [low=%016x, high=%016x, nbrRolls=%d]",
+                getClass().getSimpleName(), low, high, nbrRolls);
+    }
+}
@@ -0,0 +1,248 @@
+package net.sattler22.bowling.core;
+
+import net.jcip.annotations.Immutable;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+
+/**
+ * Ten Pin Bowling Packed Game
+ *
+ * <p>
+ * A compact, primitive representation of a game for bulk scoring. Every roll is stored as a 4-bit nibble in one of
+ * two {@code long}s, so all {@value Game#MAX_ROLLS} possible rolls of a game fit in 16 bytes. The rolls are validated
+ * with the same rules as the {@link Frame}s they represent, and the game converts to and from a {@link Game}
+ * losslessly.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class PackedGame {
+
+    private static final int BITS_PER_ROLL = 4;
+    private static final int ROLLS_PER_LONG = Long.SIZE / BITS_PER_ROLL;
+    private static final long ROLL_MASK = (1L << BITS_PER_ROLL) - 1;
+
+    private final long low;   //Rolls #1-16
+    private final long high;  //Rolls #17-21
+    private final int nbrRolls;
+
+    PackedGame(long low, long high, int nbrRolls) {  //Validated by the caller
+        this.low = low;
+        this.high = high;
+        this.nbrRolls = nbrRolls;
+    }
+
+    /**
+     * Pack a series of rolls
+     *
+     * @param rolls The number of pins knocked down by each roll, in the order they were thrown
+     * @return A new {@code PackedGame}
+     */
+    public static PackedGame of(int... rolls) {
+        if (rolls == null)
+            throw new IllegalArgumentException("Rolls are required");
+        if (rolls.length > Game.MAX_ROLLS)
+            throw new IllegalArgumentException("Maximum number of rolls exceeded");
+        long low = 0;
+        long high = 0;
+        for (int index = 0; index < rolls.length; index++) {
+            if (rolls[index] < 0 || rolls[index] > Frame.MAX_PINS)
+                throw new IllegalArgumentException("Invalid number of pins");
+            if (index < ROLLS_PER_LONG)
+                low |= (long) rolls[index] << (index * BITS_PER_ROLL);
+            else
+                high |= (long) rolls[index] << ((index - ROLLS_PER_LONG) * BITS_PER_ROLL);
+        }
+        final PackedGame packedGame = new PackedGame(low, high, rolls.length);
+        packedGame.validate();
+        return packedGame;
+    }
+
+    /**
+     * Wrap rolls that are already packed
+     *
+     * @param low The nibbles of the first 16 rolls
+     * @param high The nibbles of the remaining rolls
+     * @param nbrRolls The number of rolls
+     * @return A new {@code PackedGame}
+     */
+    public static PackedGame of(long low, long high, int nbrRolls) {
+        if (nbrRolls < 0 || nbrRolls > Game.MAX_ROLLS)
+            throw new IllegalArgumentException("Invalid number of rolls");
+        //Every nibble past the last roll must be empty:
+        final long lowMask = nbrRolls >= ROLLS_PER_LONG ? -1L : (1L << (nbrRolls * BITS_PER_ROLL)) - 1;
+        final long highMask =
+                nbrRolls <= ROLLS_PER_LONG ? 0 : (1L << ((nbrRolls - ROLLS_PER_LONG) * BITS_PER_ROLL)) - 1;
+        if ((low & ~lowMask) != 0 || (high & ~highMask) != 0)
+            throw new IllegalArgumentException("Unused rolls must be empty");
+        final PackedGame packedGame = new PackedGame(low, high, nbrRolls);
+        packedGame.validate();
+        return packedGame;
+    }
+
+    /**
+     * Pack an existing game
+     *
+     * @param game The source game
+     * @return A new {@code PackedGame} holding all rolls of the source game
+     */
+    public static PackedGame of(Game game) {
+        if (game == null)
+            throw new IllegalArgumentException("Game is required");
+        return of(game.rolls());
+    }
+
+    /**
+     * Get number of rolls
+     *
+     * @return The number of rolls in this game
+     */
+    public int nbrRolls() {
+        return nbrRolls;
+    }
+
+    /**
+     * Get a roll
+     *
+     * @param index The zero-based roll index
+     * @return The number of pins knocked down by the roll
+     */
+    public int roll(int index) {
+        if (index < 0 || index >= nbrRolls)
+            throw new IndexOutOfBoundsException(index);
+        return roll(low, high, index);
+    }
+
+    /**
+     * Get low order rolls
+     *
+     * @return The nibbles of the first 16 rolls
+     */
+    public long low() {
+        return low;
+    }
+
+    /**
+     * Get high order rolls
+     *
+     * @return The nibbles of the remaining rolls
+     */
+    public long high() {
+        return high;
+    }
+
+    /**
+     * Score this game without allocating
+     *
+     * @param frameScores The cumulative score of each frame (must hold at least {@value Game#MAX_FRAMES} elements)
+     * @return The number of frames that could be scored
+     */
+    public int score(int[] frameScores) {
+        return score(low, high, nbrRolls, frameScores);
+    }
+
+    /**
+     * Score a packed game without allocating
+     *
+     * @param low The nibbles of the first 16 rolls
+     * @param high The nibbles of the remaining rolls
+     * @param nbrRolls The number of rolls
+     * @param frameScores The cumulative score of each frame (must hold at least {@value Game#MAX_FRAMES} elements)
+     * @return The number of frames that could be scored
+     */
+    public static int score(long low, long high, int nbrRolls, int[] frameScores) {
+        int runningScore = 0;
+        int rollIndex = 0;
+        for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES; frameIndex++) {
+            final int nbrFrameRolls;
+            final int nbrCountedRolls;  //This frame's own rolls plus any bonus rolls
+            final int firstRoll = rollIndex < nbrRolls ? roll(low, high, rollIndex) : 0;
+            if (frameIndex == Game.MAX_FRAMES - 1) {
+                nbrFrameRolls = 0;
+                nbrCountedRolls = rollIndex + 1 < nbrRolls
+                        && FinalFrame.hasEarnedBonusRoll(firstRoll, roll(low, high, rollIndex + 1)) ? 3 : 2;
+            }
+            else if (firstRoll == Frame.MAX_PINS) {
+                nbrFrameRolls = 1;
+                nbrCountedRolls = 3;
+            }
+            else {
+                nbrFrameRolls = 2;
+                nbrCountedRolls = rollIndex + 1 < nbrRolls
+                        && firstRoll + roll(low, high, rollIndex + 1) == Frame.MAX_PINS ? 3 : 2;
+            }
+            //Every roll that counts toward this frame must be known:
+            if (rollIndex + nbrCountedRolls > nbrRolls)
+                return frameIndex;
+            for (int index = rollIndex; index < rollIndex + nbrCountedRolls; index++)
+                runningScore += roll(low, high, index);
+            frameScores[frameIndex] = runningScore;
+            rollIndex += nbrFrameRolls;
+        }
+        return Game.MAX_FRAMES;
+    }
+
+    private static int roll(long low, long high, int index) {
+        if (index < ROLLS_PER_LONG)
+            return (int) (low >>> (index * BITS_PER_ROLL) & ROLL_MASK);
+        return (int) (high >>> ((index - ROLLS_PER_LONG) * BITS_PER_ROLL) & ROLL_MASK);
+    }
+
+    /**
+     * Unpack into a game
+     *
+     * @param playerName The player's name
+     * @return A new, fully scored {@link Game}
+     */
+    public Game toGame(String playerName) {
+        final Game game = new Game(playerName);
+        for (int index = 0; index < nbrRolls; index++)
+            game.addRoll(roll(low, high, index));
+        return game;
+    }
+
+    private void validate() {
+        int rollIndex = 0;
+        for (int frameIndex = 0; rollIndex < nbrRolls; frameIndex++) {
+            if (frameIndex == Game.MAX_FRAMES)
+                throw new IllegalArgumentException("Maximum number of frames exceeded");
+            //Rolls not thrown yet (in a frame still in progress) are validated as gutter balls:
+            final int nbrPins1 = roll(low, high, rollIndex);
+            final int nbrPins2 = rollIndex + 1 < nbrRolls ? roll(low, high, rollIndex + 1) : 0;
+            if (frameIndex < Game.MAX_FRAMES - 1) {
+                final boolean strike = nbrPins1 == Frame.MAX_PINS;
+                DefaultFrame.of(nbrPins1, strike ? 0 : nbrPins2);
+                rollIndex += strike ? 1 : 2;
+            }
+            else {
+                final int bonusNbrPins = rollIndex + 2 < nbrRolls ? roll(low, high, rollIndex + 2) : 0;
+                FinalFrame.of(nbrPins1, nbrPins2, bonusNbrPins);
+                rollIndex += FinalFrame.hasEarnedBonusRoll(nbrPins1, nbrPins2) ? 3 : 2;
+            }
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(low) * 31 + Long.hashCode(high) * 17 + nbrRolls;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof PackedGame that))
+            return false;
+        return this.low == that.low && this.high == that.high && this.nbrRolls == that.nbrRolls;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [low=%016x, high=%016x, nbrRolls=%d]",
+                getClass().getSimpleName(), low, high, nbrRolls);
+    }
+}
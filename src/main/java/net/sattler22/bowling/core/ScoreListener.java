@@ -0,0 +1,55 @@
+package net.sattler22.bowling.core;
+
+import net.sattler22.bowling.model.ScoredFrame;
+
+/**
+ * Ten Pin Bowling Score Listener
+ *
+ * <p>
+ * Receives every frame score as soon as the {@link Game} settles it. Notifications are delivered synchronously on the
+ * scoring thread, in frame order, right after the game has released its lock, so a listener may read the game it is
+ * listening to (or add and remove listeners). Listeners must return quickly and must not update the game.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@FunctionalInterface
+public interface ScoreListener {
+
+    /**
+     * Frame scored notification
+     *
+     * @param frameIndex The zero-based frame index
+     * @param score The cumulative score through the frame
+     * @param frameTotal The total number of pins knocked down in the frame
+     */
+    void frameScored(int frameIndex, int score, int frameTotal);
+
+    /**
+     * Frame scored notification, along with the frame itself
+     * <p>
+     * The frame is the one the score was settled for, even if the game has been corrected since. By default, the
+     * notification is passed on to {@link #frameScored(int, int, int)}.
+     * </p>
+     *
+     * @param scoredFrame The {@link ScoredFrame}
+     */
+    default void frameScored(ScoredFrame scoredFrame) {
+        frameScored(scoredFrame.index(), scoredFrame.score(), scoredFrame.frame().total());
+    }
+
+    /**
+     * Frames unscored notification
+     * <p>
+     * A corrected frame can leave fewer frames scored than before (an open frame that becomes a strike waits on its
+     * bonus rolls again). Any frames rescored by the correction are notified first.
+     * </p>
+     *
+     * @param frameIndex The zero-based index of the first frame that is no longer scored
+     * @param score The cumulative score through the frames still scored
+     */
+    default void framesUnscored(int frameIndex, int score) {
+    }
+}
@@ -0,0 +1,107 @@
+package net.sattler22.bowling.core;
+
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.model.ScoreChange;
+import net.sattler22.bowling.model.ScoredFrame;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ten Pin Bowling Score Publisher
+ *
+ * <p>
+ * Adapts the synchronous {@link ScoreListener} of a {@link Game} to a {@link Flow.Publisher} for asynchronous
+ * consumers. Each subscriber gets its own bounded buffer. When a subscriber falls too far behind, new scores are
+ * dropped for that subscriber (and counted) instead of blocking the scoring thread.
+ * </p>
+ * <p>
+ * Every {@link ScoreChange} carries the frame exactly as it was scored, so a frame corrected while its score is still
+ * buffered is never paired with the wrong score. Frames rescored after a correction are published again, and frames a
+ * correction leaves unscored are published as a {@link ScoreChange.Type#FRAMES_UNSCORED} change.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class ScorePublisher implements Flow.Publisher<ScoreChange>, AutoCloseable {
+
+    private final Game game;
+    private final SubmissionPublisher<ScoreChange> publisher;
+    private final ScoreListener listener = new ChangeListener();
+    private final LongAdder nbrDropped = new LongAdder();
+
+    /**
+     * Constructs a new {@code ScorePublisher}
+     *
+     * @param game The game to publish
+     * @param executor The executor that delivers scores to the subscribers
+     * @param maxBufferCapacity The maximum number of score changes buffered per subscriber
+     */
+    public ScorePublisher(Game game, Executor executor, int maxBufferCapacity) {
+        if (game == null)
+            throw new IllegalArgumentException("Game is required");
+        if (executor == null)
+            throw new IllegalArgumentException("Executor is required");
+        if (maxBufferCapacity < 1)
+            throw new IllegalArgumentException("Invalid maximum buffer capacity");
+        this.game = game;
+        this.publisher = new SubmissionPublisher<>(executor, maxBufferCapacity);
+        game.addScoreListener(listener);
+    }
+
+    private void publish(ScoreChange scoreChange) {
+        publisher.offer(scoreChange, (subscriber, droppedChange) -> {
+            nbrDropped.increment();
+            return false;  //Never retry on the scoring thread
+        });
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreChange> subscriber) {
+        publisher.subscribe(subscriber);
+    }
+
+    /**
+     * Get number of dropped scores
+     *
+     * @return The number of scores dropped because a subscriber's buffer was full
+     */
+    public long nbrDropped() {
+        return nbrDropped.sum();
+    }
+
+    /**
+     * Stops listening to the game and completes all subscribers
+     */
+    @Override
+    public void close() {
+        game.removeScoreListener(listener);
+        publisher.close();
+    }
+
+    /**
+     * Turns the notifications of the game into score changes
+     */
+    private final class ChangeListener implements ScoreListener {
+
+        @Override
+        public void frameScored(ScoredFrame scoredFrame) {
+            publish(ScoreChange.scored(scoredFrame));
+        }
+
+        @Override
+        public void frameScored(int frameIndex, int score, int frameTotal) {
+            //Never called, since the game always notifies the scored frame itself
+        }
+
+        @Override
+        public void framesUnscored(int frameIndex, int score) {
+            publish(ScoreChange.unscored(frameIndex, score));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package net.sattler22.bowling.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Ten Pin Bowling Score Updated Event
+ *
+ * <p>
+ * Flight Recorder event for settling the scores of a {@link Game}, timed over the settling itself (the listeners
+ * notified along the way included).
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Name(ScoreUpdatedEvent.NAME)
+@Label("Score Updated")
+@Category({"Bowling", "Scoring"})
+@Description("The frames of a game settled by a score update")
+@StackTrace(false)
+final class ScoreUpdatedEvent extends jdk.jfr.Event {
+
+    static final String NAME = "net.sattler22.bowling.ScoreUpdated";
+
+    @Label("Player Name")
+    String playerName;
+
+    @Label("Frames Settled")
+    @Description("The number of frames scored by the update")
+    int nbrFramesSettled;
+
+    @Label("Score")
+    @Description("The cumulative score of the last scored frame")
+    int score;
+}
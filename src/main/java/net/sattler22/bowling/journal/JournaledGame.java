@@ -0,0 +1,173 @@
+package net.sattler22.bowling.journal;
+
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import net.sattler22.bowling.model.ScoredFrame;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Ten Pin Bowling Journaled Game
+ *
+ * <p>
+ * Wraps a {@link Game} so that every roll and frame it accepts is also written to a {@link RollJournal}. An update
+ * returns only once its rolls are durable, so an acknowledged roll survives a crash. Updates are applied to the game
+ * first (which validates them) and journaled in the same order they were applied. Corrected frames are journaled
+ * too, so recovery replays the correction instead of the misread frame.
+ * </p>
+ * <p>
+ * An update is only applied while the journal is open. Should journaling an update fail anyway, the game holds an
+ * update that a restart would roll back, so it rejects every later update.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class JournaledGame {
+
+    private final long gameId;
+    private final Game game;
+    private final RollJournal rollJournal;
+    private final ReentrantLock updateLock = new ReentrantLock();  //Private, so no caller can hold up the journaling
+    private volatile boolean failed;  //Set once an applied update could not be journaled
+
+    JournaledGame(long gameId, Game game, RollJournal rollJournal) {
+        this.gameId = gameId;
+        this.game = game;
+        this.rollJournal = rollJournal;
+    }
+
+    /**
+     * Get game id
+     *
+     * @return The id of this game in the journal
+     */
+    public long gameId() {
+        return gameId;
+    }
+
+    /**
+     * Get game
+     *
+     * @return The underlying {@link Game} (for reading only; updating it directly bypasses the journal)
+     */
+    public Game game() {
+        return game;
+    }
+
+    /**
+     * Add a roll and wait until it is durable
+     *
+     * @param nbrPins The number of pins knocked down
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addRoll(int nbrPins) {
+        final List<ScoredFrame> updatedFrames;
+        final long sequence;
+        updateLock.lock();
+        try {
+            requireJournaled();
+            updatedFrames = game.addRoll(nbrPins);
+            sequence = journal(() -> rollJournal.appendRolls(gameId, nbrPins));
+        }
+        finally {
+            updateLock.unlock();
+        }
+        awaitDurable(sequence);  //Outside the lock, so other games share the same commit
+        return updatedFrames;
+    }
+
+    /**
+     * Add a frame, score it and wait until it is durable
+     *
+     * @param frame The new {@link Frame}
+     * @return Zero or more {@link ScoredFrame}s that were updated
+     */
+    public List<ScoredFrame> addFrame(Frame frame) {
+        final List<ScoredFrame> updatedFrames;
+        final long sequence;
+        updateLock.lock();
+        try {
+            requireJournaled();
+            game.addFrame(frame);
+            updatedFrames = game.updateScore();
+            sequence = journal(() -> rollJournal.appendRolls(gameId, rollsOf(frame)));
+        }
+        finally {
+            updateLock.unlock();
+        }
+        awaitDurable(sequence);
+        return updatedFrames;
+    }
+
+    /**
+     * Correct a frame, rescore the game and wait until the correction is durable
+     *
+     * @param index The zero-based frame index
+     * @param frame The corrected {@link Frame}
+     * @return Zero or more {@link ScoredFrame}s that were rescored
+     */
+    public List<ScoredFrame> correctFrame(int index, Frame frame) {
+        final List<ScoredFrame> rescoredFrames;
+        final long sequence;
+        updateLock.lock();
+        try {
+            requireJournaled();
+            rescoredFrames = game.correctFrame(index, frame);
+            sequence = journal(() -> rollJournal.appendCorrection(gameId, index, rollsOf(frame)));
+        }
+        finally {
+            updateLock.unlock();
+        }
+        awaitDurable(sequence);
+        return rescoredFrames;
+    }
+
+    private void requireJournaled() {
+        if (failed)
+            throw new IllegalStateException("%s's game is no longer journaled".formatted(game.playerName()));
+        rollJournal.checkOpen();
+    }
+
+    private long journal(LongSupplier append) {
+        try {
+            return append.getAsLong();
+        }
+        catch (RuntimeException runtimeException) {
+            failed = true;  //The journal was closed (or failed) after it was checked
+            throw runtimeException;
+        }
+    }
+
+    private void awaitDurable(long sequence) {
+        try {
+            rollJournal.awaitDurable(sequence);
+        }
+        catch (RuntimeException runtimeException) {
+            failed = true;
+            throw runtimeException;
+        }
+    }
+
+    private static int[] rollsOf(Frame frame) {
+        if (frame instanceof FinalFrame finalFrame) {
+            if (FinalFrame.hasEarnedBonusRoll(finalFrame.firstRoll(), finalFrame.secondRoll()))
+                return new int[] {finalFrame.firstRoll(), finalFrame.secondRoll(), finalFrame.bonusRoll()};
+            return new int[] {finalFrame.firstRoll(), finalFrame.secondRoll()};
+        }
+        if (frame.isStrike())
+            return new int[] {frame.firstRoll()};
+        return new int[] {frame.firstRoll(), frame.secondRoll()};
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [gameId=%s, game=%s]", getClass().getSimpleName(), gameId, game);
+    }
+}
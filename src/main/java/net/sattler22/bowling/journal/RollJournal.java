@@ -0,0 +1,540 @@
+package net.sattler22.bowling.journal;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+import net.sattler22.bowling.model.Frame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Ten Pin Bowling Roll Journal
+ *
+ * <p>
+ * An append-only write-ahead log of every game started and every roll thrown, so that games in progress survive a
+ * restart. Each record is framed by its length and a CRC-32C checksum:
+ * <ul>
+ * <li>{@code START}: game id and player name</li>
+ * <li>{@code ROLL}: game id and number of pins knocked down</li>
+ * <li>{@code CORRECTION}: game id, frame index and the corrected frame's rolls</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Appends use group commit. Writers only copy their records into a staging buffer and wait, while a single committer
+ * thread writes everything staged so far and forces it to disk. A single {@code fsync} therefore covers every lane
+ * that rolled while the previous one was in progress.
+ * </p>
+ * <p>
+ * Opening an existing journal recovers it: the records are replayed into fully scored games, and a torn record left
+ * by a crash is truncated before new records are appended. Only the games still in progress are recovered. Whenever
+ * the journal holds finished games, it is rewritten with just the games in progress, so it never keeps growing from
+ * one league night to the next.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class RollJournal implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RollJournal.class);
+    private static final byte START = 1;
+    private static final byte ROLL = 2;
+    private static final byte CORRECTION = 3;
+    private static final int ROLL_PAYLOAD_LENGTH = 1 + Long.BYTES + 1;
+    private static final int MAX_PAYLOAD_LENGTH = 1 + Long.BYTES + 1024;
+    private static final int FRAMING_LENGTH = 2 * Integer.BYTES;  //Length prefix and checksum suffix
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final List<JournaledGame> recoveredGames;
+    private final Thread committer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition staged = lock.newCondition();
+    private final Condition committed = lock.newCondition();
+    private final CRC32C checksum = new CRC32C();  //Only used while holding the lock
+    @GuardedBy("lock")
+    private ByteBuffer stagingBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    @GuardedBy("lock")
+    private ByteBuffer commitBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    @GuardedBy("lock")
+    private long nextGameId;
+    @GuardedBy("lock")
+    private long stagedSequence;
+    @GuardedBy("lock")
+    private long durableSequence;
+    @GuardedBy("lock")
+    private long nbrCommits;
+    @GuardedBy("lock")
+    private IOException failure;
+    @GuardedBy("lock")
+    private boolean closed;
+
+    private RollJournal(FileChannel channel, List<JournaledGame> recoveredGames, long nextGameId) {
+        this.channel = channel;
+        this.recoveredGames = recoveredGames;
+        this.nextGameId = nextGameId;
+        this.committer = Thread.ofPlatform().name("roll-journal-committer").daemon().start(this::commitLoop);
+    }
+
+    /**
+     * Open a journal, recovering every game still in progress
+     *
+     * @param path The journal file (created if it does not exist)
+     * @return A new {@code RollJournal}
+     * @throws IOException If the journal could not be opened or recovered
+     */
+    public static RollJournal open(Path path) throws IOException {
+        if (path == null)
+            throw new IllegalArgumentException("Path is required");
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final Recovery recovery = new Recovery();
+            final long validLength = recovery.replay(channel);
+            final Map<Long, RecoveredGame> gamesInProgress = new LinkedHashMap<>();
+            final Map<Long, Game> games = new LinkedHashMap<>();
+            for (final Map.Entry<Long, RecoveredGame> entry : recovery.games.entrySet()) {
+                final Game game = entry.getValue().toGame();
+                if (game != null && !game.isOver()) {
+                    gamesInProgress.put(entry.getKey(), entry.getValue());
+                    games.put(entry.getKey(), game);
+                }
+            }
+            if (gamesInProgress.size() < recovery.games.size()) {
+                LOGGER.info("Compacting {} finished or unrecoverable games out of {}",
+                        recovery.games.size() - gamesInProgress.size(), path);
+                channel = compact(path, channel, gamesInProgress);
+            }
+            else if (validLength < channel.size()) {
+                LOGGER.warn("Truncating torn journal record at byte {} of {}", validLength, path);
+                channel.truncate(validLength);
+                channel.force(true);
+            }
+            channel.position(channel.size());
+            final List<JournaledGame> recoveredGames = new ArrayList<>(games.size());
+            final RollJournal rollJournal = new RollJournal(channel, recoveredGames, recovery.maxGameId + 1);
+            for (final Map.Entry<Long, Game> entry : games.entrySet())
+                recoveredGames.add(new JournaledGame(entry.getKey(), entry.getValue(), rollJournal));
+            LOGGER.info("Recovered {} games in progress from {}", recoveredGames.size(), path);
+            return rollJournal;
+        }
+        catch (IOException | RuntimeException exception) {
+            channel.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Rewrite the journal with only the games still in progress, so it never outgrows a single league night
+     * <p>
+     * The rewritten journal is forced to disk before it atomically replaces the old one, so a crash in between
+     * leaves either one of them intact.
+     * </p>
+     *
+     * @return The channel of the rewritten journal
+     */
+    private static FileChannel compact(Path path, FileChannel channel, Map<Long, RecoveredGame> gamesInProgress)
+            throws IOException {
+        final Path compactPath = path.resolveSibling(path.getFileName() + ".compact");
+        try (final FileChannel compactChannel = FileChannel.open(compactPath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final CRC32C checksum = new CRC32C();
+            for (final Map.Entry<Long, RecoveredGame> entry : gamesInProgress.entrySet()) {
+                final RecoveredGame game = entry.getValue();
+                final byte[] playerName = game.playerName.getBytes(StandardCharsets.UTF_8);
+                final ByteBuffer records = ByteBuffer.allocate(FRAMING_LENGTH + 1 + Long.BYTES + playerName.length
+                        + game.nbrRolls * (FRAMING_LENGTH + ROLL_PAYLOAD_LENGTH));
+                putRecord(records, checksum, START, entry.getKey(), playerName);
+                for (int index = 0; index < game.nbrRolls; index++)
+                    putRecord(records, checksum, ROLL, entry.getKey(), (byte) game.rolls[index]);
+                records.flip();
+                while (records.hasRemaining())
+                    compactChannel.write(records);
+            }
+            compactChannel.force(true);
+        }
+        channel.close();
+        Files.move(compactPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static void putRecord(ByteBuffer records, CRC32C checksum, byte type, long gameId, byte... data) {
+        final int payloadLength = 1 + Long.BYTES + data.length;
+        final int payloadStart = records.putInt(payloadLength).position();
+        records.put(type).putLong(gameId).put(data);
+        checksum.reset();
+        checksum.update(records.array(), payloadStart, payloadLength);
+        records.putInt((int) checksum.getValue());
+    }
+
+    /**
+     * Get recovered games
+     *
+     * @return An unmodifiable list of the games in progress when the journal was opened, in the order they were started
+     */
+    public List<JournaledGame> recoveredGames() {
+        return List.copyOf(recoveredGames);
+    }
+
+    /**
+     * Start a new game and wait until it is durable
+     *
+     * @param playerName The player's name
+     * @return The new {@link JournaledGame}
+     */
+    public JournaledGame startGame(String playerName) {
+        final Game game = new Game(playerName);  //Validates the player name
+        final byte[] playerNameBytes = playerName.getBytes(StandardCharsets.UTF_8);
+        if (1 + Long.BYTES + playerNameBytes.length > MAX_PAYLOAD_LENGTH)
+            throw new IllegalArgumentException("Player name is too long");
+        final long gameId;
+        final long sequence;
+        lock.lock();
+        try {
+            requireOpen();
+            gameId = nextGameId++;
+            final int payloadLength = 1 + Long.BYTES + playerNameBytes.length;
+            stage(payloadLength).put(START).putLong(gameId).put(playerNameBytes);
+            sequence = commitRecord(payloadLength);
+        }
+        finally {
+            lock.unlock();
+        }
+        awaitDurable(sequence);
+        return new JournaledGame(gameId, game, this);
+    }
+
+    /**
+     * Stage one or more rolls of a game
+     *
+     * @return The sequence number to wait on
+     */
+    long appendRolls(long gameId, int... rolls) {
+        lock.lock();
+        try {
+            requireOpen();
+            long sequence = 0;
+            for (final int nbrPins : rolls) {
+                stage(ROLL_PAYLOAD_LENGTH).put(ROLL).putLong(gameId).put((byte) nbrPins);
+                sequence = commitRecord(ROLL_PAYLOAD_LENGTH);
+            }
+            return sequence;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stage the correction of a frame
+     *
+     * @return The sequence number to wait on
+     */
+    long appendCorrection(long gameId, int frameIndex, int... rolls) {
+        lock.lock();
+        try {
+            requireOpen();
+            final int payloadLength = 1 + Long.BYTES + 1 + rolls.length;
+            final ByteBuffer record = stage(payloadLength).put(CORRECTION).putLong(gameId).put((byte) frameIndex);
+            for (final int nbrPins : rolls)
+                record.put((byte) nbrPins);
+            return commitRecord(payloadLength);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Check that records can still be appended, before a game is updated
+     */
+    void checkOpen() {
+        lock.lock();
+        try {
+            requireOpen();
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @GuardedBy("lock")
+    private void requireOpen() {
+        if (closed)
+            throw new IllegalStateException("Roll journal is closed");
+        if (failure != null)
+            throw new UncheckedIOException("Roll journal failed", failure);
+    }
+
+    /**
+     * Reserve room for a record in the staging buffer and write its length prefix
+     */
+    @GuardedBy("lock")
+    private ByteBuffer stage(int payloadLength) {
+        final int recordLength = FRAMING_LENGTH + payloadLength;
+        if (stagingBuffer.remaining() < recordLength) {
+            final int newCapacity = Math.max(stagingBuffer.capacity() * 2, stagingBuffer.position() + recordLength);
+            stagingBuffer = ByteBuffer.allocate(newCapacity).put(stagingBuffer.flip());
+        }
+        return stagingBuffer.putInt(payloadLength);
+    }
+
+    /**
+     * Append the checksum of the record just staged and hand it to the committer
+     */
+    @GuardedBy("lock")
+    private long commitRecord(int payloadLength) {
+        checksum.reset();
+        checksum.update(stagingBuffer.array(), stagingBuffer.position() - payloadLength, payloadLength);
+        stagingBuffer.putInt((int) checksum.getValue());
+        staged.signal();
+        return ++stagedSequence;
+    }
+
+    /**
+     * Wait until a staged record (and everything staged before it) is durable
+     */
+    void awaitDurable(long sequence) {
+        lock.lock();
+        try {
+            while (durableSequence < sequence && failure == null)
+                committed.awaitUninterruptibly();
+            if (durableSequence < sequence)
+                throw new UncheckedIOException("Roll journal failed", failure);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    private void commitLoop() {
+        while (true) {
+            final long sequence;
+            lock.lock();
+            try {
+                while (stagingBuffer.position() == 0 && !closed)
+                    staged.awaitUninterruptibly();
+                if (stagingBuffer.position() == 0)
+                    return;  //Closed and fully committed
+                //Swap the buffers, so writers keep staging while this batch is written:
+                final ByteBuffer batch = stagingBuffer;
+                stagingBuffer = commitBuffer.clear();
+                commitBuffer = batch;
+                sequence = stagedSequence;
+            }
+            finally {
+                lock.unlock();
+            }
+            IOException ioException = null;
+            try {
+                commitBuffer.flip();
+                while (commitBuffer.hasRemaining())
+                    channel.write(commitBuffer);
+                channel.force(false);
+            }
+            catch (IOException exception) {
+                ioException = exception;
+            }
+            lock.lock();
+            try {
+                if (ioException != null) {
+                    LOGGER.error("Roll journal commit failed", ioException);
+                    failure = ioException;
+                }
+                else {
+                    durableSequence = sequence;
+                    nbrCommits++;
+                }
+                committed.signalAll();
+                if (failure != null)
+                    return;
+            }
+            finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Get number of commits
+     *
+     * @return The number of times the journal was forced to disk
+     */
+    public long nbrCommits() {
+        lock.lock();
+        try {
+            return nbrCommits;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Commit everything staged so far and close the journal
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed)
+                return;
+            closed = true;
+            staged.signal();
+        }
+        finally {
+            lock.unlock();
+        }
+        try {
+            committer.join();
+        }
+        catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Replays the records of an existing journal
+     */
+    private static final class Recovery {
+
+        private final Map<Long, RecoveredGame> games = new LinkedHashMap<>();
+        private long maxGameId = -1;
+
+        /**
+         * @return The length of the journal up to the end of its last intact record
+         */
+        private long replay(FileChannel channel) throws IOException {
+            final long size = channel.size();
+            if (size == 0)
+                return 0;
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("Journal is too large to recover");
+            final MappedByteBuffer journal = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final CRC32C checksum = new CRC32C();
+            int position = 0;
+            while (position + FRAMING_LENGTH <= size) {
+                final int payloadLength = journal.getInt(position);
+                if (payloadLength < 1 + Long.BYTES || payloadLength > MAX_PAYLOAD_LENGTH
+                        || position + FRAMING_LENGTH + payloadLength > size)
+                    break;
+                final int payloadStart = position + Integer.BYTES;
+                checksum.reset();
+                checksum.update(journal.slice(payloadStart, payloadLength));
+                if (journal.getInt(payloadStart + payloadLength) != (int) checksum.getValue())
+                    break;
+                final byte type = journal.get(payloadStart);
+                final long gameId = journal.getLong(payloadStart + 1);
+                final int dataStart = payloadStart + 1 + Long.BYTES;
+                final int dataLength = payloadLength - 1 - Long.BYTES;
+                if (type == START) {
+                    final byte[] playerName = new byte[dataLength];
+                    journal.get(dataStart, playerName);
+                    games.put(gameId, new RecoveredGame(new String(playerName, StandardCharsets.UTF_8)));
+                    maxGameId = Math.max(maxGameId, gameId);
+                }
+                else if (type == ROLL && dataLength == 1 && games.containsKey(gameId))
+                    games.get(gameId).addRoll(journal.get(dataStart));
+                else if (type == CORRECTION && dataLength >= 2 && dataLength <= 4 && games.containsKey(gameId)) {
+                    final int[] rolls = new int[dataLength - 1];
+                    for (int index = 0; index < rolls.length; index++)
+                        rolls[index] = journal.get(dataStart + 1 + index);
+                    games.get(gameId).correctFrame(journal.get(dataStart), rolls);
+                }
+                else
+                    break;
+                position = payloadStart + payloadLength + Integer.BYTES;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * The rolls of a single recovered game, replayed all at once
+     */
+    private static final class RecoveredGame {
+
+        private final String playerName;
+        private final int[] rolls = new int[Game.MAX_ROLLS];
+        private int nbrRolls;
+        private boolean corrupt;
+
+        private RecoveredGame(String playerName) {
+            this.playerName = playerName;
+        }
+
+        private void addRoll(int nbrPins) {
+            if (nbrRolls == rolls.length)
+                corrupt = true;
+            else
+                rolls[nbrRolls++] = nbrPins;
+        }
+
+        /**
+         * Splice the corrected rolls in place of a frame's rolls, keeping every roll thrown after it
+         */
+        private void correctFrame(int frameIndex, int[] correctedRolls) {
+            int frameStart = 0;
+            for (int index = 0; index < frameIndex && frameStart < nbrRolls; index++)
+                frameStart += rolls[frameStart] == Frame.MAX_PINS ? 1 : 2;
+            final int frameEnd = frameIndex == Game.MAX_FRAMES - 1 ? nbrRolls
+                    : frameStart + (frameStart < nbrRolls && rolls[frameStart] == Frame.MAX_PINS ? 1 : 2);
+            final int shift = correctedRolls.length - (frameEnd - frameStart);
+            if (frameIndex < 0 || frameIndex >= Game.MAX_FRAMES || frameEnd > nbrRolls
+                    || nbrRolls + shift > rolls.length) {
+                corrupt = true;
+                return;
+            }
+            System.arraycopy(rolls, frameEnd, rolls, frameEnd + shift, nbrRolls - frameEnd);
+            System.arraycopy(correctedRolls, 0, rolls, frameStart, correctedRolls.length);
+            nbrRolls += shift;
+        }
+
+        /**
+         * @return The rebuilt and fully scored game, or null if its rolls are invalid
+         */
+        private Game toGame() {
+            try {
+                if (corrupt)
+                    throw new IllegalArgumentException("Journaled rolls do not fit the game");
+                //Each frame is settled exactly once while replaying, so this is a single scoring pass:
+                return PackedGame.of(Arrays.copyOf(rolls, nbrRolls)).toGame(playerName);
+            }
+            catch (IllegalArgumentException illegalArgumentException) {
+                LOGGER.warn("Skipping {}'s journaled game: {}", playerName, illegalArgumentException.getMessage());
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [recoveredGames=%s, nbrCommits=%s]",
+                getClass().getSimpleName(), recoveredGames.size(), nbrCommits());
+    }
+}
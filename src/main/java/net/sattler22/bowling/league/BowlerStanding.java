@@ -0,0 +1,121 @@
+package net.sattler22.bowling.league;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * Ten Pin Bowling Bowler Standing
+ *
+ * <p>
+ * A bowler's season totals across every {@link Session} of a {@link League}.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class BowlerStanding {
+
+    private final String playerName;
+    private final int nbrGames;
+    private final long totalPins;
+    private final int highGame;
+    private final int highSeries;
+
+    /**
+     * Constructs a new {@code BowlerStanding}
+     *
+     * @param playerName The bowler's name
+     * @param nbrGames The number of games bowled
+     * @param totalPins The sum of all game scores
+     * @param highGame The highest game score
+     * @param highSeries The highest series total
+     */
+    public BowlerStanding(String playerName, int nbrGames, long totalPins, int highGame, int highSeries) {
+        if (playerName == null || playerName.isBlank())
+            throw new IllegalArgumentException("Player name is required");
+        if (nbrGames < 0 || totalPins < 0 || highGame < 0 || highSeries < 0)
+            throw new IllegalArgumentException("Bowler totals cannot be negative");
+        this.playerName = playerName;
+        this.nbrGames = nbrGames;
+        this.totalPins = totalPins;
+        this.highGame = highGame;
+        this.highSeries = highSeries;
+    }
+
+    /**
+     * Start the totals from a single series
+     */
+    static BowlerStanding of(Series series) {
+        return new BowlerStanding(series.playerName(), series.nbrGames(), series.total(), series.highGame(),
+                series.total());
+    }
+
+    /**
+     * Combine the totals of the same bowler from two sets of sessions
+     */
+    BowlerStanding add(BowlerStanding other) {
+        return new BowlerStanding(playerName, nbrGames + other.nbrGames, totalPins + other.totalPins,
+                Math.max(highGame, other.highGame), Math.max(highSeries, other.highSeries));
+    }
+
+    /**
+     * Get player name
+     *
+     * @return The bowler's name
+     */
+    public String playerName() {
+        return playerName;
+    }
+
+    /**
+     * Get number of games
+     *
+     * @return The number of games bowled
+     */
+    public int nbrGames() {
+        return nbrGames;
+    }
+
+    /**
+     * Get total pins
+     *
+     * @return The sum of all game scores
+     */
+    public long totalPins() {
+        return totalPins;
+    }
+
+    /**
+     * Get average
+     *
+     * @return The average game score, with any fraction dropped (zero if no games were bowled)
+     */
+    public int average() {
+        return nbrGames == 0 ? 0 : (int) (totalPins / nbrGames);
+    }
+
+    /**
+     * Get high game
+     *
+     * @return The highest game score
+     */
+    public int highGame() {
+        return highGame;
+    }
+
+    /**
+     * Get high series
+     *
+     * @return The highest series total
+     */
+    public int highSeries() {
+        return highSeries;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [playerName=%s, nbrGames=%s, average=%s, highGame=%s, highSeries=%s]",
+                getClass().getSimpleName(), playerName, nbrGames, average(), highGame, highSeries);
+    }
+}
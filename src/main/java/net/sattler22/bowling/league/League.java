@@ -0,0 +1,172 @@
+package net.sattler22.bowling.league;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ten Pin Bowling League
+ *
+ * <p>
+ * A season of league {@link Session}s. The standings are computed on the league's fork/join pool: the sessions are
+ * finalized in parallel (and within each session, the bowlers), and every bowler's {@link Series} are folded into a
+ * {@link BowlerStanding} with the bowler's average, high game and high series.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class League {
+
+    private static final Comparator<BowlerStanding> BY_AVERAGE =
+            Comparator.comparingInt(BowlerStanding::average).reversed()
+                    .thenComparing(BowlerStanding::playerName);
+
+    private final String name;
+    private final ForkJoinPool pool;
+    private final ReentrantLock lock = new ReentrantLock();
+    @GuardedBy("lock")
+    private final List<Session> sessions = new ArrayList<>();
+
+    /**
+     * Constructs a new {@code League} on the common pool
+     *
+     * @param name The league name
+     */
+    public League(String name) {
+        this(name, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new {@code League}
+     *
+     * @param name The league name
+     * @param pool The fork/join pool that finalizes the sessions
+     */
+    public League(String name, ForkJoinPool pool) {
+        if (name == null || name.isBlank())
+            throw new IllegalArgumentException("League name is required");
+        if (pool == null)
+            throw new IllegalArgumentException("Fork/join pool is required");
+        this.name = name;
+        this.pool = pool;
+    }
+
+    /**
+     * Get name
+     *
+     * @return The league name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Add a session
+     *
+     * @param session The league night
+     */
+    public void addSession(Session session) {
+        if (session == null)
+            throw new IllegalArgumentException("Session is required");
+        lock.lock();
+        try {
+            if (sessions.stream().anyMatch(existing -> existing.date().equals(session.date())))
+                throw new IllegalArgumentException("A session on %s already exists".formatted(session.date()));
+            sessions.add(session);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get sessions
+     *
+     * @return All sessions, in the order they were added
+     */
+    public List<Session> sessions() {
+        lock.lock();
+        try {
+            return List.copyOf(sessions);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finalize a single session on the league's pool
+     *
+     * @param session The league night
+     * @return The {@link Series} of every bowler, highest total first
+     */
+    public List<Series> finalizeSession(Session session) {
+        if (session == null)
+            throw new IllegalArgumentException("Session is required");
+        return session.finalizeScores(pool);
+    }
+
+    /**
+     * Finalize every session and compute the standings
+     *
+     * @return The {@link BowlerStanding} of every bowler, highest average first
+     */
+    public List<BowlerStanding> standings() {
+        final Session[] currentSessions = sessions().toArray(new Session[0]);
+        final List<BowlerStanding> standings =
+                new ArrayList<>(pool.invoke(new StandingsTask(currentSessions, 0, currentSessions.length)).values());
+        standings.sort(BY_AVERAGE);
+        return List.copyOf(standings);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [name=%s, nbrSessions=%s]", getClass().getSimpleName(), name, sessions().size());
+    }
+
+    /**
+     * Finalizes a range of sessions and folds their series by bowler
+     */
+    private static final class StandingsTask extends RecursiveTask<Map<String, BowlerStanding>> {
+
+        private final Session[] sessions;
+        private final int from;
+        private final int to;
+
+        private StandingsTask(Session[] sessions, int from, int to) {
+            this.sessions = sessions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<String, BowlerStanding> compute() {
+            if (to - from > 1) {
+                final int middle = (from + to) >>> 1;
+                final StandingsTask left = new StandingsTask(sessions, from, middle);
+                left.fork();
+                final Map<String, BowlerStanding> standings = new StandingsTask(sessions, middle, to).compute();
+                left.join().forEach((playerName, standing) -> standings.merge(playerName, standing,
+                        BowlerStanding::add));
+                return standings;
+            }
+            final Map<String, BowlerStanding> standings = new HashMap<>();
+            if (from == to)
+                return standings;  //No sessions yet
+            for (final Series series : sessions[from].newFinalizeTask().invoke())
+                standings.merge(series.playerName(), BowlerStanding.of(series), BowlerStanding::add);
+            return standings;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package net.sattler22.bowling.league;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.Arrays;
+
+/**
+ * Ten Pin Bowling Series
+ *
+ * <p>
+ * The final scores of every game a bowler rolled during one league {@link Session}, in the order they were added.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class Series {
+
+    private final String playerName;
+    private final int[] gameScores;
+    private final int total;
+    private final int highGame;
+
+    /**
+     * Constructs a new {@code Series}
+     *
+     * @param playerName The bowler's name
+     * @param gameScores The final score of each game
+     */
+    public Series(String playerName, int... gameScores) {
+        if (playerName == null || playerName.isBlank())
+            throw new IllegalArgumentException("Player name is required");
+        if (gameScores == null || gameScores.length == 0)
+            throw new IllegalArgumentException("At least one game score is required");
+        int total = 0;
+        int highGame = 0;
+        for (final int gameScore : gameScores) {
+            if (gameScore < 0)
+                throw new IllegalArgumentException("Game score cannot be negative");
+            total += gameScore;
+            highGame = Math.max(highGame, gameScore);
+        }
+        this.playerName = playerName;
+        this.gameScores = gameScores.clone();
+        this.total = total;
+        this.highGame = highGame;
+    }
+
+    /**
+     * Get player name
+     *
+     * @return The bowler's name
+     */
+    public String playerName() {
+        return playerName;
+    }
+
+    /**
+     * Get number of games
+     *
+     * @return The number of games in the series
+     */
+    public int nbrGames() {
+        return gameScores.length;
+    }
+
+    /**
+     * Get a game score
+     *
+     * @param index The zero-based game index
+     * @return The final score of the game
+     */
+    public int gameScore(int index) {
+        return gameScores[index];
+    }
+
+    /**
+     * Get total
+     *
+     * @return The series total (the sum of all game scores)
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     * Get high game
+     *
+     * @return The highest game score in the series
+     */
+    public int highGame() {
+        return highGame;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [playerName=%s, gameScores=%s, total=%s]",
+                getClass().getSimpleName(), playerName, Arrays.toString(gameScores), total);
+    }
+}
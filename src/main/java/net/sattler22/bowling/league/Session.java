@@ -0,0 +1,227 @@
+package net.sattler22.bowling.league;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.center.Match;
+import net.sattler22.bowling.core.Game;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ten Pin Bowling League Session
+ *
+ * <p>
+ * Every {@link Game} rolled on one league night, grouped by bowler. Games are added while the night is under way (for
+ * example, from each {@link Match} as it ends) and are finalized together afterwards: the bowlers are split across a
+ * fork/join pool, every game is scored, and each bowler's games become a {@link Series}. Games that are not over yet
+ * count with the score settled so far.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class Session {
+
+    private static final int BOWLERS_PER_TASK = 16;
+    private static final Comparator<Series> BY_TOTAL = Comparator.comparingInt(Series::total).reversed();
+
+    private final LocalDate date;
+    private final ReentrantLock lock = new ReentrantLock();
+    @GuardedBy("lock")
+    private final Map<String, List<Game>> games = new LinkedHashMap<>();
+
+    /**
+     * Constructs a new {@code Session}
+     *
+     * @param date The league night
+     */
+    public Session(LocalDate date) {
+        if (date == null)
+            throw new IllegalArgumentException("Session date is required");
+        this.date = date;
+    }
+
+    /**
+     * Get date
+     *
+     * @return The league night
+     */
+    public LocalDate date() {
+        return date;
+    }
+
+    /**
+     * Add a game to the bowler's series
+     *
+     * @param game The game
+     */
+    public void addGame(Game game) {
+        if (game == null)
+            throw new IllegalArgumentException("Game is required");
+        lock.lock();
+        try {
+            games.computeIfAbsent(game.playerName(), playerName -> new ArrayList<>()).add(game);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Add every game of a match
+     *
+     * @param match The match
+     */
+    public void addMatch(Match match) {
+        if (match == null)
+            throw new IllegalArgumentException("Match is required");
+        for (final Game game : match.games())
+            addGame(game);
+    }
+
+    /**
+     * Get bowlers
+     *
+     * @return The names of all bowlers, in the order they first bowled
+     */
+    public List<String> bowlers() {
+        lock.lock();
+        try {
+            return List.copyOf(games.keySet());
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get a bowler's games
+     *
+     * @param playerName The bowler's name
+     * @return The bowler's games, in the order they were added (empty if the bowler did not bowl)
+     */
+    public List<Game> games(String playerName) {
+        lock.lock();
+        try {
+            return List.copyOf(games.getOrDefault(playerName, List.of()));
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Get number of games
+     *
+     * @return The number of games of all bowlers
+     */
+    public int nbrGames() {
+        lock.lock();
+        try {
+            int nbrGames = 0;
+            for (final List<Game> bowlerGames : games.values())
+                nbrGames += bowlerGames.size();
+            return nbrGames;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Finalize every game on the common pool
+     *
+     * @return The {@link Series} of every bowler, highest total first
+     */
+    public List<Series> finalizeScores() {
+        return finalizeScores(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Finalize every game
+     *
+     * @param pool The fork/join pool that scores the games
+     * @return The {@link Series} of every bowler, highest total first
+     */
+    public List<Series> finalizeScores(ForkJoinPool pool) {
+        if (pool == null)
+            throw new IllegalArgumentException("Fork/join pool is required");
+        final List<Series> series = new ArrayList<>(pool.invoke(newFinalizeTask()));
+        series.sort(BY_TOTAL);
+        return List.copyOf(series);
+    }
+
+    /**
+     * Create a task that finalizes a snapshot of this session's games
+     */
+    RecursiveTask<List<Series>> newFinalizeTask() {
+        lock.lock();
+        try {
+            final String[] playerNames = games.keySet().toArray(new String[0]);
+            final Game[][] bowlerGames = new Game[playerNames.length][];
+            for (int i = 0; i < playerNames.length; i++)
+                bowlerGames[i] = games.get(playerNames[i]).toArray(new Game[0]);
+            return new FinalizeTask(playerNames, bowlerGames, 0, playerNames.length);
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [date=%s, bowlers=%s]", getClass().getSimpleName(), date, bowlers());
+    }
+
+    /**
+     * Scores the games of a range of bowlers
+     */
+    private static final class FinalizeTask extends RecursiveTask<List<Series>> {
+
+        private final String[] playerNames;
+        private final Game[][] bowlerGames;
+        private final int from;
+        private final int to;
+
+        private FinalizeTask(String[] playerNames, Game[][] bowlerGames, int from, int to) {
+            this.playerNames = playerNames;
+            this.bowlerGames = bowlerGames;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<Series> compute() {
+            if (to - from > BOWLERS_PER_TASK) {
+                final int middle = (from + to) >>> 1;
+                final FinalizeTask left = new FinalizeTask(playerNames, bowlerGames, from, middle);
+                left.fork();
+                final List<Series> right = new FinalizeTask(playerNames, bowlerGames, middle, to).compute();
+                final List<Series> series = new ArrayList<>(left.join());
+                series.addAll(right);
+                return series;
+            }
+            final List<Series> series = new ArrayList<>(to - from);
+            for (int bowler = from; bowler < to; bowler++) {
+                final Game[] games = bowlerGames[bowler];
+                final int[] gameScores = new int[games.length];
+                for (int i = 0; i < games.length; i++) {
+                    games[i].updateScore();
+                    gameScores[i] = games[i].score();
+                }
+                series.add(new Series(playerNames[bowler], gameScores));
+            }
+            return series;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package net.sattler22.bowling.metrics;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ten Pin Bowling Latency Histogram
+ *
+ * <p>
+ * Records latencies in nanoseconds into fixed log-linear buckets, in the style of HdrHistogram: every power of two is
+ * split into 32 equal sub-buckets, so any percentile is reported within about 3% of the recorded value. Recording is
+ * lock free, allocates nothing and takes a fixed number of atomic updates, whatever the number of values recorded.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    //Values below twice the sub-bucket count are kept exactly, and every power of two above that gets its own row:
+    private static final int NBR_BUCKETS = 2 * SUB_BUCKET_COUNT + (Long.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(NBR_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record a latency
+     *
+     * @param nanos The latency in nanoseconds (negative values, from a clock adjustment, count as zero)
+     */
+    public void record(long nanos) {
+        final long value = Math.max(nanos, 0L);
+        counts.incrementAndGet(bucketIndex(value));
+        count.increment();
+        totalNanos.add(value);
+        if (value > maxNanos.get())
+            maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT)
+            return (int) value;
+        final int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return SUB_BUCKET_COUNT * (shift + 1) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long highestValue(int bucketIndex) {
+        if (bucketIndex < 2 * SUB_BUCKET_COUNT)
+            return bucketIndex;
+        final int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        final long mantissa = SUB_BUCKET_COUNT + bucketIndex % SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Get count
+     *
+     * @return The number of latencies recorded
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Get mean
+     *
+     * @return The mean latency in nanoseconds (zero if nothing has been recorded)
+     */
+    public double meanNanos() {
+        final long nbrValues = count.sum();
+        return nbrValues == 0 ? 0.0 : (double) totalNanos.sum() / nbrValues;
+    }
+
+    /**
+     * Get maximum
+     *
+     * @return The highest latency recorded in nanoseconds
+     */
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Get a percentile
+     *
+     * @param percentile The percentile (between 0 and 100)
+     * @return The latency in nanoseconds that the given percentage of recorded values do not exceed (zero if nothing
+     * has been recorded)
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0))
+            throw new IllegalArgumentException("Invalid percentile");
+        //Buckets are read one at a time while recording goes on, so only count what is actually there:
+        final long[] snapshot = new long[NBR_BUCKETS];
+        long nbrValues = 0;
+        for (int index = 0; index < NBR_BUCKETS; index++) {
+            snapshot[index] = counts.get(index);
+            nbrValues += snapshot[index];
+        }
+        if (nbrValues == 0)
+            return 0L;
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * nbrValues));
+        long nbrSeen = 0;
+        for (int index = 0; index < NBR_BUCKETS; index++) {
+            nbrSeen += snapshot[index];
+            if (nbrSeen >= rank)
+                return Math.min(highestValue(index), maxNanos());
+        }
+        return maxNanos();
+    }
+
+    /**
+     * Take a snapshot
+     *
+     * @return The {@link LatencySnapshot} of the latencies recorded so far
+     */
+    public LatencySnapshot snapshot() {
+        return new LatencySnapshot(count(), meanNanos(), valueAtPercentile(50.0), valueAtPercentile(99.0),
+                valueAtPercentile(99.9), maxNanos());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [count=%s, meanNanos=%.1f, maxNanos=%s]",
+                getClass().getSimpleName(), count(), meanNanos(), maxNanos());
+    }
+}
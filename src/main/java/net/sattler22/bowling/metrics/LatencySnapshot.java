@@ -0,0 +1,78 @@
+package net.sattler22.bowling.metrics;
+
+import net.jcip.annotations.Immutable;
+
+import javax.management.ConstructorParameters;
+
+/**
+ * Ten Pin Bowling Latency Snapshot
+ *
+ * <p>
+ * The summary of a {@link LatencyHistogram} at one moment. The accessors follow the JavaBeans naming that JMX needs to
+ * map a snapshot to an open composite type.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class LatencySnapshot {
+
+    private final long count;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long p999Nanos;
+    private final long maxNanos;
+
+    /**
+     * Constructs a new {@code LatencySnapshot}
+     *
+     * @param count The number of latencies recorded
+     * @param meanNanos The mean latency in nanoseconds
+     * @param p50Nanos The median latency in nanoseconds
+     * @param p99Nanos The 99th percentile latency in nanoseconds
+     * @param p999Nanos The 99.9th percentile latency in nanoseconds
+     * @param maxNanos The highest latency in nanoseconds
+     */
+    @ConstructorParameters({"count", "meanNanos", "p50Nanos", "p99Nanos", "p999Nanos", "maxNanos"})
+    public LatencySnapshot(long count, double meanNanos, long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+        this.count = count;
+        this.meanNanos = meanNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.p999Nanos = p999Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    public long getP999Nanos() {
+        return p999Nanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [count=%s, meanNanos=%.1f, p50Nanos=%s, p99Nanos=%s, p999Nanos=%s, maxNanos=%s]",
+                getClass().getSimpleName(), count, meanNanos, p50Nanos, p99Nanos, p999Nanos, maxNanos);
+    }
+}
@@ -0,0 +1,41 @@
+package net.sattler22.bowling.metrics;
+
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ten Pin Bowling Logging Metrics Reporter
+ *
+ * <p>
+ * Writes the {@link ScoringMetrics} to the log, one line for the counters and one for each latency.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class LoggingMetricsReporter implements MetricsReporter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LoggingMetricsReporter.class);
+
+    @Override
+    public void report(ScoringMetrics metrics) {
+        if (!LOGGER.isInfoEnabled())
+            return;
+        LOGGER.info("Frames added: {}, bonuses settled: {}, games completed: {}, lock contentions: {}",
+                metrics.getFramesAdded(), metrics.getBonusesSettled(), metrics.getGamesCompleted(),
+                metrics.getLockContentions());
+        log("Add frame", metrics.getAddFrameLatency());
+        log("Add roll", metrics.getAddRollLatency());
+        log("Update score", metrics.getUpdateScoreLatency());
+        log("Lock wait", metrics.getLockWait());
+    }
+
+    private static void log(String name, LatencySnapshot latency) {
+        LOGGER.info("{} latency (ns): count={}, mean={}, p50={}, p99={}, p99.9={}, max={}", name, latency.getCount(),
+                Math.round(latency.getMeanNanos()), latency.getP50Nanos(), latency.getP99Nanos(),
+                latency.getP999Nanos(), latency.getMaxNanos());
+    }
+}
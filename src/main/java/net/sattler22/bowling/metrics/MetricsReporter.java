@@ -0,0 +1,24 @@
+package net.sattler22.bowling.metrics;
+
+/**
+ * Ten Pin Bowling Metrics Reporter
+ *
+ * <p>
+ * Publishes the {@link ScoringMetrics} somewhere: a log, a monitoring system or a test. Reports are made on the
+ * reporting thread, never on the scoring thread.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@FunctionalInterface
+public interface MetricsReporter {
+
+    /**
+     * Report the metrics
+     *
+     * @param metrics The {@link ScoringMetrics} to report
+     */
+    void report(ScoringMetrics metrics);
+}
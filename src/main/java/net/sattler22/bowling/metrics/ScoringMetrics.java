@@ -0,0 +1,214 @@
+package net.sattler22.bowling.metrics;
+
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ten Pin Bowling Scoring Metrics
+ *
+ * <p>
+ * Counts and times the scoring hot path of every game: frames added, bonuses settled, games completed, the latency of
+ * each update and the time spent waiting on a game's lock. Everything is recorded lock free with {@link LongAdder}s
+ * and {@link LatencyHistogram}s, so the scoring threads never contend on the metrics themselves. Lock waits are only
+ * timed when the lock was actually held by another thread.
+ * </p>
+ * <p>
+ * The metrics are read through any {@link MetricsReporter}, either on demand or on a schedule, and through JMX once
+ * registered under {@value #OBJECT_NAME}.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class ScoringMetrics implements ScoringMetricsMXBean {
+
+    /**
+     * JMX object name
+     */
+    public static final String OBJECT_NAME = "net.sattler22.bowling:type=ScoringMetrics";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoringMetrics.class);
+    private static final ScoringMetrics GLOBAL = new ScoringMetrics();
+
+    private final LongAdder framesAdded = new LongAdder();
+    private final LongAdder bonusesSettled = new LongAdder();
+    private final LongAdder gamesCompleted = new LongAdder();
+    private final LongAdder lockContentions = new LongAdder();
+    private final LatencyHistogram addFrameLatency = new LatencyHistogram();
+    private final LatencyHistogram addRollLatency = new LatencyHistogram();
+    private final LatencyHistogram updateScoreLatency = new LatencyHistogram();
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+
+    ScoringMetrics() {
+    }
+
+    /**
+     * Get the metrics shared by every game
+     *
+     * @return The global {@code ScoringMetrics}
+     */
+    public static ScoringMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Register the global metrics with the platform MBean server (does nothing if they are already registered)
+     */
+    public static void registerMBean() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(GLOBAL, new ObjectName(OBJECT_NAME));
+        }
+        catch (InstanceAlreadyExistsException alreadyRegistered) {
+            //Already visible to JMX clients
+        }
+        catch (JMException jmException) {
+            throw new IllegalStateException("Unable to register the scoring metrics", jmException);
+        }
+    }
+
+    /**
+     * Report the metrics on a schedule
+     *
+     * @param scheduler The scheduler that runs the reports
+     * @param reporter The {@link MetricsReporter}
+     * @param period The time between reports
+     * @return The scheduled reports (cancel to stop reporting)
+     */
+    public ScheduledFuture<?> scheduleReports(ScheduledExecutorService scheduler, MetricsReporter reporter,
+                                              Duration period) {
+        if (scheduler == null)
+            throw new IllegalArgumentException("Scheduler is required");
+        if (reporter == null)
+            throw new IllegalArgumentException("Metrics reporter is required");
+        if (period == null || period.isNegative() || period.isZero())
+            throw new IllegalArgumentException("Invalid reporting period");
+        final long periodNanos = period.toNanos();
+        return scheduler.scheduleAtFixedRate(() -> {
+            try {
+                reporter.report(this);
+            }
+            catch (RuntimeException runtimeException) {
+                //A failing reporter must never cancel the later reports:
+                LOGGER.warn("Metrics reporter failed", runtimeException);
+            }
+        }, periodNanos, periodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Count a frame added to a game
+     */
+    public void frameAdded() {
+        framesAdded.increment();
+    }
+
+    /**
+     * Count a strike or spare bonus settled
+     */
+    public void bonusSettled() {
+        bonusesSettled.increment();
+    }
+
+    /**
+     * Count a game whose final frame has been scored
+     */
+    public void gameCompleted() {
+        gamesCompleted.increment();
+    }
+
+    /**
+     * Record a wait on a game's lock that was held by another thread
+     *
+     * @param nanos The time waited in nanoseconds
+     */
+    public void lockWaited(long nanos) {
+        lockContentions.increment();
+        lockWait.record(nanos);
+    }
+
+    /**
+     * Get add frame latency
+     *
+     * @return The {@link LatencyHistogram} of adding a frame
+     */
+    public LatencyHistogram addFrameLatency() {
+        return addFrameLatency;
+    }
+
+    /**
+     * Get add roll latency
+     *
+     * @return The {@link LatencyHistogram} of adding a roll (and settling the bonuses it decides)
+     */
+    public LatencyHistogram addRollLatency() {
+        return addRollLatency;
+    }
+
+    /**
+     * Get update score latency
+     *
+     * @return The {@link LatencyHistogram} of updating the score
+     */
+    public LatencyHistogram updateScoreLatency() {
+        return updateScoreLatency;
+    }
+
+    @Override
+    public long getFramesAdded() {
+        return framesAdded.sum();
+    }
+
+    @Override
+    public long getBonusesSettled() {
+        return bonusesSettled.sum();
+    }
+
+    @Override
+    public long getGamesCompleted() {
+        return gamesCompleted.sum();
+    }
+
+    @Override
+    public long getLockContentions() {
+        return lockContentions.sum();
+    }
+
+    @Override
+    public LatencySnapshot getAddFrameLatency() {
+        return addFrameLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getAddRollLatency() {
+        return addRollLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getUpdateScoreLatency() {
+        return updateScoreLatency.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getLockWait() {
+        return lockWait.snapshot();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [framesAdded=%s, bonusesSettled=%s, gamesCompleted=%s, lockContentions=%s]",
+                getClass().getSimpleName(), getFramesAdded(), getBonusesSettled(), getGamesCompleted(),
+                getLockContentions());
+    }
+}
@@ -0,0 +1,31 @@
+package net.sattler22.bowling.metrics;
+
+/**
+ * Ten Pin Bowling Scoring Metrics Management Interface
+ *
+ * <p>
+ * Exposes the {@link ScoringMetrics} to JMX clients such as JConsole and VisualVM.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+public interface ScoringMetricsMXBean {
+
+    long getFramesAdded();
+
+    long getBonusesSettled();
+
+    long getGamesCompleted();
+
+    long getLockContentions();
+
+    LatencySnapshot getAddFrameLatency();
+
+    LatencySnapshot getAddRollLatency();
+
+    LatencySnapshot getUpdateScoreLatency();
+
+    LatencySnapshot getLockWait();
+}
@@ -1,18 +1,28 @@
 package net.sattler22.bowling.model;
 
-import net.jcip.annotations.ThreadSafe;
+import net.jcip.annotations.Immutable;
 
 /**
  * A Ten Pin Bowling {@code DefaultFrame} allows up to two consecutive rolls and represents all frames in a game,
- * except for the final frame which includes a possible bonus roll.
+ * except for the final frame which includes a possible bonus roll. There are only 66 valid combinations, each of which
+ * is interned and shared by {@link #of(int, int)}.
  *
  * @author Pete Sattler
  * @since July 2025
- * @version June 2026
+ * @version October 2026
  */
-@ThreadSafe
+@Immutable
 public final class DefaultFrame extends Frame {
 
+    private static final DefaultFrame[] INTERNED = new DefaultFrame[(MAX_PINS + 1) * (MAX_PINS + 1)];
+
+    static {
+        for (int nbrPins1 = 0; nbrPins1 < MAX_PINS; nbrPins1++)
+            for (int nbrPins2 = 0; nbrPins1 + nbrPins2 <= MAX_PINS; nbrPins2++)
+                INTERNED[key(nbrPins1, nbrPins2)] = new DefaultFrame(nbrPins1, nbrPins2);
+        INTERNED[key(MAX_PINS, 0)] = new DefaultFrame(MAX_PINS, 0);
+    }
+
     /**
      * Constructs a new {@code DefaultFrame}
      *
@@ -26,41 +36,43 @@ public final class DefaultFrame extends Frame {
     }
 
     /**
-     * Record a strike
+     * Get a shared {@code DefaultFrame}
      *
-     * @return A new {@code DefaultFrame}
+     * @param nbrPins1 The number of pins knocked down in the first roll
+     * @param nbrPins2 The number of pins knocked down in the second roll
+     * @return The interned {@code DefaultFrame} for these rolls
      */
-    public static DefaultFrame strike() {
-        return new DefaultFrame(MAX_PINS, 0);
+    public static DefaultFrame of(int nbrPins1, int nbrPins2) {
+        if (nbrPins1 >= 0 && nbrPins1 <= MAX_PINS && nbrPins2 >= 0 && nbrPins2 <= MAX_PINS) {
+            final DefaultFrame interned = INTERNED[key(nbrPins1, nbrPins2)];
+            if (interned != null)
+                return interned;
+        }
+        return new DefaultFrame(nbrPins1, nbrPins2);  //Only invalid rolls are left, so this throws
     }
 
     /**
-     * Copy constructs a new {@code DefaultFrame}
+     * Get a shared {@code DefaultFrame} from the pins a pinsetter reports standing
      *
-     * @param source The source frame
+     * @param afterFirstRoll The {@link PinMask} of the pins standing after the first roll
+     * @param afterSecondRoll The {@link PinMask} of the pins standing after the second roll (no pins for a strike)
+     * @return The interned {@code DefaultFrame} for these rolls
      */
-    DefaultFrame(DefaultFrame source) {
-        this(source.firstRoll, source.secondRoll);
-        synchronized (source.lock) {
-            this.score = source.score;
-        }
+    public static DefaultFrame ofStandingPins(short afterFirstRoll, short afterSecondRoll) {
+        return of(PinMask.knockedDown(PinMask.ALL_PINS, afterFirstRoll),
+                PinMask.knockedDown(afterFirstRoll, afterSecondRoll));
     }
 
     /**
-     * Update the score
+     * Record a strike
      *
-     * @param start The starting number of points
-     * @param bonus The number of bonus points
+     * @return The shared strike {@code DefaultFrame}
      */
-    public void updateScore(int start, int bonus) {
-        if (start < 0)
-            throw new IllegalArgumentException("Starting points cannot be negative");
-        if (bonus < 0)
-            throw new IllegalArgumentException("Bonus points cannot be negative");
-        synchronized (lock) {
-            if (hasScore())
-                throw new IllegalStateException("Score has already been updated");
-            this.score = start + super.total() + bonus;
-        }
+    public static DefaultFrame strike() {
+        return of(MAX_PINS, 0);
+    }
+
+    private static int key(int nbrPins1, int nbrPins2) {
+        return nbrPins1 * (MAX_PINS + 1) + nbrPins2;
     }
 }
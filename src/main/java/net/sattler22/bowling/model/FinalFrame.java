@@ -1,18 +1,33 @@
 package net.sattler22.bowling.model;
 
-import net.jcip.annotations.ThreadSafe;
+import net.jcip.annotations.Immutable;
 
 /**
  * A Ten Pin Bowling {@code FinalFrame} has up to three consecutive rolls and represents the last frame in the
- * game. The bonus (third) roll is allowed if all pins have been knocked down on the first two attempts.
+ * game. The bonus (third) roll is allowed if all pins have been knocked down on the first two attempts. There are only
+ * 241 valid combinations, each of which is interned and shared by {@link #of(int, int, int)}.
  *
  * @author Pete Sattler
  * @since July 2025
- * @version June 2026
+ * @version October 2026
  */
-@ThreadSafe
+@Immutable
 public final class FinalFrame extends Frame {
 
+    private static final FinalFrame[] INTERNED = new FinalFrame[(MAX_PINS + 1) * (MAX_PINS + 1) * (MAX_PINS + 1)];
+
+    static {
+        for (int nbrPins1 = 0; nbrPins1 <= MAX_PINS; nbrPins1++) {
+            final int maxNbrPins2 = nbrPins1 == MAX_PINS ? MAX_PINS : MAX_PINS - nbrPins1;
+            for (int nbrPins2 = 0; nbrPins2 <= maxNbrPins2; nbrPins2++) {
+                final int maxBonusNbrPins =
+                        hasEarnedBonusRoll(nbrPins1, nbrPins2) ? bonusPinsStanding(nbrPins1, nbrPins2) : 0;
+                for (int bonusNbrPins = 0; bonusNbrPins <= maxBonusNbrPins; bonusNbrPins++)
+                    INTERNED[key(nbrPins1, nbrPins2, bonusNbrPins)] = new FinalFrame(nbrPins1, nbrPins2, bonusNbrPins);
+            }
+        }
+    }
+
     private final int bonusRoll;
     private final boolean turkey;
 
@@ -47,21 +62,71 @@ public final class FinalFrame extends Frame {
             throw new IllegalArgumentException("Maximum number of bonus pins exceeded");
         if (bonusNbrPins > 0 && !hasEarnedBonusRoll(nbrPins1, nbrPins2))
             throw new IllegalArgumentException("Bonus roll has not been earned");
-        //After first roll STRIKE, the second and bonus rolls share a fresh rack unless second roll is also a STRIKE:
-        if (nbrPins1 == MAX_PINS && nbrPins2 < MAX_PINS && nbrPins2 + bonusNbrPins > MAX_PINS)
+        if (bonusNbrPins > bonusPinsStanding(nbrPins1, nbrPins2))
             throw new IllegalArgumentException("Maximum number of bonus pins exceeded");
     }
 
     /**
-     * Copy constructs a new {@code FinalFrame}
+     * Get a shared {@code FinalFrame}
      *
-     * @param source The source frame
+     * @param nbrPins1 The number of pins knocked down in the first roll
+     * @param nbrPins2 The number of pins knocked down in the second roll
+     * @return The interned {@code FinalFrame} for these rolls
      */
-    FinalFrame(FinalFrame source) {
-        this(source.firstRoll, source.secondRoll, source.bonusRoll);
-        synchronized (source.lock) {
-            this.score = source.score;
+    public static FinalFrame of(int nbrPins1, int nbrPins2) {
+        return of(nbrPins1, nbrPins2, 0);
+    }
+
+    /**
+     * Get a shared {@code FinalFrame}
+     *
+     * @param nbrPins1 The number of pins knocked down in the first roll
+     * @param nbrPins2 The number of pins knocked down in the second roll
+     * @param bonusNbrPins The number of pins knocked down in the bonus (third) roll
+     * @return The interned {@code FinalFrame} for these rolls
+     */
+    public static FinalFrame of(int nbrPins1, int nbrPins2, int bonusNbrPins) {
+        if (nbrPins1 >= 0 && nbrPins1 <= MAX_PINS && nbrPins2 >= 0 && nbrPins2 <= MAX_PINS
+                && bonusNbrPins >= 0 && bonusNbrPins <= MAX_PINS) {
+            final FinalFrame interned = INTERNED[key(nbrPins1, nbrPins2, bonusNbrPins)];
+            if (interned != null)
+                return interned;
         }
+        return new FinalFrame(nbrPins1, nbrPins2, bonusNbrPins);  //Only invalid rolls are left, so this throws
+    }
+
+    /**
+     * Get a shared {@code FinalFrame} from the pins a pinsetter reports standing
+     *
+     * @param afterFirstRoll The {@link PinMask} of the pins standing after the first roll
+     * @param afterSecondRoll The {@link PinMask} of the pins standing after the second roll
+     * @return The interned {@code FinalFrame} for these rolls
+     */
+    public static FinalFrame ofStandingPins(short afterFirstRoll, short afterSecondRoll) {
+        return of(PinMask.knockedDown(PinMask.ALL_PINS, afterFirstRoll),
+                PinMask.knockedDown(rackFor(afterFirstRoll), afterSecondRoll));
+    }
+
+    /**
+     * Get a shared {@code FinalFrame} from the pins a pinsetter reports standing
+     *
+     * @param afterFirstRoll The {@link PinMask} of the pins standing after the first roll
+     * @param afterSecondRoll The {@link PinMask} of the pins standing after the second roll
+     * @param afterBonusRoll The {@link PinMask} of the pins standing after the bonus (third) roll
+     * @return The interned {@code FinalFrame} for these rolls
+     */
+    public static FinalFrame ofStandingPins(short afterFirstRoll, short afterSecondRoll, short afterBonusRoll) {
+        return of(PinMask.knockedDown(PinMask.ALL_PINS, afterFirstRoll),
+                PinMask.knockedDown(rackFor(afterFirstRoll), afterSecondRoll),
+                PinMask.knockedDown(rackFor(afterSecondRoll), afterBonusRoll));
+    }
+
+    private static short rackFor(short standingPins) {
+        return standingPins == PinMask.NO_PINS ? PinMask.ALL_PINS : standingPins;  //A cleared deck is reset
+    }
+
+    private static int key(int nbrPins1, int nbrPins2, int bonusNbrPins) {
+        return (nbrPins1 * (MAX_PINS + 1) + nbrPins2) * (MAX_PINS + 1) + bonusNbrPins;
     }
 
     /**
@@ -76,27 +141,24 @@ public final class FinalFrame extends Frame {
     }
 
     /**
-     * Turkey condition check
+     * Get the pins standing for the bonus roll
      *
-     * @return True if all pins have been knocked down in all three frames. Otherwise, returns false.
+     * @param nbrPins1 The number of pins knocked down in the first roll
+     * @param nbrPins2 The number of pins knocked down in the second roll
+     * @return The number of pins that can be knocked down by the bonus (third) roll
      */
-    public boolean isTurkey() {
-        return turkey;
+    public static int bonusPinsStanding(int nbrPins1, int nbrPins2) {
+        //After first roll STRIKE, the second and bonus rolls share a fresh rack unless second roll is also a STRIKE:
+        return nbrPins1 == MAX_PINS && nbrPins2 < MAX_PINS ? MAX_PINS - nbrPins2 : MAX_PINS;
     }
 
     /**
-     * Update the score
+     * Turkey condition check
      *
-     * @param start The starting number of points
+     * @return True if all pins have been knocked down in all three frames. Otherwise, returns false.
      */
-    public void updateScore(int start) {
-        if (start < 0)
-            throw new IllegalArgumentException("Starting points cannot be negative");
-        synchronized (lock) {
-            if (hasScore())
-                throw new IllegalStateException("Score has already been updated");
-            this.score = start + total();
-        }
+    public boolean isTurkey() {
+        return turkey;
     }
 
     /**
@@ -129,7 +191,7 @@ public final class FinalFrame extends Frame {
 
     @Override
     public String toString() {
-        return String.format("%s [firstRoll=%d, secondRoll=%d, bonusRoll=%d, zero=%b, open=%b, spare=%b, turkey=%b, score=%s]",
-                getClass().getSimpleName(), firstRoll, secondRoll, bonusRoll, isZero(), isOpen(), isSpare(), turkey, score);
+        return String.format("%s [firstRoll=%d, secondRoll=%d, bonusRoll=%d, zero=%b, open=%b, spare=%b, turkey=%b]",
+                getClass().getSimpleName(), firstRoll, secondRoll, bonusRoll, isZero(), isOpen(), isSpare(), turkey);
     }
 }
@@ -1,19 +1,19 @@
 package net.sattler22.bowling.model;
 
-import net.jcip.annotations.ThreadSafe;
+import net.jcip.annotations.Immutable;
 
 import java.util.Objects;
-import java.util.OptionalInt;
 
 /**
  * A Ten Pin Bowling {@code Frame} represents a series of opportunities for a bowler to throw the ball down the
- * lane and knock down the pins.
+ * lane and knock down the pins. Frames only hold the pins knocked down by each roll, so they are immutable and freely
+ * shared between games. The scores are kept by the game itself.
  *
  * @author Pete Sattler
  * @since July 2025
- * @version June 2026
+ * @version October 2026
  */
-@ThreadSafe
+@Immutable
 public abstract sealed class Frame permits DefaultFrame, FinalFrame {
 
     /**
@@ -27,8 +27,6 @@ public abstract sealed class Frame permits DefaultFrame, FinalFrame {
     protected final boolean open;
     protected final boolean spare;
     protected final boolean strike;
-    protected volatile int score = -1;
-    protected final Object lock = new Object();
 
     /**
      * Constructs a new {@code Frame}
@@ -51,19 +49,6 @@ public abstract sealed class Frame permits DefaultFrame, FinalFrame {
         this.spare = !this.strike && nbrPins1 + nbrPins2 == MAX_PINS;
     }
 
-    /**
-     * Copy an existing {@code Frame}
-     *
-     * @param source The source frame
-     * @return A copy of the source frame.
-     */
-    public static Frame copyOf(Frame source) {
-        return switch(source) {
-            case DefaultFrame defaultFrame -> new DefaultFrame(defaultFrame);
-            case FinalFrame finalFrame -> new FinalFrame(finalFrame);
-        };
-    }
-
     /**
      * Zero frame condition check
      *
@@ -100,24 +85,6 @@ public abstract sealed class Frame permits DefaultFrame, FinalFrame {
         return strike;
     }
 
-    /**
-     * Score condition check
-     *
-     * @return True if this frame has already been scored. Otherwise, returns false.
-     */
-    public final boolean hasScore() {
-        return score > -1;
-    }
-
-    /**
-     * Get score
-     *
-     * @return The optional score for this frame
-     */
-    public final OptionalInt score() {
-        return !hasScore() ? OptionalInt.empty() : OptionalInt.of(score);
-    }
-
     /**
      * Get first roll
      *
@@ -163,7 +130,7 @@ public abstract sealed class Frame permits DefaultFrame, FinalFrame {
 
     @Override
     public String toString() {
-        return String.format("%s [firstRoll=%d, secondRoll=%d, zero=%b, open=%b, spare=%b, strike=%b, score=%s]",
-                getClass().getSimpleName(), firstRoll, secondRoll, zero, open, spare, strike, score);
+        return String.format("%s [firstRoll=%d, secondRoll=%d, zero=%b, open=%b, spare=%b, strike=%b]",
+                getClass().getSimpleName(), firstRoll, secondRoll, zero, open, spare, strike);
     }
 }
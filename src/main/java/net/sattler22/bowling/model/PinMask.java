@@ -0,0 +1,179 @@
+package net.sattler22.bowling.model;
+
+import java.util.StringJoiner;
+
+/**
+ * Ten Pin Bowling Pin Mask
+ *
+ * <p>
+ * Modern pinsetters report exactly which pins are standing, not just how many fell. A pin mask packs them into the
+ * low ten bits of a {@code short}, pin #1 (the headpin) in bit 0 through pin #10 in bit 9, so counts, leaves and
+ * splits all come down to a few bitwise operations instead of object graphs:
+ * </p>
+ * <pre>
+ *   7   8   9   10
+ *     4   5   6
+ *       2   3
+ *         1
+ * </pre>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+public final class PinMask {
+
+    /**
+     * A full rack
+     */
+    public static final short ALL_PINS = (1 << Frame.MAX_PINS) - 1;
+
+    /**
+     * A cleared deck
+     */
+    public static final short NO_PINS = 0;
+
+    //Row and position across the lane (in half pin spacings) of each pin, headpin first:
+    private static final int[] ROWS = {0, 1, 1, 2, 2, 2, 3, 3, 3, 3};
+    private static final int[] POSITIONS = {0, -1, 1, -2, 0, 2, -3, -1, 1, 3};
+    private static final short[] NEIGHBORS = new short[Frame.MAX_PINS];
+    private static final long[] SPLITS = new long[(ALL_PINS + 1) / Long.SIZE];  //One bit per leave
+
+    static {
+        for (int pin = 0; pin < Frame.MAX_PINS; pin++)
+            for (int other = 0; other < Frame.MAX_PINS; other++)
+                if (Math.abs(ROWS[pin] - ROWS[other]) + Math.abs(POSITIONS[pin] - POSITIONS[other]) == 2)
+                    NEIGHBORS[pin] |= (short) (1 << other);  //Side by side in a row, or diagonally in the next one
+        for (int leave = 0; leave <= ALL_PINS; leave++)
+            if (splits((short) leave))
+                SPLITS[leave >>> 6] |= 1L << leave;
+    }
+
+    private PinMask() {
+    }
+
+    /**
+     * Get a pin mask
+     *
+     * @param pins The pin numbers (one through ten)
+     * @return The mask with just these pins
+     */
+    public static short of(int... pins) {
+        short mask = NO_PINS;
+        for (final int pin : pins) {
+            if (pin < 1 || pin > Frame.MAX_PINS)
+                throw new IllegalArgumentException("Invalid pin number");
+            mask |= (short) (1 << pin - 1);
+        }
+        return mask;
+    }
+
+    /**
+     * Valid mask condition check
+     *
+     * @param mask The pin mask
+     * @return True if only the ten pin bits are set. Otherwise, returns false.
+     */
+    public static boolean isValid(short mask) {
+        return (mask & ~ALL_PINS) == 0;
+    }
+
+    /**
+     * Get number of pins
+     *
+     * @param mask The pin mask
+     * @return The number of pins in the mask
+     */
+    public static int nbrPins(short mask) {
+        return Integer.bitCount(mask & ALL_PINS);
+    }
+
+    /**
+     * Standing pin condition check
+     *
+     * @param mask The pins standing
+     * @param pin The pin number (one through ten)
+     * @return True if the pin is standing. Otherwise, returns false.
+     */
+    public static boolean isStanding(short mask, int pin) {
+        if (pin < 1 || pin > Frame.MAX_PINS)
+            throw new IllegalArgumentException("Invalid pin number");
+        return (mask & 1 << pin - 1) != 0;
+    }
+
+    /**
+     * Get the pins knocked down by a roll
+     *
+     * @param standingBefore The pins standing before the roll
+     * @param standingAfter The pins standing after the roll
+     * @return The number of pins knocked down
+     */
+    public static int knockedDown(short standingBefore, short standingAfter) {
+        if (!isValid(standingBefore) || !isValid(standingAfter))
+            throw new IllegalArgumentException("Invalid pin mask");
+        if ((standingAfter & ~standingBefore) != 0)
+            throw new IllegalArgumentException("Knocked down pins cannot stand again");
+        return Integer.bitCount(standingBefore & ~standingAfter);
+    }
+
+    /**
+     * Split condition check
+     * <p>
+     * With the headpin down, a leave of two or more pins is a split when a pin is down between standing pins (the
+     * 7-10 or 4-6), or when the pin immediately ahead of two standing pins is down (the 5-6). Every leave is worked
+     * out once, so this is a single table lookup.
+     * </p>
+     *
+     * @param leave The pins standing after the first roll
+     * @return True if the leave is a split. Otherwise, returns false.
+     */
+    public static boolean isSplit(short leave) {
+        return isValid(leave) && (SPLITS[leave >>> 6] & 1L << leave) != 0;
+    }
+
+    private static boolean splits(short leave) {
+        if ((leave & 1) != 0 || Integer.bitCount(leave) < 2)
+            return false;
+        //Grow a group from the lowest standing pin through its standing neighbors; a gap leaves some pins out:
+        int group = Integer.lowestOneBit(leave);
+        int grown = group;
+        do {
+            group = grown;
+            for (int pins = group; pins != 0; pins &= pins - 1)
+                grown |= NEIGHBORS[Integer.numberOfTrailingZeros(pins)] & leave;
+        } while (grown != group);
+        if (group != leave)
+            return true;
+        for (int pin = 0; pin < Frame.MAX_PINS; pin++)
+            for (int other = pin + 1; other < Frame.MAX_PINS; other++)
+                if ((leave & 1 << pin) != 0 && (leave & 1 << other) != 0 && ROWS[pin] == ROWS[other]
+                        && POSITIONS[other] - POSITIONS[pin] == 2 && (leave & 1 << pinAhead(pin)) == 0)
+                    return true;
+        return false;
+    }
+
+    private static int pinAhead(int pin) {
+        for (int ahead = 0; ahead < Frame.MAX_PINS; ahead++)
+            if (ROWS[ahead] == ROWS[pin] - 1 && POSITIONS[ahead] == POSITIONS[pin] + 1)
+                return ahead;
+        throw new IllegalStateException("No pin ahead of pin #" + (pin + 1));
+    }
+
+    /**
+     * Get the name of a leave
+     *
+     * @param mask The pin mask
+     * @return The pin numbers joined by dashes (for example {@code 7-10}), or {@code -} for no pins
+     */
+    public static String toString(short mask) {
+        if (!isValid(mask))
+            throw new IllegalArgumentException("Invalid pin mask");
+        if (mask == NO_PINS)
+            return "-";
+        final StringJoiner pins = new StringJoiner("-");
+        for (int pin = 1; pin <= Frame.MAX_PINS; pin++)
+            if ((mask & 1 << pin - 1) != 0)
+                pins.add(Integer.toString(pin));
+        return pins.toString();
+    }
+}
@@ -0,0 +1,128 @@
+package net.sattler22.bowling.model;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A Ten Pin Bowling {@code ScoreChange} is a single change to the frame scores of a game. Either a frame was scored
+ * (or rescored after a correction), or a corrected frame left the frames from some index on unscored again.
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class ScoreChange {
+
+    /**
+     * Kind of score change
+     */
+    public enum Type {
+        /**
+         * A frame was scored (or rescored)
+         */
+        FRAME_SCORED,
+        /**
+         * The frames from the frame index on are no longer scored
+         */
+        FRAMES_UNSCORED
+    }
+
+    private final Type type;
+    private final int frameIndex;
+    private final int score;
+    private final ScoredFrame scoredFrame;
+
+    private ScoreChange(Type type, int frameIndex, int score, ScoredFrame scoredFrame) {
+        this.type = type;
+        this.frameIndex = frameIndex;
+        this.score = score;
+        this.scoredFrame = scoredFrame;
+    }
+
+    /**
+     * Frame scored factory method
+     *
+     * @param scoredFrame The {@link ScoredFrame}, as it was settled
+     * @return A new {@code ScoreChange}
+     */
+    public static ScoreChange scored(ScoredFrame scoredFrame) {
+        if (scoredFrame == null)
+            throw new IllegalArgumentException("Scored frame is required");
+        return new ScoreChange(Type.FRAME_SCORED, scoredFrame.index(), scoredFrame.score(), scoredFrame);
+    }
+
+    /**
+     * Frames unscored factory method
+     *
+     * @param frameIndex The zero-based index of the first frame that is no longer scored
+     * @param score The cumulative score through the frames still scored
+     * @return A new {@code ScoreChange}
+     */
+    public static ScoreChange unscored(int frameIndex, int score) {
+        if (frameIndex < 0)
+            throw new IllegalArgumentException("Invalid frame index");
+        if (score < 0)
+            throw new IllegalArgumentException("Score cannot be negative");
+        return new ScoreChange(Type.FRAMES_UNSCORED, frameIndex, score, null);
+    }
+
+    /**
+     * Get type
+     *
+     * @return The kind of score change
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Get frame index
+     *
+     * @return The zero-based index of the frame scored, or of the first frame unscored
+     */
+    public int frameIndex() {
+        return frameIndex;
+    }
+
+    /**
+     * Get score
+     *
+     * @return The cumulative score through the frame scored, or through the frames still scored
+     */
+    public int score() {
+        return score;
+    }
+
+    /**
+     * Get scored frame
+     *
+     * @return The optional {@link ScoredFrame} (empty if frames were unscored)
+     */
+    public Optional<ScoredFrame> scoredFrame() {
+        return Optional.ofNullable(scoredFrame);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, frameIndex, score, scoredFrame);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof ScoreChange that))
+            return false;
+        return this.type == that.type && this.frameIndex == that.frameIndex && this.score == that.score
+                && Objects.equals(this.scoredFrame, that.scoredFrame);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [type=%s, frameNbr=%d, score=%d, scoredFrame=%s]",
+                getClass().getSimpleName(), type, frameIndex + 1, score, scoredFrame);
+    }
+}
@@ -0,0 +1,87 @@
+package net.sattler22.bowling.model;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.Objects;
+
+/**
+ * A Ten Pin Bowling {@code ScoredFrame} pairs a {@link Frame} with its position in the game and the cumulative score
+ * the game has settled for it.
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class ScoredFrame {
+
+    private final int index;
+    private final Frame frame;
+    private final int score;
+
+    /**
+     * Constructs a new {@code ScoredFrame}
+     *
+     * @param index The zero-based frame index
+     * @param frame The scored frame
+     * @param score The cumulative score through this frame
+     */
+    public ScoredFrame(int index, Frame frame, int score) {
+        if (index < 0)
+            throw new IllegalArgumentException("Invalid frame index");
+        if (frame == null)
+            throw new IllegalArgumentException("Frame is required");
+        if (score < 0)
+            throw new IllegalArgumentException("Score cannot be negative");
+        this.index = index;
+        this.frame = frame;
+        this.score = score;
+    }
+
+    /**
+     * Get index
+     *
+     * @return The zero-based frame index
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Get frame
+     *
+     * @return The scored {@link Frame}
+     */
+    public Frame frame() {
+        return frame;
+    }
+
+    /**
+     * Get score
+     *
+     * @return The cumulative score through this frame
+     */
+    public int score() {
+        return score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, frame, score);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof ScoredFrame that))
+            return false;
+        return this.index == that.index && this.frame.equals(that.frame) && this.score == that.score;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [frameNbr=%d, frame=%s, score=%d]",
+                getClass().getSimpleName(), index + 1, frame, score);
+    }
+}
@@ -0,0 +1,261 @@
+package net.sattler22.bowling.server;
+
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.center.BowlingCenter;
+import net.sattler22.bowling.center.Lane;
+import net.sattler22.bowling.center.LaneScoreListener;
+import net.sattler22.bowling.core.Game;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ten Pin Bowling Score Broadcaster
+ *
+ * <p>
+ * Fans the live frame scores of every {@link Lane} out to any number of display subscribers as Server-Sent Events.
+ * Each score is encoded exactly once into a byte array that is shared by every subscriber of the lane, so the cost on
+ * the scoring thread does not grow with the number of clients beyond a non-blocking queue offer per subscriber.
+ * </p>
+ * <p>
+ * Every subscriber has its own bounded backlog. When a slow client lets its backlog fill up, the oldest pending
+ * event is dropped (and counted) to make room, so the scoring thread never blocks on a display.
+ * </p>
+ * <p>
+ * A corrected frame that leaves fewer frames scored is broadcast as an {@code unscored} event, naming the first frame
+ * to clear and the score through the frames still scored.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class ScoreBroadcaster implements LaneScoreListener, AutoCloseable {
+
+    /**
+     * Default number of events buffered per subscriber
+     */
+    public static final int DEFAULT_MAX_BACKLOG = 64;
+
+    //Never sent to a client, but tells a subscriber's writer that the broadcaster was closed:
+    private static final byte[] END_OF_STREAM = {};
+
+    private final BowlingCenter bowlingCenter;
+    private final int maxBacklog;
+    private final List<List<Subscriber>> subscribers;
+    private final LongAdder nbrDropped = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@code ScoreBroadcaster} listening to every lane of a bowling center
+     *
+     * @param bowlingCenter The bowling center to broadcast
+     * @param maxBacklog The maximum number of events buffered per subscriber
+     */
+    public ScoreBroadcaster(BowlingCenter bowlingCenter, int maxBacklog) {
+        if (bowlingCenter == null)
+            throw new IllegalArgumentException("Bowling center is required");
+        if (maxBacklog < 1)
+            throw new IllegalArgumentException("Invalid maximum backlog");
+        this.bowlingCenter = bowlingCenter;
+        this.maxBacklog = maxBacklog;
+        final List<List<Subscriber>> subscribers = new ArrayList<>(bowlingCenter.nbrLanes());
+        for (final Lane lane : bowlingCenter.lanes()) {
+            subscribers.add(new CopyOnWriteArrayList<>());
+            lane.addScoreListener(this);
+        }
+        this.subscribers = List.copyOf(subscribers);
+    }
+
+    @Override
+    public void frameScored(int laneNbr, Game game, int frameIndex, int score, int frameTotal) {
+        final List<Subscriber> laneSubscribers = subscribers.get(laneNbr - 1);
+        if (laneSubscribers.isEmpty())
+            return;  //Nobody is watching, so skip the encoding
+        final byte[] event = encode(laneNbr, game.playerName(), frameIndex, score, frameTotal);
+        for (final Subscriber subscriber : laneSubscribers)
+            subscriber.offer(event);
+    }
+
+    @Override
+    public void framesUnscored(int laneNbr, Game game, int frameIndex, int score) {
+        final List<Subscriber> laneSubscribers = subscribers.get(laneNbr - 1);
+        if (laneSubscribers.isEmpty())
+            return;
+        final byte[] event = encodeUnscored(laneNbr, game.playerName(), frameIndex, score);
+        for (final Subscriber subscriber : laneSubscribers)
+            subscriber.offer(event);
+    }
+
+    /**
+     * Subscribe to a lane
+     * <p>
+     * The new subscriber's backlog starts with every frame score already settled on the lane, so a display that
+     * connects mid-game is caught up right away. The catch-up runs under the lane's lock, so every live score that
+     * follows it is delivered in order and exactly once.
+     * </p>
+     *
+     * @param laneNbr The lane number
+     * @return The new {@link Subscriber}
+     */
+    public Subscriber subscribe(int laneNbr) {
+        if (closed)
+            throw new IllegalStateException("Score broadcaster is closed");
+        final Lane lane = bowlingCenter.lane(laneNbr);
+        final Subscriber subscriber = new Subscriber(laneNbr);
+        //Registered and caught up together, so no live score can overtake (or repeat) a replayed one:
+        lane.catchUp(games -> {
+            subscribers.get(laneNbr - 1).add(subscriber);
+            for (final Game game : games) {
+                for (int frameIndex = 0; frameIndex < game.nbrFrames(); frameIndex++) {
+                    final OptionalInt score = game.frameScore(frameIndex);
+                    if (score.isEmpty())
+                        break;
+                    subscriber.offer(encode(laneNbr, game.playerName(), frameIndex, score.getAsInt(),
+                            game.frame(frameIndex).total()));
+                }
+            }
+        });
+        return subscriber;
+    }
+
+    /**
+     * Unsubscribe from a lane
+     *
+     * @param subscriber The {@link Subscriber} to remove
+     * @return True if the subscriber was removed. Otherwise, returns false.
+     */
+    public boolean unsubscribe(Subscriber subscriber) {
+        return subscriber != null && subscribers.get(subscriber.laneNbr - 1).remove(subscriber);
+    }
+
+    /**
+     * Get number of dropped events
+     *
+     * @return The number of events dropped because a subscriber's backlog was full
+     */
+    public long nbrDropped() {
+        return nbrDropped.sum();
+    }
+
+    /**
+     * Stops listening to the lanes and ends every subscriber's stream
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (final Lane lane : bowlingCenter.lanes())
+            lane.removeScoreListener(this);
+        for (final List<Subscriber> laneSubscribers : subscribers) {
+            for (final Subscriber subscriber : laneSubscribers)
+                subscriber.end();
+            laneSubscribers.clear();
+        }
+    }
+
+    /**
+     * Encodes a single frame score as a complete Server-Sent Event
+     */
+    static byte[] encode(int laneNbr, String playerName, int frameIndex, int score, int frameTotal) {
+        final StringBuilder event = new StringBuilder(128).append("event: score\ndata: {\"laneNbr\":").append(laneNbr)
+                .append(",\"playerName\":");
+        ScoringServer.appendString(event, playerName);
+        event.append(",\"frameNbr\":").append(frameIndex + 1)
+                .append(",\"frameTotal\":").append(frameTotal)
+                .append(",\"score\":").append(score)
+                .append("}\n\n");
+        return event.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encodes the frames a correction left unscored as a complete Server-Sent Event (the display clears them)
+     */
+    static byte[] encodeUnscored(int laneNbr, String playerName, int frameIndex, int score) {
+        final StringBuilder event = new StringBuilder(128).append("event: unscored\ndata: {\"laneNbr\":")
+                .append(laneNbr).append(",\"playerName\":");
+        ScoringServer.appendString(event, playerName);
+        event.append(",\"frameNbr\":").append(frameIndex + 1)
+                .append(",\"score\":").append(score)
+                .append("}\n\n");
+        return event.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ten Pin Bowling Score Broadcaster Subscriber
+     *
+     * <p>
+     * The bounded backlog of encoded events waiting to be written to a single display client.
+     * </p>
+     */
+    @ThreadSafe
+    public final class Subscriber {
+
+        private final int laneNbr;
+        private final BlockingQueue<byte[]> backlog = new ArrayBlockingQueue<>(maxBacklog + 1);  //Room to end
+
+        private Subscriber(int laneNbr) {
+            this.laneNbr = laneNbr;
+        }
+
+        /**
+         * Get lane number
+         *
+         * @return The lane number subscribed to
+         */
+        public int laneNbr() {
+            return laneNbr;
+        }
+
+        private void offer(byte[] event) {
+            //Only the scoring thread or the subscribing thread (both under the lane lock) ever offers:
+            synchronized (backlog) {
+                while (backlog.size() >= maxBacklog) {
+                    backlog.poll();
+                    nbrDropped.increment();
+                }
+                backlog.offer(event);
+            }
+        }
+
+        private void end() {
+            synchronized (backlog) {
+                backlog.clear();
+                backlog.offer(END_OF_STREAM);
+            }
+        }
+
+        /**
+         * Wait for the next event
+         *
+         * @param timeout How long to wait
+         * @param unit The time unit of the timeout
+         * @return The encoded event, an empty array once the stream has ended, or null if the timeout elapsed
+         * @throws InterruptedException If interrupted while waiting
+         */
+        public byte[] poll(long timeout, TimeUnit unit) throws InterruptedException {
+            final byte[] event = backlog.poll(timeout, unit);
+            if (event == END_OF_STREAM)
+                backlog.offer(END_OF_STREAM);  //Stay ended
+            return event;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s [laneNbr=%s, backlog=%s]", getClass().getSimpleName(), laneNbr, backlog.size());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [bowlingCenter=%s, maxBacklog=%s, nbrDropped=%s]",
+                getClass().getSimpleName(), bowlingCenter, maxBacklog, nbrDropped());
+    }
+}
@@ -0,0 +1,337 @@
+package net.sattler22.bowling.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.center.BowlingCenter;
+import net.sattler22.bowling.center.Lane;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.metrics.ScoringMetrics;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import net.sattler22.bowling.model.ScoredFrame;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ten Pin Bowling Scoring Server
+ *
+ * <p>
+ * Lets pinsetter controllers post rolls and frames for a {@link BowlingCenter} over the local network, and lets
+ * displays stream the live scores back. Every exchange is handled on its own virtual thread, so a slow or idle client
+ * never ties up a platform thread. Requests use small plain text bodies and responses are JSON:
+ * <ul>
+ * <li>{@code POST /lanes/{laneNbr}/match} starts a match for the bowlers listed one per line</li>
+ * <li>{@code POST /lanes/{laneNbr}/players/{playerName}/rolls} adds a single roll (e.g. {@code 7})</li>
+ * <li>{@code POST /lanes/{laneNbr}/players/{playerName}/frames} adds a complete frame (e.g. {@code 7 3})</li>
+ * <li>{@code POST /lanes/{laneNbr}/players/{playerName}/frames/{frameNbr}} corrects a frame from the front desk</li>
+ * <li>{@code GET /lanes/{laneNbr}/scores} streams every frame score on the lane as Server-Sent Events</li>
+ * </ul>
+ * Rolls, frames and corrections respond with the frames whose scores were settled by the update.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class ScoringServer implements AutoCloseable {
+
+    /**
+     * Default port
+     */
+    public static final int DEFAULT_PORT = 8080;
+
+    /**
+     * Default number of lanes
+     */
+    public static final int DEFAULT_NBR_LANES = 48;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScoringServer.class);
+    private static final String CONTEXT_PATH = "/lanes/";
+    private static final int BACKLOG = 4096;
+    private static final int MAX_BODY_LENGTH = 1024;
+    private static final long HEARTBEAT_SECONDS = 15;
+    private static final byte[] CONNECTED = ": connected\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] HEARTBEAT = ": heartbeat\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_CREATED = 201;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_BAD_METHOD = 405;
+    private static final int HTTP_CONFLICT = 409;
+
+    private final BowlingCenter bowlingCenter;
+    private final ScoreBroadcaster scoreBroadcaster;
+    private final HttpServer httpServer;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Constructs a new {@code ScoringServer} bound to (but not yet accepting on) the given address
+     *
+     * @param bowlingCenter The bowling center to score
+     * @param address The address to listen on (port zero picks an ephemeral port)
+     * @throws IOException If the server could not bind to the address
+     */
+    public ScoringServer(BowlingCenter bowlingCenter, InetSocketAddress address) throws IOException {
+        if (bowlingCenter == null)
+            throw new IllegalArgumentException("Bowling center is required");
+        if (address == null)
+            throw new IllegalArgumentException("Address is required");
+        this.bowlingCenter = bowlingCenter;
+        this.scoreBroadcaster = new ScoreBroadcaster(bowlingCenter, ScoreBroadcaster.DEFAULT_MAX_BACKLOG);
+        this.httpServer = HttpServer.create(address, BACKLOG);
+        httpServer.createContext(CONTEXT_PATH, this::handle);
+        httpServer.setExecutor(executor);
+    }
+
+    /**
+     * Executes the Ten Pin Bowling Scoring Server
+     *
+     * @param args The optional port and number of lanes
+     * @throws IOException If the server could not be started
+     */
+    static void main(String[] args) throws IOException {
+        final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        final int nbrLanes = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_NBR_LANES;
+        final ScoringServer scoringServer =
+            new ScoringServer(new BowlingCenter("Bowling for Dollars", nbrLanes), new InetSocketAddress(port));
+        Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().unstarted(scoringServer::close));
+        ScoringMetrics.registerMBean();
+        scoringServer.start();
+    }
+
+    /**
+     * Start accepting connections
+     */
+    public void start() {
+        httpServer.start();
+        LOGGER.info("Scoring {} lanes on port {}", bowlingCenter.nbrLanes(), port());
+    }
+
+    /**
+     * Get port
+     *
+     * @return The port the server is listening on
+     */
+    public int port() {
+        return httpServer.getAddress().getPort();
+    }
+
+    /**
+     * Get score broadcaster
+     *
+     * @return The {@link ScoreBroadcaster} feeding the score streams
+     */
+    public ScoreBroadcaster scoreBroadcaster() {
+        return scoreBroadcaster;
+    }
+
+    /**
+     * End the score streams, stop accepting connections and wait for the exchanges in progress to finish
+     */
+    @Override
+    public void close() {
+        scoreBroadcaster.close();
+        httpServer.stop(0);
+        executor.close();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                dispatch(exchange);
+            }
+            catch (IllegalArgumentException illegalArgumentException) {
+                respond(exchange, HTTP_BAD_REQUEST, error(illegalArgumentException.getMessage()));
+            }
+            catch (IllegalStateException illegalStateException) {
+                respond(exchange, HTTP_CONFLICT, error(illegalStateException.getMessage()));
+            }
+        }
+    }
+
+    private void dispatch(HttpExchange exchange) throws IOException {
+        //Path: /lanes/{laneNbr}/(match|scores) or /lanes/{laneNbr}/players/{playerName}/(rolls|frames[/{frameNbr}])
+        final String[] segments = exchange.getRequestURI().getPath().substring(CONTEXT_PATH.length()).split("/");
+        final Lane lane;
+        try {
+            lane = bowlingCenter.lane(Integer.parseInt(segments[0]));
+        }
+        catch (IllegalArgumentException illegalArgumentException) {
+            respond(exchange, HTTP_NOT_FOUND, error("Unknown lane"));
+            return;
+        }
+        if (segments.length == 2 && "scores".equals(segments[1])) {
+            if (requireMethod(exchange, "GET"))
+                stream(exchange, lane.laneNbr());
+            return;
+        }
+        if (!requireMethod(exchange, "POST"))
+            return;
+        final String body = readBody(exchange);
+        if (segments.length == 2 && "match".equals(segments[1])) {
+            lane.startMatch(body.lines().map(String::strip).filter(line -> !line.isEmpty()).toList());
+            respond(exchange, HTTP_CREATED, matchJson(lane));
+        }
+        else if (segments.length == 4 && "players".equals(segments[1]) && "rolls".equals(segments[3])) {
+            final List<ScoredFrame> updatedFrames = lane.addRoll(segments[2], Integer.parseInt(body.strip()));
+            respond(exchange, HTTP_OK, scoreJson(lane, segments[2], updatedFrames));
+        }
+        else if (segments.length == 4 && "players".equals(segments[1]) && "frames".equals(segments[3])) {
+            final List<ScoredFrame> updatedFrames = lane.addFrame(segments[2], parseRolls(body));
+            respond(exchange, HTTP_OK, scoreJson(lane, segments[2], updatedFrames));
+        }
+        else if (segments.length == 5 && "players".equals(segments[1]) && "frames".equals(segments[3])) {
+            final List<ScoredFrame> updatedFrames =
+                    lane.correctFrame(segments[2], Integer.parseInt(segments[4]) - 1, parseRolls(body));
+            respond(exchange, HTTP_OK, scoreJson(lane, segments[2], updatedFrames));
+        }
+        else
+            respond(exchange, HTTP_NOT_FOUND, error("Unknown resource"));
+    }
+
+    private static boolean requireMethod(HttpExchange exchange, String method) throws IOException {
+        if (method.equals(exchange.getRequestMethod()))
+            return true;
+        exchange.getResponseHeaders().set("Allow", method);
+        respond(exchange, HTTP_BAD_METHOD, error("Only %s is supported".formatted(method)));
+        return false;
+    }
+
+    private void stream(HttpExchange exchange, int laneNbr) throws IOException {
+        final ScoreBroadcaster.Subscriber subscriber = scoreBroadcaster.subscribe(laneNbr);
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            exchange.sendResponseHeaders(HTTP_OK, 0);  //Chunked until the stream ends
+            final OutputStream outputStream = exchange.getResponseBody();
+            outputStream.write(CONNECTED);
+            outputStream.flush();
+            while (true) {
+                byte[] event = subscriber.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                if (event == null)
+                    outputStream.write(HEARTBEAT);  //Also detects clients that went away
+                //Write everything already waiting before flushing:
+                while (event != null && event.length > 0) {
+                    outputStream.write(event);
+                    event = subscriber.poll(0, TimeUnit.SECONDS);
+                }
+                outputStream.flush();
+                if (event != null)
+                    return;  //End of stream
+            }
+        }
+        catch (IOException ioException) {
+            LOGGER.debug("Score stream for lane #{} closed by the client", laneNbr);
+        }
+        catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            scoreBroadcaster.unsubscribe(subscriber);
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        final byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY_LENGTH + 1);
+        if (body.length > MAX_BODY_LENGTH)
+            throw new IllegalArgumentException("Request body is too large");
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static int[] parseRolls(String body) {
+        final String[] tokens = body.strip().split("\\s+");
+        final int[] rolls = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++)
+            rolls[i] = Integer.parseInt(tokens[i]);
+        return rolls;
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, String json) throws IOException {
+        final byte[] response = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(statusCode, response.length);
+        try (final OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(response);
+        }
+    }
+
+    private static String matchJson(Lane lane) {
+        final StringBuilder json = new StringBuilder("{\"laneNbr\":").append(lane.laneNbr()).append(",\"bowlers\":[");
+        final List<Game> games = lane.games();
+        for (int i = 0; i < games.size(); i++) {
+            if (i > 0)
+                json.append(',');
+            appendString(json, games.get(i).playerName());
+        }
+        return json.append("]}").toString();
+    }
+
+    private static String scoreJson(Lane lane, String playerName, List<ScoredFrame> updatedFrames) {
+        final StringBuilder json = new StringBuilder("{\"laneNbr\":").append(lane.laneNbr()).append(",\"playerName\":");
+        appendString(json, playerName);
+        json.append(",\"updatedFrames\":[");
+        for (int i = 0; i < updatedFrames.size(); i++) {
+            final ScoredFrame updatedFrame = updatedFrames.get(i);
+            if (i > 0)
+                json.append(',');
+            json.append("{\"frameNbr\":").append(updatedFrame.index() + 1).append(",\"rolls\":[");
+            appendRolls(json, updatedFrame.frame());
+            json.append("],\"score\":").append(updatedFrame.score()).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    private static void appendRolls(StringBuilder json, Frame frame) {
+        json.append(frame.firstRoll());
+        if (frame instanceof FinalFrame finalFrame) {
+            json.append(',').append(finalFrame.secondRoll());
+            if (FinalFrame.hasEarnedBonusRoll(finalFrame.firstRoll(), finalFrame.secondRoll()))
+                json.append(',').append(finalFrame.bonusRoll());
+        }
+        else if (!frame.isStrike())
+            json.append(',').append(frame.secondRoll());
+    }
+
+    private static String error(String message) {
+        final StringBuilder json = new StringBuilder("{\"error\":");
+        appendString(json, message == null ? "Bad request" : message);
+        return json.append('}').toString();
+    }
+
+    static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20)
+                        json.append("\\u%04x".formatted((int) c));
+                    else
+                        json.append(c);
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [bowlingCenter=%s, port=%s]", getClass().getSimpleName(), bowlingCenter, port());
+    }
+}
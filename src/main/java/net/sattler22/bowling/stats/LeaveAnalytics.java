@@ -0,0 +1,248 @@
+package net.sattler22.bowling.stats;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.sattler22.bowling.model.PinMask;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.OptionalDouble;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+/**
+ * Ten Pin Bowling Leave Analytics
+ *
+ * <p>
+ * Tallies spare conversions for every possible leave (the pins standing after the first roll of a frame). Frames are
+ * read from columns of {@link PinMask}s, one for the pins standing after each roll, so a whole archive is tallied
+ * with two counter arrays indexed by the leave itself: no frame objects are built, and a frame is converted when its
+ * second roll leaves no pins standing. Large archives are split across a fork/join pool and the counters merged.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@NotThreadSafe
+public final class LeaveAnalytics {
+
+    private static final int NBR_LEAVES = PinMask.ALL_PINS + 1;
+    private static final int FRAMES_PER_TASK = 1 << 16;
+
+    private final long[] nbrAttempts = new long[NBR_LEAVES];  //Strikes are tallied as the empty leave
+    private final long[] nbrConversions = new long[NBR_LEAVES];
+
+    /**
+     * Analyze an archive in parallel
+     *
+     * @param leaves The {@link PinMask}s of the pins standing after the first roll of each frame
+     * @param afterSecondRolls The {@link PinMask}s of the pins standing after the second roll of each frame
+     * @param pool The fork/join pool that tallies the frames
+     * @return The {@code LeaveAnalytics} of every frame
+     */
+    public static LeaveAnalytics of(short[] leaves, short[] afterSecondRolls, ForkJoinPool pool) {
+        validate(leaves, afterSecondRolls, 0, leaves == null ? 0 : leaves.length);
+        if (pool == null)
+            throw new IllegalArgumentException("Fork/join pool is required");
+        return pool.invoke(new TallyTask(leaves, afterSecondRolls, 0, leaves.length));
+    }
+
+    private static void validate(short[] leaves, short[] afterSecondRolls, int from, int to) {
+        if (leaves == null || afterSecondRolls == null)
+            throw new IllegalArgumentException("Pin masks are required");
+        if (leaves.length != afterSecondRolls.length)
+            throw new IllegalArgumentException("Every frame needs both pin masks");
+        if (from < 0 || to > leaves.length || from > to)
+            throw new IndexOutOfBoundsException("Invalid frame range");
+    }
+
+    /**
+     * Add a frame
+     *
+     * @param leave The {@link PinMask} of the pins standing after the first roll (no pins for a strike)
+     * @param afterSecondRoll The {@link PinMask} of the pins standing after the second roll
+     */
+    public void add(short leave, short afterSecondRoll) {
+        PinMask.knockedDown(leave, afterSecondRoll);  //Validates both masks
+        nbrAttempts[leave]++;
+        if (afterSecondRoll == PinMask.NO_PINS)
+            nbrConversions[leave]++;
+    }
+
+    /**
+     * Add a range of frames
+     *
+     * @param leaves The {@link PinMask}s of the pins standing after the first roll of each frame
+     * @param afterSecondRolls The {@link PinMask}s of the pins standing after the second roll of each frame
+     * @param from The first frame (inclusive)
+     * @param to The last frame (exclusive)
+     */
+    public void addAll(short[] leaves, short[] afterSecondRolls, int from, int to) {
+        validate(leaves, afterSecondRolls, from, to);
+        for (int index = from; index < to; index++) {
+            final int leave = leaves[index];
+            final int afterSecondRoll = afterSecondRolls[index];
+            //Only the ten pin bits may be set, and no pin may stand up again:
+            if (((leave | afterSecondRoll) & ~PinMask.ALL_PINS | afterSecondRoll & ~leave) != 0)
+                throw new IllegalArgumentException("Invalid pin masks for frame #%d".formatted(index));
+            nbrAttempts[leave]++;
+            nbrConversions[leave] += (afterSecondRoll - 1) >>> Integer.SIZE - 1;  //One only when no pins stand
+        }
+    }
+
+    /**
+     * Merge another tally into this one
+     *
+     * @param other The other {@code LeaveAnalytics}
+     */
+    public void merge(LeaveAnalytics other) {
+        for (int leave = 0; leave < NBR_LEAVES; leave++) {
+            nbrAttempts[leave] += other.nbrAttempts[leave];
+            nbrConversions[leave] += other.nbrConversions[leave];
+        }
+    }
+
+    /**
+     * Get number of strikes
+     *
+     * @return The number of frames with nothing left to convert
+     */
+    public long nbrStrikes() {
+        return nbrAttempts[PinMask.NO_PINS];
+    }
+
+    /**
+     * Get number of spare attempts
+     *
+     * @param leave The {@link PinMask} of the leave
+     * @return The number of frames with this leave
+     */
+    public long nbrAttempts(short leave) {
+        return nbrAttempts[checkLeave(leave)];
+    }
+
+    /**
+     * Get number of conversions
+     *
+     * @param leave The {@link PinMask} of the leave
+     * @return The number of frames with this leave that were converted to a spare
+     */
+    public long nbrConversions(short leave) {
+        return nbrConversions[checkLeave(leave)];
+    }
+
+    private static int checkLeave(short leave) {
+        if (!PinMask.isValid(leave) || leave == PinMask.NO_PINS)
+            throw new IllegalArgumentException("Invalid leave");
+        return leave;
+    }
+
+    /**
+     * Get the conversion rate of a leave
+     *
+     * @param leave The {@link PinMask} of the leave
+     * @return The optional share of frames with this leave that were converted (empty if the leave never came up)
+     */
+    public OptionalDouble conversionRate(short leave) {
+        final int index = checkLeave(leave);
+        return rate(nbrConversions[index], nbrAttempts[index]);
+    }
+
+    /**
+     * Get the overall conversion rate
+     *
+     * @return The optional share of all spare attempts that were converted (empty if there were none)
+     */
+    public OptionalDouble conversionRate() {
+        long attempts = 0;
+        long conversions = 0;
+        for (int leave = 1; leave < NBR_LEAVES; leave++) {
+            attempts += nbrAttempts[leave];
+            conversions += nbrConversions[leave];
+        }
+        return rate(conversions, attempts);
+    }
+
+    /**
+     * Get the split conversion rate
+     *
+     * @return The optional share of all splits that were converted (empty if there were none)
+     */
+    public OptionalDouble splitConversionRate() {
+        long attempts = 0;
+        long conversions = 0;
+        for (int leave = 1; leave < NBR_LEAVES; leave++) {
+            if (PinMask.isSplit((short) leave)) {
+                attempts += nbrAttempts[leave];
+                conversions += nbrConversions[leave];
+            }
+        }
+        return rate(conversions, attempts);
+    }
+
+    private static OptionalDouble rate(long conversions, long attempts) {
+        return attempts == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) conversions / attempts);
+    }
+
+    /**
+     * Get the most common leaves
+     *
+     * @param k The maximum number of leaves
+     * @return The {@link PinMask}s of up to {@code k} leaves that came up, most frequent first
+     */
+    public short[] mostCommonLeaves(int k) {
+        if (k < 0)
+            throw new IllegalArgumentException("Invalid number of leaves");
+        final int[] leaves = IntStream.range(1, NBR_LEAVES)
+                .filter(leave -> nbrAttempts[leave] > 0)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(leave -> nbrAttempts[leave]).reversed())
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        final short[] masks = new short[leaves.length];
+        for (int index = 0; index < leaves.length; index++)
+            masks[index] = (short) leaves[index];
+        return masks;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [nbrFrames=%s, nbrStrikes=%s, conversionRate=%s]", getClass().getSimpleName(),
+                Arrays.stream(nbrAttempts).sum(), nbrStrikes(), conversionRate());
+    }
+
+    /**
+     * Tallies a range of frames, splitting it in half until it is small enough to tally directly
+     */
+    private static final class TallyTask extends RecursiveTask<LeaveAnalytics> {
+
+        private final short[] leaves;
+        private final short[] afterSecondRolls;
+        private final int from;
+        private final int to;
+
+        private TallyTask(short[] leaves, short[] afterSecondRolls, int from, int to) {
+            this.leaves = leaves;
+            this.afterSecondRolls = afterSecondRolls;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LeaveAnalytics compute() {
+            if (to - from > FRAMES_PER_TASK) {
+                final int middle = (from + to) >>> 1;
+                final TallyTask left = new TallyTask(leaves, afterSecondRolls, from, middle);
+                left.fork();
+                final LeaveAnalytics analytics = new TallyTask(leaves, afterSecondRolls, middle, to).compute();
+                analytics.merge(left.join());
+                return analytics;
+            }
+            final LeaveAnalytics analytics = new LeaveAnalytics();
+            analytics.addAll(leaves, afterSecondRolls, from, to);
+            return analytics;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package net.sattler22.bowling.stats;
+
+import net.sattler22.bowling.model.Frame;
+
+/**
+ * Ten Pin Bowling Roll Distribution
+ *
+ * <p>
+ * The chance of each roll outcome for a bowler: how likely it is to knock down a given number of pins when a given
+ * number of pins are standing. For every number of pins standing (one through {@value Frame#MAX_PINS}), the
+ * probabilities of knocking down zero through all of them must add up to one.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@FunctionalInterface
+public interface RollDistribution {
+
+    /**
+     * Get a roll probability
+     *
+     * @param pinsStanding The number of pins standing before the roll
+     * @param nbrPins The number of pins knocked down (from zero through the number of pins standing)
+     * @return The probability of knocking down exactly that many pins
+     */
+    double probability(int pinsStanding, int nbrPins);
+
+    /**
+     * Every outcome equally likely
+     *
+     * @return A {@code RollDistribution} where each number of pins knocked down is equally likely
+     */
+    static RollDistribution uniform() {
+        return (pinsStanding, nbrPins) -> 1.0 / (pinsStanding + 1);
+    }
+}
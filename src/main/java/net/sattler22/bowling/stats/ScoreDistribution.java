@@ -0,0 +1,93 @@
+package net.sattler22.bowling.stats;
+
+import net.jcip.annotations.Immutable;
+import net.sattler22.bowling.core.Game;
+
+/**
+ * Ten Pin Bowling Score Distribution
+ *
+ * <p>
+ * The probability of every final score of a complete game, from zero through {@value #MAX_SCORE}.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class ScoreDistribution {
+
+    /**
+     * The highest possible score (a perfect game)
+     */
+    public static final int MAX_SCORE = 30 * Game.MAX_FRAMES;
+
+    private final double[] probabilities;
+    private final double[] tailProbabilities;  //tailProbabilities[score] is the chance of at least that score
+
+    /**
+     * Constructs a new {@code ScoreDistribution}
+     *
+     * @param probabilities The probability of each score, indexed by score
+     */
+    ScoreDistribution(double[] probabilities) {
+        this.probabilities = probabilities;
+        this.tailProbabilities = new double[MAX_SCORE + 2];
+        for (int score = MAX_SCORE; score >= 0; score--)
+            tailProbabilities[score] = tailProbabilities[score + 1] + probabilities[score];
+    }
+
+    private static void validate(int score) {
+        if (score < 0 || score > MAX_SCORE)
+            throw new IllegalArgumentException("Invalid score");
+    }
+
+    /**
+     * Get a score probability
+     *
+     * @param score The final score
+     * @return The probability of finishing with exactly this score
+     */
+    public double probability(int score) {
+        validate(score);
+        return probabilities[score];
+    }
+
+    /**
+     * Get a tail probability
+     *
+     * @param score The final score
+     * @return The probability of finishing with at least this score
+     */
+    public double atLeast(int score) {
+        validate(score);
+        return tailProbabilities[score];
+    }
+
+    /**
+     * Get mean
+     *
+     * @return The expected final score
+     */
+    public double mean() {
+        double mean = 0;
+        for (int score = 1; score <= MAX_SCORE; score++)
+            mean += score * probabilities[score];
+        return mean;
+    }
+
+    /**
+     * Get probabilities
+     *
+     * @return A copy of the probability of each score, indexed by score
+     */
+    public double[] toArray() {
+        return probabilities.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [mean=%.1f, atLeast200=%.3g, perfect=%.3g]",
+                getClass().getSimpleName(), mean(), atLeast(200), probabilities[MAX_SCORE]);
+    }
+}
@@ -0,0 +1,223 @@
+package net.sattler22.bowling.stats;
+
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.sattler22.bowling.stats.ScoreDistribution.MAX_SCORE;
+
+/**
+ * Ten Pin Bowling Score Distribution Calculator
+ *
+ * <p>
+ * Computes exact score distributions by dynamic programming over frame states instead of enumerating games. After
+ * each frame, all that matters for the rest of the game is the running score and the bonus still owed to the next two
+ * rolls, which can only be one of four kinds: none, a spare (the next roll counts twice), a strike (the next two rolls
+ * count twice) or a double (the next roll counts three times and the one after it twice). So every frame maps at
+ * most four times {@value ScoreDistribution#MAX_SCORE} states onto the next ones, once per legal frame.
+ * </p>
+ * <p>
+ * The legal frames are found once, by asking {@link DefaultFrame} and {@link FinalFrame} which rolls they accept.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class ScoreDistributionCalculator {
+
+    //Extra times the next roll (and the roll after it) count, per bonus state (none, spare, strike, double):
+    private static final int[] NEXT_ROLL_BONUS = {0, 1, 1, 2};
+    private static final int[] SECOND_ROLL_BONUS = {0, 0, 1, 1};
+    private static final int NO_BONUS = 0;
+    private static final int SPARE_BONUS = 1;
+    private static final int STRIKE_BONUS = 2;
+    private static final int DOUBLE_BONUS = 3;
+    private static final int NBR_BONUS_STATES = NEXT_ROLL_BONUS.length;
+    private static final Frame[] FRAMES = legalFrames(false);
+    private static final Frame[] FINAL_FRAMES = legalFrames(true);
+    private static final long[] GAME_COUNTS = countGames();
+
+    private ScoreDistributionCalculator() {
+    }
+
+    private static Frame[] legalFrames(boolean finalFrame) {
+        final List<Frame> frames = new ArrayList<>();
+        for (int nbrPins1 = 0; nbrPins1 <= Frame.MAX_PINS; nbrPins1++)
+            for (int nbrPins2 = 0; nbrPins2 <= Frame.MAX_PINS; nbrPins2++)
+                for (int bonusNbrPins = 0; bonusNbrPins <= (finalFrame ? Frame.MAX_PINS : 0); bonusNbrPins++) {
+                    try {
+                        frames.add(finalFrame ? FinalFrame.of(nbrPins1, nbrPins2, bonusNbrPins)
+                                : DefaultFrame.of(nbrPins1, nbrPins2));
+                    }
+                    catch (IllegalArgumentException illegalFrame) {
+                        //Not a frame the rules allow
+                    }
+                }
+        return frames.toArray(new Frame[0]);
+    }
+
+    /**
+     * Get the points a frame adds to the running score, including the bonus it pays to earlier frames
+     */
+    private static int points(Frame frame, int bonusState) {
+        final int points = (1 + NEXT_ROLL_BONUS[bonusState]) * frame.firstRoll();
+        if (frame instanceof FinalFrame finalFrame)
+            return points + (1 + SECOND_ROLL_BONUS[bonusState]) * finalFrame.secondRoll() + finalFrame.bonusRoll();
+        if (frame.isStrike())
+            return points;
+        return points + (1 + SECOND_ROLL_BONUS[bonusState]) * frame.secondRoll();
+    }
+
+    /**
+     * Get the bonus owed after a (non-final) frame
+     */
+    private static int nextBonusState(Frame frame, int bonusState) {
+        if (frame.isStrike())
+            return SECOND_ROLL_BONUS[bonusState] == 0 ? STRIKE_BONUS : DOUBLE_BONUS;
+        return frame.isSpare() ? SPARE_BONUS : NO_BONUS;
+    }
+
+    private static long[] countGames() {
+        long[][] counts = new long[NBR_BONUS_STATES][MAX_SCORE + 1];
+        counts[NO_BONUS][0] = 1;
+        for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES - 1; frameIndex++) {
+            final long[][] nextCounts = new long[NBR_BONUS_STATES][MAX_SCORE + 1];
+            for (int bonusState = 0; bonusState < NBR_BONUS_STATES; bonusState++)
+                for (int score = 0; score <= MAX_SCORE; score++) {
+                    final long count = counts[bonusState][score];
+                    if (count == 0)
+                        continue;
+                    for (final Frame frame : FRAMES)
+                        nextCounts[nextBonusState(frame, bonusState)][score + points(frame, bonusState)] += count;
+                }
+            counts = nextCounts;
+        }
+        final long[] gameCounts = new long[MAX_SCORE + 1];
+        for (int bonusState = 0; bonusState < NBR_BONUS_STATES; bonusState++)
+            for (int score = 0; score <= MAX_SCORE; score++)
+                if (counts[bonusState][score] != 0)
+                    for (final Frame frame : FINAL_FRAMES) {
+                        final int finalScore = score + points(frame, bonusState);
+                        gameCounts[finalScore] = Math.addExact(gameCounts[finalScore], counts[bonusState][score]);
+                    }
+        return gameCounts;
+    }
+
+    /**
+     * Count legal games
+     *
+     * @return The number of distinct legal games finishing with each score, indexed by score
+     */
+    public static long[] gameCounts() {
+        return GAME_COUNTS.clone();
+    }
+
+    /**
+     * Count all legal games
+     *
+     * @return The number of distinct legal (complete) games
+     */
+    public static long nbrGames() {
+        long nbrGames = 0;
+        for (final long gameCount : GAME_COUNTS)
+            nbrGames = Math.addExact(nbrGames, gameCount);
+        return nbrGames;
+    }
+
+    /**
+     * Get the score distribution of all legal games, each of them equally likely
+     *
+     * @return The {@link ScoreDistribution}
+     */
+    public static ScoreDistribution legalGames() {
+        final double nbrGames = nbrGames();
+        final double[] probabilities = new double[MAX_SCORE + 1];
+        for (int score = 0; score <= MAX_SCORE; score++)
+            probabilities[score] = GAME_COUNTS[score] / nbrGames;
+        return new ScoreDistribution(probabilities);
+    }
+
+    /**
+     * Get the score distribution of a bowler
+     *
+     * @param rollDistribution The chance of each roll outcome
+     * @return The {@link ScoreDistribution}
+     */
+    public static ScoreDistribution of(RollDistribution rollDistribution) {
+        if (rollDistribution == null)
+            throw new IllegalArgumentException("Roll distribution is required");
+        final double[][] rollProbabilities = rollProbabilities(rollDistribution);
+        double[][] probabilities = new double[NBR_BONUS_STATES][MAX_SCORE + 1];
+        probabilities[NO_BONUS][0] = 1;
+        for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES - 1; frameIndex++) {
+            final double[][] nextProbabilities = new double[NBR_BONUS_STATES][MAX_SCORE + 1];
+            for (int bonusState = 0; bonusState < NBR_BONUS_STATES; bonusState++)
+                for (int score = 0; score <= MAX_SCORE; score++) {
+                    final double probability = probabilities[bonusState][score];
+                    if (probability == 0)
+                        continue;
+                    for (final Frame frame : FRAMES)
+                        nextProbabilities[nextBonusState(frame, bonusState)][score + points(frame, bonusState)] +=
+                                probability * probability(frame, rollProbabilities);
+                }
+            probabilities = nextProbabilities;
+        }
+        final double[] scoreProbabilities = new double[MAX_SCORE + 1];
+        for (int bonusState = 0; bonusState < NBR_BONUS_STATES; bonusState++)
+            for (int score = 0; score <= MAX_SCORE; score++)
+                if (probabilities[bonusState][score] != 0)
+                    for (final Frame frame : FINAL_FRAMES)
+                        scoreProbabilities[score + points(frame, bonusState)] +=
+                                probabilities[bonusState][score] * probability(frame, rollProbabilities);
+        return new ScoreDistribution(scoreProbabilities);
+    }
+
+    /**
+     * Tabulate and check the roll distribution, indexed by pins standing and then pins knocked down
+     */
+    private static double[][] rollProbabilities(RollDistribution rollDistribution) {
+        final double[][] rollProbabilities = new double[Frame.MAX_PINS + 1][];
+        rollProbabilities[0] = new double[] {1};  //Nothing left to knock down
+        for (int pinsStanding = 1; pinsStanding <= Frame.MAX_PINS; pinsStanding++) {
+            rollProbabilities[pinsStanding] = new double[pinsStanding + 1];
+            double total = 0;
+            for (int nbrPins = 0; nbrPins <= pinsStanding; nbrPins++) {
+                final double probability = rollDistribution.probability(pinsStanding, nbrPins);
+                if (!(probability >= 0 && probability <= 1))
+                    throw new IllegalArgumentException("Invalid roll probability");
+                rollProbabilities[pinsStanding][nbrPins] = probability;
+                total += probability;
+            }
+            if (Math.abs(total - 1) > 1e-9)
+                throw new IllegalArgumentException(
+                        "Roll probabilities with %d pins standing must add up to one".formatted(pinsStanding));
+        }
+        return rollProbabilities;
+    }
+
+    /**
+     * Get the chance of rolling a frame
+     */
+    private static double probability(Frame frame, double[][] rollProbabilities) {
+        final int firstRoll = frame.firstRoll();
+        double probability = rollProbabilities[Frame.MAX_PINS][firstRoll];
+        if (frame instanceof FinalFrame finalFrame) {
+            final int pinsStanding = firstRoll == Frame.MAX_PINS ? Frame.MAX_PINS : Frame.MAX_PINS - firstRoll;
+            probability *= rollProbabilities[pinsStanding][finalFrame.secondRoll()];
+            if (FinalFrame.hasEarnedBonusRoll(firstRoll, finalFrame.secondRoll()))
+                probability *= rollProbabilities[FinalFrame.bonusPinsStanding(firstRoll, finalFrame.secondRoll())]
+                        [finalFrame.bonusRoll()];
+            return probability;
+        }
+        if (frame.isStrike())
+            return probability;
+        return probability * rollProbabilities[Frame.MAX_PINS - firstRoll][frame.secondRoll()];
+    }
+}
@@ -0,0 +1,336 @@
+package net.sattler22.bowling.store;
+
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ten Pin Bowling Game Store
+ *
+ * <p>
+ * Keeps a whole season of scored games off the Java heap. Games are stored in fixed-size blocks of native memory
+ * allocated from a shared {@link Arena}. Every block holds one column per field (struct-of-arrays), so a scan over a
+ * single field, such as the final score, reads contiguous memory. The heap only holds one segment reference per
+ * block, no matter how many games are stored.
+ * </p>
+ * <p>
+ * Each game takes {@value #BYTES_PER_GAME} bytes:
+ * <ul>
+ * <li>{@code long} player id</li>
+ * <li>{@code long} nibbles of rolls #1-16 and {@code int} nibbles of rolls #17-21 (see {@link PackedGame})</li>
+ * <li>{@code short} final score (the score of the last scored frame)</li>
+ * <li>{@code short} cumulative score of each of the {@value Game#MAX_FRAMES} frames</li>
+ * <li>{@code byte} number of rolls and {@code byte} number of scored frames</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Games are appended by one thread at a time, while any number of threads may read every game appended before the
+ * last published size.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class GameStore implements AutoCloseable {
+
+    /**
+     * Bytes of native memory used per game
+     */
+    public static final int BYTES_PER_GAME = 2 * Long.BYTES + Integer.BYTES + (1 + Game.MAX_FRAMES) * Short.BYTES + 2;
+
+    /**
+     * Default number of games per block
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 16;
+
+    private final Arena arena = Arena.ofShared();
+    private final int blockSize;
+    private final int blockShift;
+    //Column offsets within a block:
+    private final long playerIdOffset;
+    private final long lowOffset;
+    private final long highOffset;
+    private final long scoreOffset;
+    private final long frameScoresOffset;
+    private final long nbrRollsOffset;
+    private final long nbrScoredFramesOffset;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    @GuardedBy("appendLock")
+    private final int[] frameScores = new int[Game.MAX_FRAMES];
+    @GuardedBy("appendLock")
+    private boolean closed;
+    private volatile MemorySegment[] blocks = new MemorySegment[0];  //Copy on grow
+    private volatile long size;
+
+    /**
+     * Constructs a new {@code GameStore} with the default block size
+     */
+    public GameStore() {
+        this(DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Constructs a new {@code GameStore}
+     *
+     * @param blockSize The number of games per block (a power of two, at least eight)
+     */
+    public GameStore(int blockSize) {
+        if (blockSize < 8 || Integer.bitCount(blockSize) != 1)
+            throw new IllegalArgumentException("Block size must be a power of two of at least eight");
+        this.blockSize = blockSize;
+        this.blockShift = Integer.numberOfTrailingZeros(blockSize);
+        //Widest columns first, so every column is naturally aligned:
+        this.playerIdOffset = 0;
+        this.lowOffset = playerIdOffset + (long) Long.BYTES * blockSize;
+        this.highOffset = lowOffset + (long) Long.BYTES * blockSize;
+        this.scoreOffset = highOffset + (long) Integer.BYTES * blockSize;
+        this.frameScoresOffset = scoreOffset + (long) Short.BYTES * blockSize;
+        this.nbrRollsOffset = frameScoresOffset + (long) Short.BYTES * Game.MAX_FRAMES * blockSize;
+        this.nbrScoredFramesOffset = nbrRollsOffset + blockSize;
+    }
+
+    /**
+     * Append a game
+     *
+     * @param playerId The player id
+     * @param game The game to append
+     * @return The index of the new game
+     */
+    public long append(long playerId, Game game) {
+        return append(playerId, PackedGame.of(game));
+    }
+
+    /**
+     * Append a packed game
+     *
+     * @param playerId The player id
+     * @param packedGame The packed game to append
+     * @return The index of the new game
+     */
+    public long append(long playerId, PackedGame packedGame) {
+        if (packedGame == null)
+            throw new IllegalArgumentException("Packed game is required");
+        return append(playerId, packedGame.low(), packedGame.high(), packedGame.nbrRolls());
+    }
+
+    /**
+     * Append rolls that are already packed (and validated) without allocating
+     *
+     * @param playerId The player id
+     * @param low The nibbles of the first 16 rolls
+     * @param high The nibbles of the remaining rolls
+     * @param nbrRolls The number of rolls
+     * @return The index of the new game
+     */
+    public long append(long playerId, long low, long high, int nbrRolls) {
+        if (nbrRolls < 0 || nbrRolls > Game.MAX_ROLLS)
+            throw new IllegalArgumentException("Invalid number of rolls");
+        appendLock.lock();
+        try {
+            if (closed)
+                throw new IllegalStateException("Game store is closed");
+            final long index = size;
+            final int slot = (int) (index & (blockSize - 1));
+            if (slot == 0)
+                addBlock();
+            final MemorySegment block = blocks[(int) (index >>> blockShift)];
+            final int nbrScoredFrames = PackedGame.score(low, high, nbrRolls, frameScores);
+            block.setAtIndex(ValueLayout.JAVA_LONG, playerIdOffset / Long.BYTES + slot, playerId);
+            block.setAtIndex(ValueLayout.JAVA_LONG, lowOffset / Long.BYTES + slot, low);
+            block.setAtIndex(ValueLayout.JAVA_INT, highOffset / Integer.BYTES + slot, (int) high);
+            block.setAtIndex(ValueLayout.JAVA_SHORT, scoreOffset / Short.BYTES + slot,
+                    (short) (nbrScoredFrames == 0 ? 0 : frameScores[nbrScoredFrames - 1]));
+            for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES; frameIndex++) {
+                final long frameSlot = frameScoresOffset / Short.BYTES + (long) frameIndex * blockSize + slot;
+                block.setAtIndex(ValueLayout.JAVA_SHORT, frameSlot,
+                        (short) (frameIndex < nbrScoredFrames ? frameScores[frameIndex] : 0));
+            }
+            block.set(ValueLayout.JAVA_BYTE, nbrRollsOffset + slot, (byte) nbrRolls);
+            block.set(ValueLayout.JAVA_BYTE, nbrScoredFramesOffset + slot, (byte) nbrScoredFrames);
+            size = index + 1;  //Publish the new game
+            return index;
+        }
+        finally {
+            appendLock.unlock();
+        }
+    }
+
+    @GuardedBy("appendLock")
+    private void addBlock() {
+        final MemorySegment block = arena.allocate((long) BYTES_PER_GAME * blockSize, Long.BYTES);
+        final MemorySegment[] newBlocks = Arrays.copyOf(blocks, blocks.length + 1);
+        newBlocks[blocks.length] = block;
+        blocks = newBlocks;
+    }
+
+    /**
+     * Get size
+     *
+     * @return The number of games stored
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Get off-heap size
+     *
+     * @return The number of bytes of native memory reserved for the games
+     */
+    public long nbrBytes() {
+        return (long) blocks.length * BYTES_PER_GAME * blockSize;
+    }
+
+    private MemorySegment block(long index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Game index %d out of bounds".formatted(index));
+        return blocks[(int) (index >>> blockShift)];
+    }
+
+    private int slot(long index) {
+        return (int) (index & (blockSize - 1));
+    }
+
+    /**
+     * Get player id
+     *
+     * @param index The zero-based game index
+     * @return The player id of the game
+     */
+    public long playerId(long index) {
+        return block(index).getAtIndex(ValueLayout.JAVA_LONG, playerIdOffset / Long.BYTES + slot(index));
+    }
+
+    /**
+     * Get score
+     *
+     * @param index The zero-based game index
+     * @return The score of the last scored frame of the game (zero if none were scored)
+     */
+    public int score(long index) {
+        return block(index).getAtIndex(ValueLayout.JAVA_SHORT, scoreOffset / Short.BYTES + slot(index));
+    }
+
+    /**
+     * Get number of scored frames
+     *
+     * @param index The zero-based game index
+     * @return The number of frames scored in the game
+     */
+    public int nbrScoredFrames(long index) {
+        return block(index).get(ValueLayout.JAVA_BYTE, nbrScoredFramesOffset + slot(index));
+    }
+
+    /**
+     * Get a frame score
+     *
+     * @param index The zero-based game index
+     * @param frameIndex The zero-based frame index
+     * @return The cumulative score through the frame of the game
+     */
+    public int frameScore(long index, int frameIndex) {
+        if (frameIndex < 0 || frameIndex >= nbrScoredFrames(index))
+            throw new IndexOutOfBoundsException(frameIndex);
+        return block(index).getAtIndex(ValueLayout.JAVA_SHORT,
+                frameScoresOffset / Short.BYTES + (long) frameIndex * blockSize + slot(index));
+    }
+
+    /**
+     * Unpack a game
+     *
+     * @param index The zero-based game index
+     * @return A new {@link PackedGame} holding all rolls of the game
+     */
+    public PackedGame toPackedGame(long index) {
+        final MemorySegment block = block(index);
+        final int slot = slot(index);
+        return PackedGame.of(block.getAtIndex(ValueLayout.JAVA_LONG, lowOffset / Long.BYTES + slot),
+                Integer.toUnsignedLong(block.getAtIndex(ValueLayout.JAVA_INT, highOffset / Integer.BYTES + slot)),
+                block.get(ValueLayout.JAVA_BYTE, nbrRollsOffset + slot));
+    }
+
+    /**
+     * Scan every game
+     * <p>
+     * Only the player id and final score columns are read, one block at a time.
+     * </p>
+     *
+     * @param visitor Receives every game in index order
+     */
+    public void scan(ScoreVisitor visitor) {
+        if (visitor == null)
+            throw new IllegalArgumentException("Score visitor is required");
+        final long currentSize = size;  //Read before the blocks, which are published first
+        final MemorySegment[] currentBlocks = blocks;
+        for (int blockIndex = 0; (long) blockIndex * blockSize < currentSize; blockIndex++) {
+            final MemorySegment block = currentBlocks[blockIndex];
+            final long firstIndex = (long) blockIndex * blockSize;
+            final int nbrGames = (int) Math.min(blockSize, currentSize - firstIndex);
+            for (int slot = 0; slot < nbrGames; slot++)
+                visitor.visit(firstIndex + slot,
+                        block.getAtIndex(ValueLayout.JAVA_LONG, playerIdOffset / Long.BYTES + slot),
+                        block.getAtIndex(ValueLayout.JAVA_SHORT, scoreOffset / Short.BYTES + slot));
+        }
+    }
+
+    /**
+     * Get total score
+     *
+     * @return The sum of the final scores of every game
+     */
+    public long totalScore() {
+        final long currentSize = size;  //Read before the blocks, which are published first
+        final MemorySegment[] currentBlocks = blocks;
+        long totalScore = 0;
+        for (int blockIndex = 0; (long) blockIndex * blockSize < currentSize; blockIndex++) {
+            final MemorySegment block = currentBlocks[blockIndex];
+            final int nbrGames = (int) Math.min(blockSize, currentSize - (long) blockIndex * blockSize);
+            for (int slot = 0; slot < nbrGames; slot++)
+                totalScore += block.getAtIndex(ValueLayout.JAVA_SHORT, scoreOffset / Short.BYTES + slot);
+        }
+        return totalScore;
+    }
+
+    /**
+     * Get score histogram
+     *
+     * @return The number of games with each final score, indexed by score (from zero through 300)
+     */
+    public long[] scoreHistogram() {
+        final long[] histogram = new long[301];
+        scan((index, playerId, score) -> histogram[score]++);
+        return histogram;
+    }
+
+    /**
+     * Free all native memory (reading a game afterwards throws an {@link IllegalStateException})
+     */
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (closed)
+                return;
+            closed = true;
+            arena.close();
+        }
+        finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [size=%s, blockSize=%s, nbrBytes=%s]",
+                getClass().getSimpleName(), size, blockSize, nbrBytes());
+    }
+}
@@ -0,0 +1,25 @@
+package net.sattler22.bowling.store;
+
+/**
+ * Ten Pin Bowling Score Visitor
+ *
+ * <p>
+ * Receives the final score of every game during a {@link GameStore} scan, with primitive arguments only.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@FunctionalInterface
+public interface ScoreVisitor {
+
+    /**
+     * Game visited notification
+     *
+     * @param index The zero-based game index
+     * @param playerId The player id
+     * @param score The final score of the game
+     */
+    void visit(long index, long playerId, int score);
+}
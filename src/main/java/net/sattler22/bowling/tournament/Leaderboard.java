@@ -0,0 +1,182 @@
+package net.sattler22.bowling.tournament;
+
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.ScoreListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Ten Pin Bowling Tournament Leaderboard
+ *
+ * <p>
+ * Ranks every bowler of a tournament by total pins, across all of their games and squads. The standings are kept in a
+ * concurrent ordered index, highest score first, so the leaders and everyone within a score range are read straight
+ * from the index instead of sorting the whole field on every refresh. A bowler's rank counts everyone ahead of them,
+ * which takes time proportional to the rank.
+ * </p>
+ * <p>
+ * Each tracked {@link Game} feeds its frame scores to the leaderboard as they settle (or are rescored after a
+ * corrected frame). Updates for different bowlers never block each other, and readers never block at all. Reads are
+ * weakly consistent: a bowler whose score is being updated at that very moment may briefly be missing from a read.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+public final class Leaderboard {
+
+    private final ConcurrentMap<String, LeaderboardEntry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<LeaderboardEntry, LeaderboardEntry> standings =
+            new ConcurrentSkipListMap<>(LeaderboardEntry.ORDER);
+
+    /**
+     * Track a game from its first frame on
+     *
+     * @param game A game that has no frames yet
+     */
+    public void track(Game game) {
+        if (game == null)
+            throw new IllegalArgumentException("Game is required");
+        if (game.nbrFrames() > 0)  //Even gutter frames score zero
+            throw new IllegalArgumentException("Game has already been started");
+        game.addScoreListener(new GameTracker(game.playerName()));
+        addPins(game.playerName(), 0);  //List the bowler right away
+    }
+
+    /**
+     * Add pins to a bowler's total
+     *
+     * @param bowlerName The bowler's name
+     * @param nbrPins The number of pins to add
+     */
+    public void addPins(String bowlerName, int nbrPins) {
+        if (bowlerName == null || bowlerName.isBlank())
+            throw new IllegalArgumentException("Bowler name is required");
+        if (nbrPins < 0)
+            throw new IllegalArgumentException("Invalid number of pins");
+        adjust(bowlerName, nbrPins);
+    }
+
+    /**
+     * Adjust a bowler's total (a corrected frame may take pins away again)
+     */
+    private void adjust(String bowlerName, int nbrPins) {
+        //Only this bowler's bin is locked, and the index itself is lock free:
+        entries.compute(bowlerName, (name, oldEntry) -> {
+            final LeaderboardEntry newEntry = new LeaderboardEntry(name, oldEntry == null ? nbrPins
+                    : Math.addExact(oldEntry.score(), nbrPins));
+            if (oldEntry != null)
+                standings.remove(oldEntry);
+            standings.put(newEntry, newEntry);
+            return newEntry;
+        });
+    }
+
+    /**
+     * Get the leaders
+     *
+     * @param k The maximum number of bowlers
+     * @return The top {@code k} bowlers, highest score first
+     */
+    public List<LeaderboardEntry> topK(int k) {
+        if (k < 0)
+            throw new IllegalArgumentException("Invalid number of bowlers");
+        final List<LeaderboardEntry> leaders = new ArrayList<>(Math.min(k, 64));
+        final Iterator<LeaderboardEntry> iterator = standings.keySet().iterator();
+        while (leaders.size() < k && iterator.hasNext())
+            leaders.add(iterator.next());
+        return leaders;
+    }
+
+    /**
+     * Get a bowler's entry
+     *
+     * @param bowlerName The bowler's name
+     * @return The bowler's optional {@link LeaderboardEntry} (empty if the bowler is not on the leaderboard)
+     */
+    public Optional<LeaderboardEntry> entry(String bowlerName) {
+        return Optional.ofNullable(entries.get(bowlerName));
+    }
+
+    /**
+     * Get a bowler's rank
+     * <p>
+     * Bowlers with the same score share a rank, and the next rank skips as many places (1, 2, 2, 4). Every bowler
+     * ahead is counted, so a rank lookup is linear in the rank (the whole field for the last place).
+     * </p>
+     *
+     * @param bowlerName The bowler's name
+     * @return The optional one-based rank (empty if the bowler is not on the leaderboard)
+     */
+    public OptionalInt rank(String bowlerName) {
+        final LeaderboardEntry entry = entries.get(bowlerName);
+        if (entry == null)
+            return OptionalInt.empty();
+        //The skip list keeps no sizes, so every bowler ahead is walked (the leaders are ranked fastest):
+        return OptionalInt.of(1 + standings.headMap(LeaderboardEntry.first(entry.score())).size());
+    }
+
+    /**
+     * Get bowlers within a score range
+     *
+     * @param minScore The lowest score (inclusive)
+     * @param maxScore The highest score (inclusive)
+     * @return Every bowler within the range, highest score first
+     */
+    public List<LeaderboardEntry> range(int minScore, int maxScore) {
+        if (minScore < 0 || maxScore < minScore)
+            throw new IllegalArgumentException("Invalid score range");
+        return new ArrayList<>(standings.subMap(LeaderboardEntry.first(maxScore), true,
+                LeaderboardEntry.first(minScore - 1), false).keySet());
+    }
+
+    /**
+     * Get number of bowlers
+     *
+     * @return The number of bowlers on the leaderboard
+     */
+    public int nbrBowlers() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [nbrBowlers=%s, leaders=%s]", getClass().getSimpleName(), nbrBowlers(), topK(3));
+    }
+
+    /**
+     * Turns the running score of a game into pins added to the bowler's total
+     */
+    private final class GameTracker implements ScoreListener {
+
+        private final String bowlerName;
+        private int lastScore;  //Notified by the game's single writer, one frame at a time (corrections included)
+
+        private GameTracker(String bowlerName) {
+            this.bowlerName = bowlerName;
+        }
+
+        @Override
+        public void frameScored(int frameIndex, int score, int frameTotal) {
+            adjust(bowlerName, score - lastScore);
+            lastScore = score;
+        }
+
+        @Override
+        public void framesUnscored(int frameIndex, int score) {
+            adjust(bowlerName, score - lastScore);  //Give back the pins of the frames waiting on their bonus again
+            lastScore = score;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package net.sattler22.bowling.tournament;
+
+import net.jcip.annotations.Immutable;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Ten Pin Bowling Leaderboard Entry
+ *
+ * <p>
+ * A bowler's total pins at one moment of a tournament. Entries order from the highest score down, and bowlers with
+ * the same score in name order.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@Immutable
+public final class LeaderboardEntry {
+
+    static final Comparator<LeaderboardEntry> ORDER =
+            Comparator.comparingInt(LeaderboardEntry::score).reversed().thenComparing(LeaderboardEntry::bowlerName);
+
+    private final String bowlerName;
+    private final int score;
+
+    /**
+     * Constructs a new {@code LeaderboardEntry}
+     *
+     * @param bowlerName The bowler's name
+     * @param score The bowler's total pins
+     */
+    public LeaderboardEntry(String bowlerName, int score) {
+        if (bowlerName == null || bowlerName.isBlank())
+            throw new IllegalArgumentException("Bowler name is required");
+        if (score < 0)
+            throw new IllegalArgumentException("Score cannot be negative");
+        this.bowlerName = bowlerName;
+        this.score = score;
+    }
+
+    private LeaderboardEntry(int score) {  //Sorts ahead of every bowler with this score
+        this.bowlerName = "";
+        this.score = score;
+    }
+
+    /**
+     * Create a search key
+     *
+     * @param score The score
+     * @return An entry that sorts right before all bowlers with the score
+     */
+    static LeaderboardEntry first(int score) {
+        return new LeaderboardEntry(score);
+    }
+
+    /**
+     * Get bowler name
+     *
+     * @return The bowler's name
+     */
+    public String bowlerName() {
+        return bowlerName;
+    }
+
+    /**
+     * Get score
+     *
+     * @return The bowler's total pins
+     */
+    public int score() {
+        return score;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bowlerName, score);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other)
+            return true;
+        if (!(other instanceof LeaderboardEntry that))
+            return false;
+        return this.score == that.score && this.bowlerName.equals(that.bowlerName);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [bowlerName=%s, score=%s]", getClass().getSimpleName(), bowlerName, score);
+    }
+}
@@ -0,0 +1,127 @@
+package net.sattler22.bowling.archive;
+
+import net.sattler22.bowling.core.PackedGame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Archive Importer Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Archive Importer Unit Tests")
+final class ArchiveImporterTest {
+
+    private static final String TYPICAL_GAME = "X 7/ 9- X X 8/ 6- X 9/ X8/";  //178
+    private static final String PERFECT_GAME = "XXXXXXXXXXXX";                //300
+
+    @TempDir
+    private Path tempDir;
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    private Path archive(String contents) throws IOException {
+        return Files.writeString(tempDir.resolve("archive.txt"), contents, StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Constructs a New Importer")
+    final class NewInstanceTest {
+        @Test
+        void newInstance_withNullPool_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ArchiveImporter(null, ArchiveImporter.DEFAULT_CHUNK_SIZE)
+            );
+        }
+
+        @Test
+        void newInstance_withZeroChunkSize_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ArchiveImporter(pool, 0)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Import an Archive")
+    final class ImportTest {
+        @Test
+        void importFile_withNullArchive_thenThrowIllegalArgumentException() {
+            final ArchiveImporter archiveImporter = new ArchiveImporter(pool, 64);
+            assertThrows(IllegalArgumentException.class, () ->
+                    archiveImporter.importFile(null)
+            );
+        }
+
+        @Test
+        void importFile_withMissingArchive_thenThrowNoSuchFileException() {
+            final ArchiveImporter archiveImporter = new ArchiveImporter(pool, 64);
+            assertThrows(NoSuchFileException.class, () ->
+                    archiveImporter.importFile(tempDir.resolve("missing.txt"))
+            );
+        }
+
+        @Test
+        void importFile_withEmptyArchive_thenImportNothing() throws IOException {
+            final ImportSummary importSummary = new ArchiveImporter(pool, 64).importFile(archive(""));
+            assertEquals(0, importSummary.nbrGames());
+            assertEquals(0, importSummary.nbrRejected());
+            assertEquals(0, importSummary.averageScore());
+        }
+
+        @Test
+        void importFile_withManySmallChunks_thenScoreEveryGame() throws IOException {
+            final StringBuilder contents = new StringBuilder();
+            for (int i = 0; i < 5_000; i++) {
+                contents.append("Bowler ").append(i).append(',').append(i % 2 == 0 ? TYPICAL_GAME : PERFECT_GAME);
+                contents.append(i % 3 == 0 ? "\r\n" : "\n");
+            }
+            contents.append("Bad Apple,X X X\n");
+            contents.append("Léa Strike,").append(PERFECT_GAME);  //No line terminator
+            final Map<String, Integer> scores = new ConcurrentHashMap<>();
+            final ImportedGameHandler handler = (playerName, packedGame, score) -> scores.put(playerName, score);
+            final ImportSummary importSummary =
+                    new ArchiveImporter(pool, 100).importFile(archive(contents.toString()), handler);
+            assertEquals(5_001, importSummary.nbrGames());
+            assertEquals(1, importSummary.nbrRejected());
+            assertEquals(2_500 * 178 + 2_501 * 300, importSummary.totalScore());
+            assertEquals(contents.toString().getBytes(StandardCharsets.UTF_8).length, importSummary.nbrBytes());
+            assertTrue(importSummary.gamesPerSecond() > 0);
+            assertEquals(5_001, scores.size());
+            assertEquals(178, scores.get("Bowler 4998"));
+            assertEquals(300, scores.get("Léa Strike"));
+        }
+
+        @Test
+        void importFile_withHandler_thenReceivePackedGames() throws IOException {
+            final Map<String, PackedGame> packedGames = new ConcurrentHashMap<>();
+            new ArchiveImporter(pool, ArchiveImporter.DEFAULT_CHUNK_SIZE)
+                    .importFile(archive("Pete Moss," + TYPICAL_GAME + "\n"),
+                            (playerName, packedGame, score) -> packedGames.put(playerName, packedGame));
+            assertEquals(PackedGame.of(10, 7, 3, 9, 0, 10, 10, 8, 2, 6, 0, 10, 9, 1, 10, 8, 2),
+                    packedGames.get("Pete Moss"));
+        }
+    }
+}
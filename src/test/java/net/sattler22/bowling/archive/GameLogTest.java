@@ -0,0 +1,181 @@
+package net.sattler22.bowling.archive;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Game Log Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Game Log Unit Tests")
+final class GameLogTest {
+
+    private static final PackedGame TYPICAL_GAME =
+            PackedGame.of(10, 7, 3, 9, 0, 10, 10, 8, 2, 6, 0, 10, 9, 1, 10, 8, 2);  //178
+    private static final PackedGame PERFECT_GAME = PackedGame.of(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+    private static final PackedGame PARTIAL_GAME = PackedGame.of(10, 7, 3, 9);  //Frames #1-2 are scored
+
+    @TempDir
+    private Path tempDir;
+
+    private Path writeLog(PackedGame... packedGames) throws IOException {
+        final Path path = tempDir.resolve("season.bfdg");
+        try (final GameLogWriter gameLogWriter = GameLogWriter.create(path)) {
+            for (int i = 0; i < packedGames.length; i++)
+                gameLogWriter.write(1_000 + i, packedGames[i]);
+        }
+        return path;
+    }
+
+    @Nested
+    @DisplayName("Write a Game Log")
+    final class WriteTest {
+        @Test
+        void newInstance_withNullChannel_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new GameLogWriter(null)
+            );
+        }
+
+        @Test
+        void write_withNullPackedGame_thenThrowIllegalArgumentException() throws IOException {
+            try (final GameLogWriter gameLogWriter = GameLogWriter.create(tempDir.resolve("empty.bfdg"))) {
+                assertThrows(IllegalArgumentException.class, () ->
+                        gameLogWriter.write(1, (PackedGame) null)
+                );
+            }
+        }
+
+        @Test
+        void write_withHappyPath_thenFixedWidthRecords() throws IOException {
+            final Path path = writeLog(TYPICAL_GAME, PERFECT_GAME, PARTIAL_GAME);
+            assertEquals(GameLog.HEADER_SIZE + 3L * GameLog.RECORD_SIZE, Files.size(path));
+        }
+
+        @Test
+        void write_withMoreRecordsThanOneBatch_thenWriteEveryRecord() throws IOException {
+            final Path path = tempDir.resolve("league.bfdg");
+            try (final GameLogWriter gameLogWriter = GameLogWriter.create(path)) {
+                for (int i = 0; i < 5_000; i++)
+                    gameLogWriter.write(i, i % 2 == 0 ? TYPICAL_GAME : PERFECT_GAME);
+                assertEquals(5_000, gameLogWriter.nbrRecords());
+            }
+            final GameLogReader gameLogReader = GameLogReader.open(path);
+            long totalScore = 0;
+            while (gameLogReader.next()) {
+                assertEquals(gameLogReader.recordIndex(), gameLogReader.playerId());
+                totalScore += gameLogReader.score();
+            }
+            assertEquals(2_500L * 178 + 2_500L * 300, totalScore);
+        }
+    }
+
+    @Nested
+    @DisplayName("Read a Game Log")
+    final class ReadTest {
+        @Test
+        void newInstance_withWrongMagicNumber_thenThrowIllegalArgumentException() {
+            final ByteBuffer buffer = ByteBuffer.allocate(GameLog.HEADER_SIZE);
+            assertThrows(IllegalArgumentException.class, () ->
+                    new GameLogReader(buffer)
+            );
+        }
+
+        @Test
+        void newInstance_withUnsupportedVersion_thenThrowIllegalArgumentException() {
+            final ByteBuffer buffer = ByteBuffer.allocate(GameLog.HEADER_SIZE).order(GameLog.BYTE_ORDER)
+                    .putInt(GameLog.MAGIC).putShort((short) (GameLog.VERSION + 1)).putShort((short) GameLog.RECORD_SIZE)
+                    .flip();
+            assertThrows(IllegalArgumentException.class, () ->
+                    new GameLogReader(buffer)
+            );
+        }
+
+        @Test
+        void newInstance_withTruncatedRecord_thenThrowIllegalArgumentException() throws IOException {
+            final byte[] bytes = Files.readAllBytes(writeLog(TYPICAL_GAME));
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+            assertThrows(IllegalArgumentException.class, () ->
+                    new GameLogReader(buffer)
+            );
+        }
+
+        @Test
+        void playerId_withNoCurrentRecord_thenThrowIllegalStateException() throws IOException {
+            final GameLogReader gameLogReader = GameLogReader.open(writeLog(TYPICAL_GAME));
+            assertThrows(IllegalStateException.class, gameLogReader::playerId);
+        }
+
+        @Test
+        void next_withHappyPath_thenIterateEveryRecord() throws IOException {
+            final GameLogReader gameLogReader = GameLogReader.open(writeLog(TYPICAL_GAME, PERFECT_GAME, PARTIAL_GAME));
+            assertEquals(3, gameLogReader.nbrRecords());
+            assertTrue(gameLogReader.next());
+            assertEquals(1_000, gameLogReader.playerId());
+            assertEquals(TYPICAL_GAME.nbrRolls(), gameLogReader.nbrRolls());
+            assertEquals(Game.MAX_FRAMES, gameLogReader.nbrScoredFrames());
+            assertEquals(20, gameLogReader.frameScore(0));
+            assertEquals(178, gameLogReader.score());
+            assertTrue(gameLogReader.next());
+            assertEquals(300, gameLogReader.score());
+            assertEquals(PERFECT_GAME, gameLogReader.toPackedGame());
+            assertTrue(gameLogReader.next());
+            assertEquals(2, gameLogReader.nbrScoredFrames());
+            assertEquals(39, gameLogReader.score());
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    gameLogReader.frameScore(2)
+            );
+            assertFalse(gameLogReader.next());
+            assertFalse(gameLogReader.next());
+        }
+
+        @Test
+        void moveTo_withHappyPath_thenRandomAccess() throws IOException {
+            final GameLogReader gameLogReader = GameLogReader.open(writeLog(TYPICAL_GAME, PERFECT_GAME, PARTIAL_GAME));
+            gameLogReader.moveTo(1);
+            assertEquals(1_001, gameLogReader.playerId());
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    gameLogReader.moveTo(3)
+            );
+        }
+
+        @Test
+        void toGame_withHappyPath_thenRebuildGame() throws IOException {
+            final Game game = new Game("Ava Rage");
+            game.addFrame(DefaultFrame.of(3, 4));
+            for (int i = 1; i < Game.MAX_FRAMES - 1; i++)
+                game.addFrame(DefaultFrame.strike());
+            game.addFrame(FinalFrame.of(9, 1, 5));
+            game.updateScore();
+            final Path path = tempDir.resolve("ava.bfdg");
+            try (final GameLogWriter gameLogWriter = GameLogWriter.create(path)) {
+                gameLogWriter.write(42, game);
+            }
+            final GameLogReader gameLogReader = GameLogReader.open(path);
+            assertTrue(gameLogReader.next());
+            assertEquals(game.score(), gameLogReader.score());
+            final Game rebuiltGame = gameLogReader.toGame("Ava Rage");
+            assertEquals(game.score(), rebuiltGame.score());
+            assertEquals(game.frame(Game.MAX_FRAMES - 1), rebuiltGame.frame(Game.MAX_FRAMES - 1));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package net.sattler22.bowling.center;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.Frame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Center Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Center Unit Tests")
+final class BowlingCenterTest {
+
+    private static final String CENTER_NAME = "Strike Zone Lanes";
+    private static final int NBR_LANES = 48;
+
+    @Nested
+    @DisplayName("Constructs a New Bowling Center")
+    final class NewInstanceTest {
+        @Test
+        void newInstance_withBlankName_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new BowlingCenter(" ", NBR_LANES)
+            );
+        }
+
+        @Test
+        void newInstance_withNoLanes_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new BowlingCenter(CENTER_NAME, 0)
+            );
+        }
+
+        @Test
+        void newInstance_withHappyPath_thenSuccessful() {
+            final BowlingCenter bowlingCenter = new BowlingCenter(CENTER_NAME, NBR_LANES);
+            assertEquals(CENTER_NAME, bowlingCenter.name());
+            assertEquals(NBR_LANES, bowlingCenter.nbrLanes());
+            assertEquals(NBR_LANES, bowlingCenter.lanes().size());
+            assertEquals(NBR_LANES, bowlingCenter.lane(NBR_LANES).laneNbr());
+        }
+
+        @Test
+        void lane_withInvalidLaneNbr_thenThrowIllegalArgumentException() {
+            final BowlingCenter bowlingCenter = new BowlingCenter(CENTER_NAME, NBR_LANES);
+            assertThrows(IllegalArgumentException.class, () ->
+                    bowlingCenter.lane(NBR_LANES + 1)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Bowl on Every Lane at Once")
+    final class ConcurrentLaneTest {
+        @Test
+        void addRoll_withEveryLaneBusy_thenScoreEveryGame() throws Exception {
+            final BowlingCenter bowlingCenter = new BowlingCenter(CENTER_NAME, NBR_LANES);
+            for (final Lane lane : bowlingCenter.lanes()) {
+                final List<String> bowlerNames = new ArrayList<>(Match.MAX_BOWLERS);
+                for (int i = 1; i <= Match.MAX_BOWLERS; i++)
+                    bowlerNames.add("Bowler %d-%d".formatted(lane.laneNbr(), i));
+                lane.startMatch(bowlerNames);
+            }
+            //Two pinsetter threads per lane race each other, so every roll is contended within its own lane only:
+            final int nbrRollsPerLane = Match.MAX_BOWLERS * (Game.MAX_FRAMES + 2);  //All strikes
+            final CountDownLatch startingGun = new CountDownLatch(1);
+            final List<Future<?>> pinsetters = new ArrayList<>();
+            try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (final Lane lane : bowlingCenter.lanes())
+                    for (int i = 0; i < 2; i++)
+                        pinsetters.add(executor.submit(() -> {
+                            startingGun.await();
+                            for (int j = 0; j < nbrRollsPerLane / 2; j++)
+                                lane.addRoll(Frame.MAX_PINS);
+                            return null;
+                        }));
+                startingGun.countDown();
+                for (final Future<?> pinsetter : pinsetters)
+                    pinsetter.get(30, TimeUnit.SECONDS);
+            }
+            for (final Lane lane : bowlingCenter.lanes()) {
+                assertTrue(lane.isIdle());
+                assertEquals(Match.MAX_BOWLERS, lane.games().size());
+                for (final Game game : lane.games())
+                    assertTrue(game.isPerfect(), game::toString);
+            }
+        }
+    }
+}
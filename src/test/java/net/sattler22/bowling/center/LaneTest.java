@@ -0,0 +1,206 @@
+package net.sattler22.bowling.center;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Lane Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Lane Unit Tests")
+final class LaneTest {
+
+    @Nested
+    @DisplayName("Constructs a New Lane")
+    final class NewInstanceTest {
+        @Test
+        void newInstance_withZeroLaneNbr_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new Lane(0)
+            );
+        }
+
+        @Test
+        void newInstance_withHappyPath_thenIdle() {
+            final Lane lane = new Lane(7);
+            assertEquals(7, lane.laneNbr());
+            assertTrue(lane.isIdle());
+            assertTrue(lane.games().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Bowl a Match")
+    final class MatchTest {
+        @Test
+        void addRoll_withNoMatch_thenThrowIllegalStateException() {
+            final Lane lane = new Lane(1);
+            assertThrows(IllegalStateException.class, () ->
+                    lane.addRoll(5)
+            );
+        }
+
+        @Test
+        void startMatch_withMatchInProgress_thenThrowIllegalStateException() {
+            final Lane lane = new Lane(2);
+            lane.startMatch(List.of("Ray Gun"));
+            assertThrows(IllegalStateException.class, () ->
+                    lane.startMatch(List.of("Stan Still"))
+            );
+        }
+
+        @Test
+        void startMatch_withMatchOver_thenStartNewMatch() {
+            final Lane lane = new Lane(3);
+            lane.startMatch(List.of("Ray Gun"));
+            for (int i = 0; i < Game.MAX_FRAMES - 1; i++)
+                lane.addFrame(DefaultFrame.of(2, 2));
+            lane.addFrame(FinalFrame.of(2, 2));
+            assertTrue(lane.isIdle());
+            assertEquals(40, lane.games().getFirst().score());
+            lane.startMatch(List.of("Stan Still"));
+            assertFalse(lane.isIdle());
+            assertEquals("Stan Still", lane.currentBowler());
+        }
+
+        @Test
+        void addRoll_withWrongBowler_thenThrowIllegalStateException() {
+            final Lane lane = new Lane(4);
+            lane.startMatch(List.of("Ray Gun", "Stan Still"));
+            assertThrows(IllegalStateException.class, () ->
+                    lane.addRoll("Stan Still", 5)
+            );
+        }
+
+        @Test
+        void addFrame_withCurrentBowler_thenPassTurn() {
+            final Lane lane = new Lane(5);
+            lane.startMatch(List.of("Ray Gun", "Stan Still"));
+            assertEquals(1, lane.addFrame("Ray Gun", 3, 4).size());
+            assertEquals("Stan Still", lane.currentBowler());
+            lane.addRoll("Stan Still", 4);
+            assertEquals(9, lane.addRoll("Stan Still", 5).getFirst().score());
+            assertEquals("Ray Gun", lane.currentBowler());
+        }
+    }
+
+    @Nested
+    @DisplayName("Correct a Frame")
+    final class CorrectFrameTest {
+        @Test
+        void correctFrame_withUnknownBowler_thenThrowIllegalArgumentException() {
+            final Lane lane = new Lane(7);
+            lane.startMatch(List.of("Ray Gun"));
+            lane.addFrame("Ray Gun", 3, 4);
+            assertThrows(IllegalArgumentException.class, () ->
+                    lane.correctFrame("Stan Still", 0, 5, 4)
+            );
+        }
+
+        @Test
+        void correctFrame_withFrameNotBowledYet_thenThrowIllegalArgumentException() {
+            final Lane lane = new Lane(7);
+            lane.startMatch(List.of("Ray Gun"));
+            lane.addFrame("Ray Gun", 3, 4);
+            assertThrows(IllegalArgumentException.class, () ->
+                    lane.correctFrame("Ray Gun", 1, 5, 4)
+            );
+        }
+
+        @Test
+        void correctFrame_withHappyPath_thenNotifyLaneListeners() {
+            final Lane lane = new Lane(7);
+            final List<String> notifications = new ArrayList<>();
+            lane.addScoreListener(new LaneScoreListener() {
+                @Override
+                public void frameScored(int laneNbr, Game game, int frameIndex, int score, int frameTotal) {
+                    notifications.add("scored:%d:%d".formatted(frameIndex, score));
+                }
+
+                @Override
+                public void framesUnscored(int laneNbr, Game game, int frameIndex, int score) {
+                    notifications.add("unscored:%d:%d".formatted(frameIndex, score));
+                }
+            });
+            lane.startMatch(List.of("Ray Gun", "Stan Still"));
+            lane.addFrame("Ray Gun", 3, 4);
+            lane.addFrame("Stan Still", 1, 1);
+            lane.addFrame("Ray Gun", 2, 2);
+            assertEquals(List.of(), lane.correctFrame("Ray Gun", 1, 10));
+            lane.correctFrame("Stan Still", 0, DefaultFrame.of(4, 5));
+            assertEquals(List.of("scored:0:7", "scored:0:2", "scored:1:11", "unscored:1:7", "scored:0:9"),
+                    notifications);
+        }
+    }
+
+    @Nested
+    @DisplayName("Score Listeners")
+    final class ScoreListenerTest {
+        @Test
+        void addScoreListener_withNullListener_thenThrowIllegalArgumentException() {
+            final Lane lane = new Lane(6);
+            assertThrows(IllegalArgumentException.class, () ->
+                    lane.addScoreListener(null)
+            );
+        }
+
+        @Test
+        void addScoreListener_withHappyPath_thenNotifyEveryMatch() {
+            final Lane lane = new Lane(6);
+            final List<String> notifications = new ArrayList<>();
+            lane.addScoreListener((laneNbr, game, frameIndex, score, frameTotal) ->
+                    notifications.add("%d:%s:%d:%d".formatted(laneNbr, game.playerName(), frameIndex, score)));
+            lane.startMatch(List.of("Ray Gun", "Stan Still"));
+            lane.addFrame("Ray Gun", 3, 4);
+            lane.addFrame("Stan Still", 1, 1);
+            assertEquals(List.of("6:Ray Gun:0:7", "6:Stan Still:0:2"), notifications);
+        }
+
+        @Test
+        void catchUp_withNullCatchUp_thenThrowIllegalArgumentException() {
+            final Lane lane = new Lane(6);
+            assertThrows(IllegalArgumentException.class, () ->
+                    lane.catchUp(null)
+            );
+        }
+
+        @Test
+        void catchUp_withMatchInProgress_thenGetGames() {
+            final Lane lane = new Lane(6);
+            final List<String> playerNames = new ArrayList<>();
+            lane.catchUp(games -> games.forEach(game -> playerNames.add(game.playerName())));
+            assertTrue(playerNames.isEmpty());
+            lane.startMatch(List.of("Ray Gun", "Stan Still"));
+            lane.catchUp(games -> games.forEach(game -> playerNames.add(game.playerName())));
+            assertEquals(List.of("Ray Gun", "Stan Still"), playerNames);
+        }
+
+        @Test
+        void removeScoreListener_withHappyPath_thenStopNotifying() {
+            final Lane lane = new Lane(6);
+            final List<Integer> scores = new ArrayList<>();
+            final LaneScoreListener listener = (laneNbr, game, frameIndex, score, frameTotal) -> scores.add(score);
+            lane.addScoreListener(listener);
+            assertTrue(lane.removeScoreListener(listener));
+            assertFalse(lane.removeScoreListener(listener));
+            lane.startMatch(List.of("Ray Gun"));
+            lane.addFrame("Ray Gun", 3, 4);
+            assertTrue(scores.isEmpty());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package net.sattler22.bowling.center;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Match Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Match Unit Tests")
+final class MatchTest {
+
+    private static final List<String> BOWLERS = List.of("Al Lee", "Sherry Pie", "Chris P. Bacon");
+
+    @Nested
+    @DisplayName("Constructs a New Match")
+    final class NewInstanceTest {
+        @Test
+        void newInstance_withNullBowlerNames_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new Match(null)
+            );
+        }
+
+        @Test
+        void newInstance_withNoBowlers_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new Match(List.of())
+            );
+        }
+
+        @Test
+        void newInstance_withTooManyBowlers_thenThrowIllegalArgumentException() {
+            final List<String> bowlerNames = Collections.nCopies(Match.MAX_BOWLERS + 1, "Ann Other");
+            assertThrows(IllegalArgumentException.class, () ->
+                    new Match(bowlerNames)
+            );
+        }
+
+        @Test
+        void newInstance_withHappyPath_thenSuccessful() {
+            final Match match = new Match(BOWLERS);
+            assertEquals(BOWLERS, match.games().stream().map(Game::playerName).toList());
+            assertEquals(BOWLERS.getFirst(), match.currentGame().playerName());
+            assertFalse(match.isOver());
+        }
+    }
+
+    @Nested
+    @DisplayName("Rotate Bowlers")
+    final class RotationTest {
+        @Test
+        void addRoll_withOpenFrame_thenRotateAfterSecondRoll() {
+            final Match match = new Match(BOWLERS);
+            match.addRoll(3);
+            assertEquals(BOWLERS.get(0), match.currentGame().playerName());
+            match.addRoll(4);
+            assertEquals(BOWLERS.get(1), match.currentGame().playerName());
+        }
+
+        @Test
+        void addRoll_withStrike_thenRotateImmediately() {
+            final Match match = new Match(BOWLERS);
+            match.addRoll(Frame.MAX_PINS);
+            assertEquals(BOWLERS.get(1), match.currentGame().playerName());
+        }
+
+        @Test
+        void addFrame_withLastBowler_thenRotateToFirstBowler() {
+            final Match match = new Match(BOWLERS);
+            for (int i = 0; i < BOWLERS.size(); i++)
+                match.addFrame(DefaultFrame.of(4, 5));
+            assertEquals(BOWLERS.getFirst(), match.currentGame().playerName());
+            for (final Game game : match.games())
+                assertEquals(9, game.score());
+        }
+
+        @Test
+        void addRoll_withFinalFrameStrike_thenKeepBowlerForBonusRolls() {
+            final Match match = new Match(List.of("Bo Ling"));
+            for (int i = 0; i < Game.MAX_FRAMES - 1; i++)
+                match.addFrame(DefaultFrame.strike());
+            match.addRoll(Frame.MAX_PINS);
+            match.addRoll(Frame.MAX_PINS);
+            assertFalse(match.isOver());
+            match.addRoll(Frame.MAX_PINS);
+            assertTrue(match.isOver());
+            assertTrue(match.currentGame().isPerfect());
+        }
+    }
+
+    @Nested
+    @DisplayName("Add a Frame from its Rolls")
+    final class AddFrameRollsTest {
+        @Test
+        void addFrame_withNoRolls_thenThrowIllegalArgumentException() {
+            final Match match = new Match(BOWLERS);
+            assertThrows(IllegalArgumentException.class, () ->
+                    match.addFrame(new int[0])
+            );
+        }
+
+        @Test
+        void addFrame_withSingleNonStrikeRoll_thenThrowIllegalArgumentException() {
+            final Match match = new Match(BOWLERS);
+            assertThrows(IllegalArgumentException.class, () ->
+                    match.addFrame(7)
+            );
+        }
+
+        @Test
+        void addFrame_withBonusRollBeforeFinalFrame_thenThrowIllegalArgumentException() {
+            final Match match = new Match(BOWLERS);
+            assertThrows(IllegalArgumentException.class, () ->
+                    match.addFrame(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS)
+            );
+        }
+
+        @Test
+        void addFrame_withMissingFinalFrameBonusRoll_thenThrowIllegalArgumentException() {
+            final Match match = new Match(List.of("Phil Up"));
+            for (int i = 0; i < Game.MAX_FRAMES - 1; i++)
+                match.addFrame(Frame.MAX_PINS);
+            assertThrows(IllegalArgumentException.class, () ->
+                    match.addFrame(7, 3)
+            );
+        }
+
+        @Test
+        void addFrame_withHappyPath_thenBuildEachKindOfFrame() {
+            final Match match = new Match(List.of("Phil Up"));
+            match.addFrame(Frame.MAX_PINS);
+            assertEquals(DefaultFrame.strike(), match.currentGame().frame(0));
+            match.addFrame(7, 3);
+            assertEquals(DefaultFrame.of(7, 3), match.currentGame().frame(1));
+            for (int i = 2; i < Game.MAX_FRAMES - 1; i++)
+                match.addFrame(0, 0);
+            match.addFrame(7, 3, 5);
+            assertEquals(FinalFrame.of(7, 3, 5), match.currentGame().frame(Game.MAX_FRAMES - 1));
+            assertTrue(match.isOver());
+            assertEquals(45, match.currentGame().score());  //20 + 10 + 0 x 7 + 15
+        }
+    }
+
+    @Nested
+    @DisplayName("Match Over")
+    final class MatchOverTest {
+        @Test
+        void isOver_withAllGamesComplete_thenTrue() {
+            final Match match = new Match(BOWLERS);
+            for (int i = 0; i < Game.MAX_FRAMES - 1; i++)
+                for (int j = 0; j < BOWLERS.size(); j++)
+                    match.addFrame(DefaultFrame.of(1, 2));
+            for (int j = 0; j < BOWLERS.size() - 1; j++) {
+                match.addFrame(FinalFrame.of(1, 2));
+                assertFalse(match.isOver());
+            }
+            match.addFrame(FinalFrame.of(1, 2));
+            assertTrue(match.isOver());
+        }
+
+        @Test
+        void addRoll_withMatchOver_thenThrowIllegalStateException() {
+            final Match match = new Match(List.of("Gail Force"));
+            for (int i = 0; i < Game.MAX_FRAMES - 1; i++)
+                match.addFrame(DefaultFrame.of(0, 0));
+            match.addFrame(FinalFrame.of(0, 0));
+            assertThrows(IllegalStateException.class, () ->
+                    match.addRoll(0)
+            );
+        }
+    }
+}
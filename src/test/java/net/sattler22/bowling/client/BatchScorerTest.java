@@ -0,0 +1,117 @@
+package net.sattler22.bowling.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ten Pin Bowling Batch Scorer Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Batch Scorer Unit Tests")
+final class BatchScorerTest {
+
+    private static String score(BatchScorer batchScorer, Reader reader) throws IOException {
+        final StringWriter writer = new StringWriter();
+        batchScorer.score(reader, writer);
+        return writer.toString();
+    }
+
+    @Nested
+    @DisplayName("Score a Batch of Games")
+    final class ScoreTest {
+        @Test
+        void score_withNullReader_thenThrowIllegalArgumentException() {
+            final BatchScorer batchScorer = new BatchScorer();
+            assertThrows(IllegalArgumentException.class, () ->
+                    batchScorer.score(null, new StringWriter())
+            );
+        }
+
+        @Test
+        void score_withNullWriter_thenThrowIllegalArgumentException() {
+            final BatchScorer batchScorer = new BatchScorer();
+            assertThrows(IllegalArgumentException.class, () ->
+                    batchScorer.score(new StringReader(""), null)
+            );
+        }
+
+        @Test
+        void score_withHappyPath_thenWriteEveryScore() throws IOException {
+            final BatchScorer batchScorer = new BatchScorer();
+            final String games = """
+                    Pete Moss,X 7/ 9- X X 8/ 6- X 9/ X8/
+                    Perry Fect,XXXXXXXXXXXX\r
+                    
+                    Gus Gutter,-- -- -- -- -- -- -- -- -- --""";
+            assertEquals("Pete Moss,178\nPerry Fect,300\nGus Gutter,0\n", score(batchScorer, new StringReader(games)));
+            assertEquals(3, batchScorer.nbrGames());
+            assertEquals(0, batchScorer.nbrRejected());
+        }
+
+        @Test
+        void score_withSpareAfterGutterBallOrFoul_thenWriteEveryScore() throws IOException {
+            final BatchScorer batchScorer = new BatchScorer();
+            final String games = """
+                    Gail Force,-/ -- -- -- -- -- -- -- -- --
+                    Phil Foul,F/ -- -- -- -- -- -- -- -- --
+                    Stu Late,-- -- -- -- -- -- -- -- -- X-/
+                    """;
+            assertEquals("Gail Force,10\nPhil Foul,10\nStu Late,20\n", score(batchScorer, new StringReader(games)));
+            assertEquals(3, batchScorer.nbrGames());
+            assertEquals(0, batchScorer.nbrRejected());
+        }
+
+        @Test
+        void score_withBadLines_thenSkipThem() throws IOException {
+            final BatchScorer batchScorer = new BatchScorer();
+            final String games = """
+                    No Comma X X X
+                    ,XXXXXXXXXXXX
+                    Ty Mout,X 7/ 9
+                    Hugh Bris,99 X X X X X X X X XXX
+                    Al Most,9/ 9/ 9/ 9/ 9/ 9/ 9/ 9/ 9/ 9/9
+                    """;
+            assertEquals("Al Most,190\n", score(batchScorer, new StringReader(games)));
+            assertEquals(1, batchScorer.nbrGames());
+            assertEquals(4, batchScorer.nbrRejected());
+        }
+
+        @Test
+        void score_withLinesSplitAcrossReads_thenReassembleThem() throws IOException {
+            final BatchScorer batchScorer = new BatchScorer();
+            final StringBuilder games = new StringBuilder();
+            final StringBuilder expectedScores = new StringBuilder();
+            for (int i = 0; i < 10_000; i++) {
+                games.append("Bowler ").append(i).append(",X 7/ 9- X X 8/ 6- X 9/ X8/\n");
+                expectedScores.append("Bowler ").append(i).append(",178\n");
+            }
+            //Hand out a few characters at a time, so lines keep straddling the reads:
+            final Reader trickle = new StringReader(games.toString()) {
+                @Override
+                public int read(char[] chars, int offset, int length) throws IOException {
+                    return super.read(chars, offset, Math.min(length, 7));
+                }
+            };
+            assertEquals(expectedScores.toString(), score(batchScorer, trickle));
+        }
+
+        @Test
+        void score_withLineLongerThanBuffer_thenGrowBuffer() throws IOException {
+            final BatchScorer batchScorer = new BatchScorer();
+            final String playerName = "P".repeat(100_000);
+            assertEquals(playerName + ",300\n", score(batchScorer, new StringReader(playerName + ",XXXXXXXXXXXX")));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package net.sattler22.bowling.core;
+
+import net.sattler22.bowling.model.Frame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ten Pin Bowling Columnar Scorer Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Columnar Scorer Unit Tests")
+final class ColumnarScorerTest {
+
+    private static final String PLAYER_NAME = "Colum Nar";
+    private static final int NBR_GAMES = 1_003;  //Leaves games over for the scalar tail at any lane width
+
+    /**
+     * Generates valid games, a quarter of them still in progress
+     */
+    private static int[][] randomGames(long seed) {
+        final Random random = new Random(seed);
+        final int[][] games = new int[NBR_GAMES][];
+        for (int gameIndex = 0; gameIndex < NBR_GAMES; gameIndex++) {
+            final int[] rolls = new int[Game.MAX_ROLLS];
+            int nbrRolls = 0;
+            for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES - 1; frameIndex++) {
+                //Favor strikes and spares, so the bonus rules get plenty of work:
+                final int firstRoll = random.nextInt(3) == 0 ? Frame.MAX_PINS : random.nextInt(Frame.MAX_PINS + 1);
+                rolls[nbrRolls++] = firstRoll;
+                if (firstRoll < Frame.MAX_PINS)
+                    rolls[nbrRolls++] = random.nextBoolean() ? Frame.MAX_PINS - firstRoll
+                            : random.nextInt(Frame.MAX_PINS - firstRoll + 1);
+            }
+            final int firstRoll = random.nextInt(3) == 0 ? Frame.MAX_PINS : random.nextInt(Frame.MAX_PINS + 1);
+            final int secondRoll = firstRoll == Frame.MAX_PINS ? random.nextInt(Frame.MAX_PINS + 1)
+                    : random.nextInt(Frame.MAX_PINS - firstRoll + 1);
+            rolls[nbrRolls++] = firstRoll;
+            rolls[nbrRolls++] = secondRoll;
+            if (firstRoll == Frame.MAX_PINS && secondRoll < Frame.MAX_PINS)
+                rolls[nbrRolls++] = random.nextInt(Frame.MAX_PINS - secondRoll + 1);
+            else if (firstRoll + secondRoll >= Frame.MAX_PINS)
+                rolls[nbrRolls++] = random.nextInt(Frame.MAX_PINS + 1);
+            if (random.nextInt(4) == 0)
+                nbrRolls = random.nextInt(nbrRolls);
+            games[gameIndex] = Arrays.copyOf(rolls, nbrRolls);
+        }
+        return games;
+    }
+
+    private static int[] columnarRolls(int[][] games) {
+        final int[] rolls = new int[Game.MAX_ROLLS * games.length];
+        for (int gameIndex = 0; gameIndex < games.length; gameIndex++)
+            for (int rollIndex = 0; rollIndex < games[gameIndex].length; rollIndex++)
+                rolls[rollIndex * games.length + gameIndex] = games[gameIndex][rollIndex];
+        return rolls;
+    }
+
+    private static int[] nbrRolls(int[][] games) {
+        final int[] nbrRolls = new int[games.length];
+        for (int gameIndex = 0; gameIndex < games.length; gameIndex++)
+            nbrRolls[gameIndex] = games[gameIndex].length;
+        return nbrRolls;
+    }
+
+    private static void assertMatchesGame(int[][] games, int[] frameScores, int[] nbrScoredFrames) {
+        for (int gameIndex = 0; gameIndex < games.length; gameIndex++) {
+            final Game game = new Game(PLAYER_NAME);
+            for (final int nbrPins : games[gameIndex])
+                game.addRoll(nbrPins);
+            int nbrScored = 0;
+            for (int frameIndex = 0; frameIndex < game.nbrFrames(); frameIndex++)
+                if (game.frameScore(frameIndex).isPresent())
+                    assertEquals(game.frameScore(frameIndex).getAsInt(),
+                            frameScores[frameIndex * games.length + gameIndex], "Frame score " + nbrScored++);
+            assertEquals(nbrScored, nbrScoredFrames[gameIndex]);
+            for (int frameIndex = nbrScored; frameIndex < Game.MAX_FRAMES; frameIndex++)
+                assertEquals(0, frameScores[frameIndex * games.length + gameIndex]);
+        }
+    }
+
+    @Nested
+    @DisplayName("Score a Batch of Games")
+    final class ScoreTest {
+        @Test
+        void score_withNegativeNbrGames_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    ColumnarScorer.score(new int[0], new int[0], -1, new int[0], new int[0])
+            );
+        }
+
+        @Test
+        void score_withShortRolls_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    ColumnarScorer.score(new int[Game.MAX_ROLLS], new int[2], 2, new int[20], new int[2])
+            );
+        }
+
+        @Test
+        void score_withShortFrameScores_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    ColumnarScorer.score(new int[42], new int[2], 2, new int[10], new int[2])
+            );
+        }
+
+        @Test
+        void score_withNoGames_thenSuccessful() {
+            ColumnarScorer.score(new int[0], new int[0], 0, new int[0], new int[0]);
+        }
+
+        @Test
+        void score_withPerfectGames_thenSuccessful() {
+            final int[][] games = new int[17][];
+            for (int gameIndex = 0; gameIndex < games.length; gameIndex++)
+                games[gameIndex] = new int[] {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10};
+            final int[] frameScores = new int[Game.MAX_FRAMES * games.length];
+            final int[] nbrScoredFrames = new int[games.length];
+            ColumnarScorer.score(columnarRolls(games), nbrRolls(games), games.length, frameScores, nbrScoredFrames);
+            for (int gameIndex = 0; gameIndex < games.length; gameIndex++) {
+                assertEquals(Game.MAX_FRAMES, nbrScoredFrames[gameIndex]);
+                assertEquals(300, frameScores[(Game.MAX_FRAMES - 1) * games.length + gameIndex]);
+            }
+        }
+
+        @Test
+        void score_withRandomGames_thenMatchUpdateScore() {
+            final int[][] games = randomGames(178);
+            final int[] frameScores = new int[Game.MAX_FRAMES * NBR_GAMES];
+            final int[] nbrScoredFrames = new int[NBR_GAMES];
+            ColumnarScorer.score(columnarRolls(games), nbrRolls(games), NBR_GAMES, frameScores, nbrScoredFrames);
+            assertMatchesGame(games, frameScores, nbrScoredFrames);
+        }
+
+        @Test
+        void scoreScalar_withRandomGames_thenMatchUpdateScore() {
+            final int[][] games = randomGames(300);
+            final int[] frameScores = new int[Game.MAX_FRAMES * NBR_GAMES];
+            final int[] nbrScoredFrames = new int[NBR_GAMES];
+            ColumnarScorer.scoreScalar(columnarRolls(games), nbrRolls(games), NBR_GAMES, 0, frameScores,
+                    nbrScoredFrames);
+            assertMatchesGame(games, frameScores, nbrScoredFrames);
+        }
+
+        @Test
+        void score_withDirtyOutput_thenOverwritten() {
+            final int[][] games = randomGames(70);
+            final int[] frameScores = new int[Game.MAX_FRAMES * NBR_GAMES];
+            final int[] nbrScoredFrames = new int[NBR_GAMES];
+            Arrays.fill(frameScores, -1);
+            Arrays.fill(nbrScoredFrames, -1);
+            ColumnarScorer.score(columnarRolls(games), nbrRolls(games), NBR_GAMES, frameScores, nbrScoredFrames);
+            assertMatchesGame(games, frameScores, nbrScoredFrames);
+        }
+    }
+}
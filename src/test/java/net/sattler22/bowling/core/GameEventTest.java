@@ -0,0 +1,111 @@
+package net.sattler22.bowling.core;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Game Flight Recorder Event Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Game Flight Recorder Event Unit Tests")
+final class GameEventTest {
+
+    private static final List<String> EVENT_NAMES =
+            List.of(GameStartedEvent.NAME, FrameAddedEvent.NAME, ScoreUpdatedEvent.NAME, GameOverEvent.NAME);
+
+    @TempDir
+    private Path tempDir;
+
+    private List<RecordedEvent> record(Recording recording, Runnable league) throws IOException {
+        recording.start();
+        league.run();
+        recording.stop();
+        final Path recordingFile = tempDir.resolve("league-night.jfr");
+        recording.dump(recordingFile);
+        return RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> event.getString("playerName").equals("Jeff Arr"))
+                .toList();
+    }
+
+    private static void bowlPerfectGame() {
+        final Game game = new Game("Jeff Arr");
+        for (int roll = 0; roll < 12; roll++)
+            game.addRoll(10);
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).toList();
+    }
+
+    @Test
+    void addRoll_withPerfectGame_thenRecordLifecycle() throws IOException {
+        try (final Recording recording = new Recording()) {
+            EVENT_NAMES.forEach(name -> recording.enable(name).withoutThreshold());
+            final List<RecordedEvent> events = record(recording, GameEventTest::bowlPerfectGame);
+            assertEquals(1, named(events, GameStartedEvent.NAME).size());
+            final List<RecordedEvent> framesAdded = named(events, FrameAddedEvent.NAME);
+            assertEquals(10, framesAdded.size());
+            for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES; frameIndex++) {
+                assertEquals(frameIndex, framesAdded.get(frameIndex).getInt("frameIndex"));
+                assertTrue(framesAdded.get(frameIndex).getBoolean("strike"));
+            }
+            assertEquals(30, framesAdded.getLast().getInt("frameTotal"));
+            final List<RecordedEvent> scoresUpdated = named(events, ScoreUpdatedEvent.NAME);
+            assertEquals(12, scoresUpdated.size());  //One per roll
+            assertEquals(10, scoresUpdated.stream().mapToInt(event -> event.getInt("nbrFramesSettled")).sum());
+            final List<RecordedEvent> gamesOver = named(events, GameOverEvent.NAME);
+            assertEquals(1, gamesOver.size());
+            assertEquals(300, gamesOver.getFirst().getInt("score"));
+            assertTrue(gamesOver.getFirst().getLong("gameDuration") > 0);
+        }
+    }
+
+    @Test
+    void addFrame_withOpenFrames_thenRecordFramesAndScores() throws IOException {
+        try (final Recording recording = new Recording()) {
+            EVENT_NAMES.forEach(name -> recording.enable(name).withoutThreshold());
+            final List<RecordedEvent> events = record(recording, () -> {
+                final Game game = new Game("Jeff Arr");
+                for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES - 1; frameIndex++)
+                    game.addFrame(new DefaultFrame(6, 4));
+                game.addFrame(new FinalFrame(6, 3));
+                game.updateScore();
+            });
+            assertEquals(1, named(events, GameStartedEvent.NAME).size());
+            final List<RecordedEvent> framesAdded = named(events, FrameAddedEvent.NAME);
+            assertEquals(10, framesAdded.size());
+            assertTrue(framesAdded.getFirst().getBoolean("spare"));
+            final List<RecordedEvent> scoresUpdated = named(events, ScoreUpdatedEvent.NAME);
+            assertEquals(1, scoresUpdated.size());
+            assertEquals(10, scoresUpdated.getFirst().getInt("nbrFramesSettled"));
+            assertEquals(153, scoresUpdated.getFirst().getInt("score"));
+            assertEquals(1, named(events, GameOverEvent.NAME).size());
+        }
+    }
+
+    @Test
+    void addRoll_withEventsDisabled_thenRecordNothing() throws IOException {
+        try (final Recording recording = new Recording()) {
+            EVENT_NAMES.forEach(recording::disable);
+            final List<RecordedEvent> events = record(recording, GameEventTest::bowlPerfectGame);
+            assertFalse(events.stream().anyMatch(event -> EVENT_NAMES.contains(event.getEventType().getName())));
+        }
+    }
+}
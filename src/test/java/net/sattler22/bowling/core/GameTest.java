@@ -3,15 +3,26 @@ package net.sattler22.bowling.core;
 import net.sattler22.bowling.model.DefaultFrame;
 import net.sattler22.bowling.model.FinalFrame;
 import net.sattler22.bowling.model.Frame;
+import net.sattler22.bowling.model.PinMask;
+import net.sattler22.bowling.model.ScoredFrame;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -19,7 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  *
  * @author Pete Sattler
  * @since October 2025
- * @version June 2026
+ * @version October 2026
  */
 @DisplayName("Ten Pin Bowling Game Unit Tests")
 final class GameTest {
@@ -134,6 +145,173 @@ final class GameTest {
         }
     }
 
+    @Nested
+    @DisplayName("Add a Roll")
+    final class AddRollTest {
+        @Test
+        void addRoll_withCompleteGame_thenThrowIllegalStateException() {
+            final Game game = zeroGame("Otto Mattic");
+            assertThrows(IllegalStateException.class, () ->
+                    game.addRoll(0)
+            );
+        }
+
+        @Test
+        void addRoll_withTooFewPins_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Minnie Mumm");
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.addRoll(-1)
+            );
+        }
+
+        @Test
+        void addRoll_withTooManyPins_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Max Power");
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.addRoll(Frame.MAX_PINS + 1)
+            );
+        }
+
+        @Test
+        void addRoll_withTooManyFramePins_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Lotta Pins");
+            game.addRoll(6);
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.addRoll(5)
+            );
+        }
+
+        @Test
+        void addRoll_withFinalFrameStrikeWithTooManyBonusPins_thenThrowIllegalArgumentException() {
+            final Game game = createDefaultFrames("Bo Nuss", 0, 0);
+            game.addRoll(Frame.MAX_PINS);
+            game.addRoll(8);
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.addRoll(3)
+            );
+        }
+
+        @Test
+        void addFrame_withFrameInProgress_thenThrowIllegalStateException() {
+            final Game game = new Game("Artie Choke");
+            game.addRoll(4);
+            final DefaultFrame openFrame = DefaultFrame.of(4, 4);
+            assertThrows(IllegalStateException.class, () ->
+                    game.addFrame(openFrame)
+            );
+        }
+
+        @Test
+        void addRoll_withStrike_thenCompleteFrame() {
+            final Game game = new Game("Rip Torn");
+            assertEquals(0, game.addRoll(Frame.MAX_PINS).size());
+            assertEquals(1, game.nbrFrames());
+        }
+
+        @Test
+        void addRoll_withSpare_thenSettleOnNextRoll() {
+            final Game game = new Game("Sam Dunn");
+            game.addRoll(3);
+            assertEquals(0, game.nbrFrames());
+            assertEquals(0, game.addRoll(7).size());
+            final List<ScoredFrame> updatedFrames = game.addRoll(8);  //Frame #2 is still in progress
+            assertEquals(1, updatedFrames.size());
+            assertExpectedScore(18, updatedFrames, 0);                    //Frame #1: / + 8 = 18 (18)
+            assertEquals(18, game.score());
+        }
+
+        @Test
+        void addRoll_withFinalFrameSpare_thenWaitForBonusRoll() {
+            final Game game = createDefaultFrames("Ty Breaker", 1, 1);
+            game.addRoll(6);
+            game.addRoll(4);
+            assertFalse(game.isOver());
+            final List<ScoredFrame> updatedFrames = game.addRoll(Frame.MAX_PINS);
+            assertTrue(game.isOver());
+            assertEquals(1, updatedFrames.size());
+            assertExpectedScore(38, updatedFrames, 0);                    //Frame #10: / + X = 20 (38)
+        }
+
+        @Test
+        void addRoll_withOpenFinalFrame_thenGameOver() {
+            final Game game = createDefaultFrames("Clint Ikle", 0, 0);
+            game.addRoll(3);
+            game.addRoll(4);
+            assertTrue(game.isOver());
+            assertEquals(7, game.score());
+        }
+
+        @Test
+        void addRoll_withPerfectGame_thenReturnCorrectScore() {
+            final Game game = new Game("Stryker");
+            for (int i = 0; i < 12; i++)
+                game.addRoll(Frame.MAX_PINS);
+            assertTrue(game.isOver());
+            assertTrue(game.isPerfect());
+        }
+    }
+
+    @Nested
+    @DisplayName("Add a Roll from the Standing Pins")
+    final class AddStandingPinsTest {
+        @Test
+        void addStandingPins_withInvalidMask_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Bit Flipper");
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.addStandingPins((short) (PinMask.ALL_PINS + 1))
+            );
+        }
+
+        @Test
+        void addStandingPins_withPinStandingAgain_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Lazarus Pin");
+            game.addStandingPins(PinMask.of(7, 10));
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.addStandingPins(PinMask.of(6, 10))
+            );
+        }
+
+        @Test
+        void addStandingPins_afterCountedRoll_thenThrowIllegalStateException() {
+            final Game game = new Game("Count Dracula");
+            game.addRoll(8);
+            assertThrows(IllegalStateException.class, () ->
+                    game.addStandingPins(PinMask.NO_PINS)
+            );
+        }
+
+        @Test
+        void addStandingPins_afterCountedFrame_thenStartFullRack() {
+            final Game game = new Game("Count Basie");
+            game.addRoll(8);
+            game.addRoll(1);
+            game.addStandingPins(PinMask.of(7, 10));
+            game.addStandingPins(PinMask.NO_PINS);
+            assertEquals(DefaultFrame.of(8, 2), game.frame(1));
+        }
+
+        @Test
+        void addStandingPins_withSplitConverted_thenDeriveCounts() {
+            final Game game = new Game("Split Tease");
+            game.addStandingPins(PinMask.of(7, 10));
+            game.addStandingPins(PinMask.NO_PINS);
+            game.addStandingPins(PinMask.NO_PINS);
+            game.updateScore();
+            assertArrayEquals(new int[] {8, 2, 10}, game.rolls());
+            assertEquals(20, game.score());
+        }
+
+        @Test
+        void addStandingPins_withFinalFrameStrike_thenResetRack() {
+            final Game game = createDefaultFrames("Rack Ham", 0, 0);
+            game.addStandingPins(PinMask.NO_PINS);
+            game.addStandingPins(PinMask.of(10));
+            game.addStandingPins(PinMask.NO_PINS);
+            assertTrue(game.isOver());
+            assertEquals(FinalFrame.of(Frame.MAX_PINS, 9, 1), game.frame(9));
+        }
+    }
+
     @Nested
     @DisplayName("Update the Score")
     final class UpdateScoreTest {
@@ -141,7 +319,7 @@ final class GameTest {
         void updateScore_withZeroFrame_thenNoBonus() {
             final Game game = new Game("Mo Lasses");
             game.addFrame(new DefaultFrame(0, 0));
-            final List<Frame> updatedFrames = game.updateScore();
+            final List<ScoredFrame> updatedFrames = game.updateScore();
             assertEquals(1, updatedFrames.size());
             assertExpectedScore(0, updatedFrames, 0);
         }
@@ -152,7 +330,7 @@ final class GameTest {
             final int nbrPins1 = 3;
             final int nbrPins2 = 6;
             game.addFrame(new DefaultFrame(nbrPins1, nbrPins2));
-            final List<Frame> updatedFrames = game.updateScore();
+            final List<ScoredFrame> updatedFrames = game.updateScore();
             final int expectedFrame1 = nbrPins1 + nbrPins2;  //Frame #1: 3 + 6 = 9 (9)
             assertEquals(1, updatedFrames.size());
             assertExpectedScore(expectedFrame1, updatedFrames, 0);
@@ -174,7 +352,7 @@ final class GameTest {
             final int nbrPins4 = 1;
             game.addFrame(new DefaultFrame(nbrPins1, nbrPins2));
             game.addFrame(new DefaultFrame(nbrPins3, nbrPins4));
-            final List<Frame> updatedFrames = game.updateScore();
+            final List<ScoredFrame> updatedFrames = game.updateScore();
             final int expectedFrame1 = nbrPins1 + nbrPins2 + nbrPins3;  //Frame #1: / + 7 = 17 (17)
             final int expectedFrame2 = nbrPins3 + nbrPins4;             //Frame #2: 7 + 1 = 8 (25)
             assertEquals(2, updatedFrames.size());
@@ -205,7 +383,7 @@ final class GameTest {
             final int nbrPins3 = 3;
             game.addFrame(new DefaultFrame(nbrPins1, 0));
             game.addFrame(new DefaultFrame(nbrPins2, nbrPins3));
-            final List<Frame> updatedFrames = game.updateScore();
+            final List<ScoredFrame> updatedFrames = game.updateScore();
             final int expectedFrame1 = nbrPins1 + nbrPins2 + nbrPins3;  //Frame #1: X + 1 + 3 = 14 (14)
             final int expectedFrame2 = nbrPins2 + nbrPins3;             //Frame #2: 1 + 3 = 4 (18)
             assertEquals(2, updatedFrames.size());
@@ -224,7 +402,7 @@ final class GameTest {
             game.addFrame(new DefaultFrame(nbrPins1, 0));
             game.addFrame(new DefaultFrame(nbrPins2, nbrPins3));
             game.addFrame(new DefaultFrame(nbrPins4, 0));
-            final List<Frame> updatedFrames = game.updateScore();
+            final List<ScoredFrame> updatedFrames = game.updateScore();
             final int expectedFrame1 = nbrPins1 + nbrPins2 + nbrPins3;  //Frame #1: X + / = 20 (20)
             final int expectedFrame2 = nbrPins2 + nbrPins3 + nbrPins4;  //Frame #2: / + 2 = 12 (32)
             final int expectedFrame3 = nbrPins4 + nbrPins5;             //Frame #3: 2 + 0 = 2 (34)
@@ -247,7 +425,7 @@ final class GameTest {
                 game.addFrame(new DefaultFrame(nbrPins1Thru8FirstAttempt, nbrPins1Thru8SecondAttempt));
             game.addFrame(new DefaultFrame(nbrPins9FirstAttempt, 0));
             game.addFrame(new FinalFrame(nbrPins10FirstAttempt, nbrPins10SecondAttempt));
-            final List<Frame> updatedFrames = game.updateScore();
+            final List<ScoredFrame> updatedFrames = game.updateScore();
             final int expectedFrame1Thru8 =
                     (nbrPins1Thru8FirstAttempt + nbrPins1Thru8SecondAttempt) * nbrInitialFrames;  //Frame #1-8: 3 * 8 = 24 (24)
             final int expectedFrame9 =
@@ -274,7 +452,7 @@ final class GameTest {
             game.addFrame(new DefaultFrame(nbrPins8FirstAttempt, 0));
             game.addFrame(new DefaultFrame(nbrPins9FirstAttempt, 0));
             game.addFrame(new FinalFrame(nbrPins10FirstAttempt, nbrPins10SecondAttempt));
-            final List<Frame> updatedFrames = game.updateScore();
+            final List<ScoredFrame> updatedFrames = game.updateScore();
             final int expectedFrame1Thru7 =
                     (nbrPins1Thru7FirstAttempt + nbrPins1Thru7SecondAttempt) * nbrInitialFrames;  //Frame #1-7: 9 * 7 = 63 (63)
             final int expectedFrame8 =
@@ -288,6 +466,38 @@ final class GameTest {
             assertExpectedScore(expectedFrame1Thru7 + expectedFrame8 + expectedFrame9, updatedFrames, 8);
             assertExpectedScore(expectedFrame1Thru7 + expectedFrame8 + expectedFrame9 + expectedFrame10, updatedFrames, 9);
         }
+
+        @Test
+        void updateScore_withEveryFrame_thenOnlyReturnNewlySettledFrames() {
+            final Game game = new Game("Ella Vator");
+            game.addFrame(DefaultFrame.strike());
+            assertEquals(0, game.updateScore().size());
+            game.addFrame(new DefaultFrame(6, 4));
+            final List<ScoredFrame> strikeUpdate = game.updateScore();
+            assertEquals(1, strikeUpdate.size());
+            assertExpectedScore(20, strikeUpdate, 0);                  //Frame #1: X + / = 20 (20)
+            game.addFrame(new DefaultFrame(3, 2));
+            final List<ScoredFrame> spareUpdate = game.updateScore();
+            assertEquals(2, spareUpdate.size());
+            assertExpectedScore(33, spareUpdate, 0);                   //Frame #2: / + 3 = 13 (33)
+            assertExpectedScore(38, spareUpdate, 1);                   //Frame #3: 3 + 2 = 5 (38)
+            assertEquals(0, game.updateScore().size());
+            assertEquals(38, game.score());
+        }
+
+        @Test
+        void updateScore_withPerfectGameEveryFrame_thenSettleEachFrameOnce() {
+            final Game game = new Game("Al Strikes");
+            int nbrUpdatedFrames = 0;
+            for (int i = 0; i < Game.MAX_FRAMES - 1; i++) {
+                game.addFrame(DefaultFrame.strike());
+                nbrUpdatedFrames += game.updateScore().size();
+            }
+            game.addFrame(new FinalFrame(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS));
+            nbrUpdatedFrames += game.updateScore().size();
+            assertEquals(Game.MAX_FRAMES, nbrUpdatedFrames);
+            assertEquals(300, game.score());
+        }
     }
 
     @Nested
@@ -342,6 +552,444 @@ final class GameTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get a Frame Score")
+    final class FrameScoreTest {
+        @Test
+        void frameScore_withBadIndex_thenThrowIndexOutOfBoundsException() {
+            final Game game = new Game("Jack Pott");
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    game.frameScore(0)
+            );
+        }
+
+        @Test
+        void frameScore_withPendingBonus_thenReturnEmpty() {
+            final Game game = new Game("Barb Dwyer");
+            game.addFrame(new DefaultFrame(3, 7));
+            game.updateScore();
+            assertTrue(game.frameScore(0).isEmpty());
+        }
+
+        @Test
+        void frameScore_withHappyPath_thenReturnCumulativeScore() {
+            final Game game = new Game("Rusty Nails");
+            game.addFrame(new DefaultFrame(3, 7));
+            game.addFrame(new DefaultFrame(4, 2));
+            game.updateScore();
+            assertEquals(2, game.nbrFrames());
+            assertEquals(14, game.frameScore(0).orElse(-1));  //Frame #1: / + 4 = 14 (14)
+            assertEquals(20, game.frameScore(1).orElse(-1));  //Frame #2: 4 + 2 = 6 (20)
+        }
+
+        @Test
+        void frameScore_withSharedFrames_thenScoreEachGameIndependently() {
+            final DefaultFrame spareFrame = DefaultFrame.of(5, 5);
+            final Game game1 = new Game("Shelly Beach");
+            final Game game2 = new Game("Sandy Shaw");
+            game1.addFrame(spareFrame);
+            game1.addFrame(DefaultFrame.of(1, 0));
+            game2.addFrame(spareFrame);
+            game2.addFrame(DefaultFrame.of(9, 0));
+            game1.updateScore();
+            game2.updateScore();
+            assertEquals(11, game1.frameScore(0).orElse(-1));
+            assertEquals(19, game2.frameScore(0).orElse(-1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Score Listeners")
+    final class ScoreListenerTest {
+        @Test
+        void addScoreListener_withNullListener_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Lisa Ning");
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.addScoreListener(null)
+            );
+        }
+
+        @Test
+        void addScoreListener_withHappyPath_thenNotifyEveryScoredFrame() {
+            final Game game = new Game("Ernie Stining");
+            final List<int[]> notifications = new ArrayList<>();
+            game.addScoreListener((frameIndex, score, frameTotal) ->
+                    notifications.add(new int[] {frameIndex, score, frameTotal}));
+            game.addRoll(Frame.MAX_PINS);
+            game.addRoll(3);
+            assertTrue(notifications.isEmpty());
+            game.addRoll(4);
+            assertEquals(2, notifications.size());
+            assertArrayEquals(new int[] {0, 17, Frame.MAX_PINS}, notifications.get(0));  //Frame #1: X + 3 + 4 = 17 (17)
+            assertArrayEquals(new int[] {1, 24, 7}, notifications.get(1));               //Frame #2: 3 + 4 = 7 (24)
+        }
+
+        @Test
+        void addScoreListener_withFailingListener_thenKeepScoring() {
+            final Game game = new Game("Buck Fail");
+            final List<Integer> scores = new ArrayList<>();
+            game.addScoreListener((frameIndex, score, frameTotal) -> {
+                throw new IllegalStateException("Display unplugged");
+            });
+            game.addScoreListener((frameIndex, score, frameTotal) -> scores.add(score));
+            game.addFrame(DefaultFrame.of(2, 3));
+            assertEquals(1, game.updateScore().size());
+            assertEquals(List.of(5), scores);
+        }
+
+        @Test
+        void addScoreListener_withListenerReadingGame_thenNotBlock() {
+            final Game game = new Game("Rhea Entrant");
+            final List<Integer> frameScores = new ArrayList<>();
+            final ScoreListener reader = (frameIndex, score, frameTotal) ->
+                    frameScores.add(game.frameScore(frameIndex).orElseThrow());
+            game.addScoreListener(reader);
+            game.addScoreListener((frameIndex, score, frameTotal) -> {
+                game.removeScoreListener(reader);
+                assertTrue(game.toString().contains(game.playerName()));
+            });
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                game.addRoll(3);
+                game.addRoll(4);
+                game.addRoll(5);
+                game.addRoll(2);
+            });
+            assertEquals(List.of(7), frameScores);  //Removed after the first frame
+        }
+
+        @Test
+        void removeScoreListener_withHappyPath_thenStopNotifying() {
+            final Game game = new Game("Sid Down");
+            final List<Integer> scores = new ArrayList<>();
+            final ScoreListener listener = (frameIndex, score, frameTotal) -> scores.add(score);
+            game.addScoreListener(listener);
+            assertTrue(game.removeScoreListener(listener));
+            assertFalse(game.removeScoreListener(listener));
+            game.addFrame(DefaultFrame.of(2, 3));
+            game.updateScore();
+            assertTrue(scores.isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Project the Final Score")
+    final class ProjectionTest {
+        @Test
+        void newInstance_withNoRolls_thenZeroToPerfect() {
+            final Game game = new Game("Rhoda Head");
+            assertEquals(0, game.minPossibleScore());
+            assertEquals(300, game.maxPossibleScore());
+        }
+
+        @Test
+        void addRoll_withPendingStrike_thenBankBonusPins() {
+            final Game game = new Game("Rhoda Head");
+            game.addRoll(Frame.MAX_PINS);
+            game.addRoll(3);
+            assertEquals(0, game.score());  //The strike is still waiting on its second bonus roll
+            assertEquals(16, game.minPossibleScore());
+            assertEquals(280, game.maxPossibleScore());
+        }
+
+        @Test
+        void addRoll_withMissedFirstBall_thenNoLongerPerfect() {
+            final Game game = new Game("Rhoda Head");
+            game.addRoll(9);
+            assertEquals(9, game.minPossibleScore());
+            assertEquals(290, game.maxPossibleScore());
+        }
+
+        @Test
+        void addFrame_withGameOver_thenMinEqualsMax() {
+            final Game game = createDefaultFrames("Rhoda Head", 9, 1);
+            game.addFrame(new FinalFrame(9, 1, 9));
+            assertEquals(190, game.minPossibleScore());
+            assertEquals(190, game.maxPossibleScore());
+        }
+
+        @Test
+        void addRoll_withRandomGames_thenMatchFinishingTheGame() {
+            final Random random = new Random(300);
+            for (int i = 0; i < 500; i++) {
+                final List<Integer> rolls = new ArrayList<>();
+                final Game game = new Game("Rhoda Head");
+                while (!game.isOver()) {
+                    assertEquals(finish(rolls, false), game.minPossibleScore(), rolls::toString);
+                    assertEquals(finish(rolls, true), game.maxPossibleScore(), rolls::toString);
+                    final int nbrPins = random.nextInt(3) == 0 ? maxPins(game) : random.nextInt(maxPins(game) + 1);
+                    game.addRoll(nbrPins);
+                    rolls.add(nbrPins);
+                }
+                assertEquals(game.score(), game.minPossibleScore());
+                assertEquals(game.score(), game.maxPossibleScore());
+            }
+        }
+
+        @Test
+        void addFrame_withRandomFrames_thenMatchAddRoll() {
+            final Random random = new Random(178);
+            for (int i = 0; i < 200; i++) {
+                final Game rolledGame = new Game("Rhoda Head");
+                final Game framedGame = new Game("Rhoda Head");
+                while (!rolledGame.isOver()) {
+                    final int nbrFrames = rolledGame.nbrFrames();
+                    while (rolledGame.nbrFrames() == nbrFrames)
+                        rolledGame.addRoll(random.nextBoolean() ? maxPins(rolledGame)
+                                : random.nextInt(maxPins(rolledGame) + 1));
+                    framedGame.addFrame(rolledGame.frame(nbrFrames));
+                    assertEquals(rolledGame.minPossibleScore(), framedGame.minPossibleScore());
+                    assertEquals(rolledGame.maxPossibleScore(), framedGame.maxPossibleScore());
+                }
+            }
+        }
+
+        /**
+         * Replay the rolls, then finish the game with every pin standing or with gutter balls
+         */
+        private static int finish(List<Integer> rolls, boolean clearEveryRack) {
+            final Game game = new Game("Rhoda Head");
+            for (final int nbrPins : rolls)
+                game.addRoll(nbrPins);
+            while (!game.isOver())
+                game.addRoll(clearEveryRack ? maxPins(game) : 0);
+            return game.score();
+        }
+
+        /**
+         * Find the pins standing by trying every roll, from a strike down
+         */
+        private static int maxPins(Game game) {
+            for (int nbrPins = Frame.MAX_PINS; nbrPins > 0; nbrPins--) {
+                final Game probe = new Game("Pro Be");
+                final int[] rolls = game.rolls();
+                for (final int roll : rolls)
+                    probe.addRoll(roll);
+                try {
+                    probe.addRoll(nbrPins);
+                    return nbrPins;
+                }
+                catch (IllegalArgumentException tooManyPins) {
+                    //Fewer pins are standing
+                }
+            }
+            return 0;
+        }
+    }
+
+    @Nested
+    @DisplayName("Correct a Frame")
+    final class CorrectFrameTest {
+        @Test
+        void correctFrame_withNullFrame_thenThrowIllegalArgumentException() {
+            final Game game = createDefaultFrames("Miss Reed", 3, 4);
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.correctFrame(0, null)
+            );
+        }
+
+        @Test
+        void correctFrame_withUnrecordedFrame_thenThrowIndexOutOfBoundsException() {
+            final Game game = createDefaultFrames("Miss Reed", 3, 4);
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    game.correctFrame(Game.MAX_FRAMES - 1, new FinalFrame(3, 4))
+            );
+        }
+
+        @Test
+        void correctFrame_withFinalFrameTooEarly_thenThrowIllegalArgumentException() {
+            final Game game = createDefaultFrames("Miss Reed", 3, 4);
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.correctFrame(0, new FinalFrame(3, 4))
+            );
+        }
+
+        @Test
+        void correctFrame_withDefaultFrameLast_thenThrowIllegalArgumentException() {
+            final Game game = zeroGame("Miss Reed");
+            assertThrows(IllegalArgumentException.class, () ->
+                    game.correctFrame(Game.MAX_FRAMES - 1, DefaultFrame.of(3, 4))
+            );
+        }
+
+        @Test
+        void correctFrame_withOpenFrames_thenRescoreFromTheCorrectedFrame() {
+            final Game game = zeroGame("Miss Reed");
+            final List<Integer> notifiedFrames = new ArrayList<>();
+            game.addScoreListener((frameIndex, score, frameTotal) -> notifiedFrames.add(frameIndex));
+            final List<ScoredFrame> rescoredFrames = game.correctFrame(6, DefaultFrame.of(3, 4));
+            assertEquals(List.of(6, 7, 8, 9), notifiedFrames);
+            assertEquals(4, rescoredFrames.size());
+            assertExpectedScore(7, rescoredFrames, 0);
+            assertEquals(7, game.score());
+            assertEquals(OptionalInt.of(0), game.frameScore(5));
+        }
+
+        @Test
+        void correctFrame_withStrikesBefore_thenRescoreTheirBonuses() {
+            final Game game = new Game("Miss Reed");
+            game.addFrame(DefaultFrame.strike());
+            game.addFrame(DefaultFrame.strike());
+            game.addFrame(DefaultFrame.of(3, 4));
+            game.updateScore();
+            assertEquals(47, game.score());  //23 + 17 + 7
+            final List<ScoredFrame> rescoredFrames = game.correctFrame(2, DefaultFrame.of(5, 5));
+            assertEquals(2, rescoredFrames.size());  //The spare is still waiting on its bonus
+            assertExpectedScore(25, rescoredFrames, 0);
+            assertExpectedScore(45, rescoredFrames, 1);
+            assertEquals(45, game.score());
+            assertTrue(game.frameScore(2).isEmpty());
+        }
+
+        @Test
+        void correctFrame_withOpenFrameBecomingStrike_thenShiftLaterRolls() {
+            final Game game = createDefaultFrames("Miss Reed", 3, 4);
+            game.addFrame(new FinalFrame(3, 4));
+            game.updateScore();
+            game.correctFrame(4, DefaultFrame.strike());
+            assertEquals(80, game.score());  //70 - 7 + 10 + 7 bonus
+            assertEquals(OptionalInt.of(45), game.frameScore(4));
+            game.correctFrame(4, DefaultFrame.of(3, 4));
+            assertEquals(70, game.score());
+            assertEquals(70, game.minPossibleScore());
+            assertEquals(70, game.maxPossibleScore());
+        }
+
+        @Test
+        void correctFrame_withLastFrameBecomingStrike_thenNotifyUnscoredFrames() {
+            final Game game = createDefaultFrames("Miss Reed", 3, 4);
+            final Game partialGame = new Game("Miss Reed");
+            for (int frameIndex = 0; frameIndex < 3; frameIndex++)
+                partialGame.addFrame(game.frame(frameIndex));
+            partialGame.updateScore();
+            final List<int[]> unscored = new ArrayList<>();
+            partialGame.addScoreListener(new ScoreListener() {
+                @Override
+                public void frameScored(int frameIndex, int score, int frameTotal) {
+                    throw new AssertionError("Nothing was rescored");
+                }
+
+                @Override
+                public void framesUnscored(int frameIndex, int score) {
+                    unscored.add(new int[] {frameIndex, score});
+                }
+            });
+            assertTrue(partialGame.correctFrame(2, DefaultFrame.strike()).isEmpty());
+            assertEquals(1, unscored.size());
+            assertArrayEquals(new int[] {2, 14}, unscored.getFirst());  //The strike waits on its bonus rolls again
+            assertEquals(14, partialGame.score());
+        }
+
+        @Test
+        void correctFrame_withFrameInProgress_thenKeepItsRolls() {
+            final Game game = new Game("Miss Reed");
+            game.addRoll(3);
+            game.addRoll(4);
+            game.addRoll(5);
+            game.correctFrame(0, DefaultFrame.strike());
+            assertEquals(1, game.nbrFrames());
+            assertTrue(game.frameScore(0).isEmpty());  //Still waiting on the second bonus roll
+            assertEquals(List.of(new ScoredFrame(0, DefaultFrame.strike(), 20)), game.addRoll(5));  //X + 5 + 5
+        }
+
+        @Test
+        void correctFrame_withRandomGames_thenMatchRebuildingTheGame() {
+            final Random random = new Random(1964);
+            for (int i = 0; i < 500; i++) {
+                final Game game = new Game("Miss Reed");
+                final int nbrRolls = 1 + random.nextInt(Game.MAX_ROLLS);
+                while (!game.isOver() && game.rolls().length < nbrRolls)
+                    game.addRoll(random.nextBoolean() ? ProjectionTest.maxPins(game)
+                            : random.nextInt(ProjectionTest.maxPins(game) + 1));
+                if (game.nbrFrames() == 0)
+                    continue;
+                final int index = random.nextInt(game.nbrFrames());
+                final Frame correction = randomFrame(random, index);
+                game.correctFrame(index, correction);
+                final Game rebuiltGame = rebuild(game, index, correction);
+                assertEquals(rebuiltGame.toString(), game.toString());
+                assertEquals(rebuiltGame.score(), game.score());
+                assertEquals(rebuiltGame.minPossibleScore(), game.minPossibleScore(), game::toString);
+                assertEquals(rebuiltGame.maxPossibleScore(), game.maxPossibleScore(), game::toString);
+                assertArrayEquals(rebuiltGame.rolls(), game.rolls());
+            }
+        }
+
+        private static Frame randomFrame(Random random, int index) {
+            final int nbrPins1 = random.nextInt(Frame.MAX_PINS + 1);
+            if (index < Game.MAX_FRAMES - 1)
+                return nbrPins1 == Frame.MAX_PINS ? DefaultFrame.strike()
+                        : DefaultFrame.of(nbrPins1, random.nextInt(Frame.MAX_PINS - nbrPins1 + 1));
+            final int nbrPins2 =
+                    random.nextInt((nbrPins1 == Frame.MAX_PINS ? Frame.MAX_PINS : Frame.MAX_PINS - nbrPins1) + 1);
+            if (!FinalFrame.hasEarnedBonusRoll(nbrPins1, nbrPins2))
+                return FinalFrame.of(nbrPins1, nbrPins2);
+            final int bonusPinsStanding = FinalFrame.bonusPinsStanding(nbrPins1, nbrPins2);
+            return FinalFrame.of(nbrPins1, nbrPins2, random.nextInt(bonusPinsStanding + 1));
+        }
+
+        /**
+         * Bowl the corrected game from scratch: every frame as recorded (but the corrected one), then any frame still
+         * in progress
+         */
+        private static Game rebuild(Game game, int index, Frame correction) {
+            final Game rebuiltGame = new Game("Miss Reed");
+            for (int frameIndex = 0; frameIndex < game.nbrFrames(); frameIndex++)
+                rebuiltGame.addFrame(frameIndex == index ? correction : game.frame(frameIndex));
+            final int[] rolls = game.rolls();
+            final int[] rebuiltRolls = rebuiltGame.rolls();
+            for (int rollIndex = rebuiltRolls.length; rollIndex < rolls.length; rollIndex++)
+                rebuiltGame.addRoll(rolls[rollIndex]);
+            rebuiltGame.updateScore();
+            return rebuiltGame;
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent Reads")
+    final class ConcurrentReadTest {
+        @Test
+        void score_withConcurrentWriter_thenNeverGoBackwards() throws InterruptedException {
+            final Game game = new Game("Polly Esther");
+            final AtomicBoolean done = new AtomicBoolean();
+            final AtomicReference<Throwable> failure = new AtomicReference<>();
+            final List<Thread> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++)
+                readers.add(Thread.ofPlatform().start(() -> {
+                    int lastScore = 0;
+                    while (!done.get()) {
+                        final int score = game.score();
+                        if (score < lastScore)
+                            failure.set(new AssertionError("Score went backwards: %d -> %d".formatted(lastScore, score)));
+                        lastScore = score;
+                        if (game.nbrFrames() > 0 && game.frameScore(0).orElse(0) < 0)
+                            failure.set(new AssertionError("Negative frame score"));
+                        game.isOver();
+                        game.toString();
+                    }
+                }));
+            for (int i = 0; i < Game.MAX_FRAMES - 1; i++) {
+                game.addFrame(DefaultFrame.strike());
+                game.updateScore();
+            }
+            game.addFrame(new FinalFrame(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS));
+            game.updateScore();
+            done.set(true);
+            for (final Thread reader : readers)
+                reader.join();
+            assertNull(failure.get());
+            assertEquals(300, game.score());
+        }
+
+        @Test
+        void toString_withScoredFrames_thenIncludeFrameScores() {
+            final Game game = new Game("Tess Tickle");
+            game.addFrame(new DefaultFrame(4, 5));
+            game.addFrame(DefaultFrame.strike());
+            game.updateScore();
+            assertTrue(game.toString().contains("frameScores=[9]"));
+        }
+    }
+
     private static Game zeroGame(String playerName) {
         final Game game = createDefaultFrames(playerName, 0, 0);
         game.addFrame(new FinalFrame(0, 0));
@@ -356,7 +1004,7 @@ final class GameTest {
         return game;
     }
 
-    private static void assertExpectedScore(int expectedScore, List<Frame> frames, int index) {
-        assertEquals(expectedScore, frames.get(index).score().orElse(-1));
+    private static void assertExpectedScore(int expectedScore, List<ScoredFrame> frames, int index) {
+        assertEquals(expectedScore, frames.get(index).score());
     }
 }
@@ -0,0 +1,174 @@
+package net.sattler22.bowling.core;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ten Pin Bowling Notation Scanner Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Notation Scanner Unit Tests")
+final class NotationScannerTest {
+
+    private static int[] rolls(NotationScanner scanner) {
+        final PackedGame packedGame = scanner.toPackedGame();
+        final int[] rolls = new int[packedGame.nbrRolls()];
+        for (int index = 0; index < rolls.length; index++)
+            rolls[index] = packedGame.roll(index);
+        return rolls;
+    }
+
+    @Nested
+    @DisplayName("Scan a Game")
+    final class ScanTest {
+        @Test
+        void scan_withNullNotation_thenThrowIllegalArgumentException() {
+            final NotationScanner scanner = new NotationScanner();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scanner.scan(null)
+            );
+        }
+
+        @Test
+        void scan_withInvalidRange_thenThrowIndexOutOfBoundsException() {
+            final NotationScanner scanner = new NotationScanner();
+            final char[] chars = "X".toCharArray();
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    scanner.scan(chars, 0, 2)
+            );
+        }
+
+        @Test
+        void scan_withInvalidCharacter_thenThrowIllegalArgumentException() {
+            final NotationScanner scanner = new NotationScanner();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scanner.scan("X 7? 9-")
+            );
+        }
+
+        @Test
+        void scan_withLeadingSpare_thenThrowIllegalArgumentException() {
+            final NotationScanner scanner = new NotationScanner();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scanner.scan("/5")
+            );
+        }
+
+        @Test
+        void scan_withFinalFrameSpareAfterStrike_thenThrowIllegalArgumentException() {
+            final NotationScanner scanner = new NotationScanner();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scanner.scan("-- -- -- -- -- -- -- -- -- X/5")
+            );
+        }
+
+        @Test
+        void scan_withFinalFrameBonusSpareAfterSpare_thenThrowIllegalArgumentException() {
+            final NotationScanner scanner = new NotationScanner();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scanner.scan("-- -- -- -- -- -- -- -- -- 5//")
+            );
+        }
+
+        @Test
+        void scan_withTooManyPins_thenThrowIllegalArgumentException() {
+            final NotationScanner scanner = new NotationScanner();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scanner.scan("79")
+            );
+        }
+
+        @Test
+        void scan_withTooManyFrames_thenThrowIllegalArgumentException() {
+            final NotationScanner scanner = new NotationScanner();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scanner.scan("X X X X X X X X X XXX X")
+            );
+        }
+
+        @Test
+        void scan_withBonusRollNotEarned_thenThrowIllegalArgumentException() {
+            final NotationScanner scanner = new NotationScanner();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scanner.scan("-- -- -- -- -- -- -- -- -- 72 5")
+            );
+        }
+
+        @Test
+        void scan_withTypicalGame_thenPackRolls() {
+            final NotationScanner scanner = new NotationScanner();
+            scanner.scan("X 7/ 9- X X 8/ 6- X 9/ X8/");
+            assertArrayEquals(new int[] {10, 7, 3, 9, 0, 10, 10, 8, 2, 6, 0, 10, 9, 1, 10, 8, 2}, rolls(scanner));
+        }
+
+        @Test
+        void scan_withFinalFrameStrikeThenSpare_thenPackRolls() {
+            final NotationScanner scanner = new NotationScanner();
+            scanner.scan("-- -- -- -- F- -- -- -- -- X7/");
+            assertEquals(Game.MAX_ROLLS, scanner.nbrRolls());
+            assertEquals(7, rolls(scanner)[19]);
+        }
+
+        @Test
+        void scan_withSpareAfterGutterBallOrFoul_thenPackRolls() {
+            final NotationScanner scanner = new NotationScanner();
+            scanner.scan("-/ F/ 5/ -- -- -- -- -- -- X-/");
+            assertArrayEquals(new int[] {0, 10, 0, 10, 5, 5, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 0, 10},
+                    rolls(scanner));
+        }
+
+        @Test
+        void scan_withGutterSpareAfterStrike_thenPackRolls() {
+            final NotationScanner scanner = new NotationScanner();
+            scanner.scan("5/X-/");
+            assertArrayEquals(new int[] {5, 5, 10, 0, 10}, rolls(scanner));
+        }
+
+        @Test
+        void scan_withReusedScanner_thenForgetPreviousGame() {
+            final NotationScanner scanner = new NotationScanner();
+            scanner.scan("XXXXXXXXXXXX");
+            scanner.scan("12");
+            assertArrayEquals(new int[] {1, 2}, rolls(scanner));
+        }
+    }
+
+    @Nested
+    @DisplayName("Score a Game")
+    final class ScoreTest {
+        @Test
+        void score_withTypicalGame_thenSuccessful() {
+            final NotationScanner scanner = new NotationScanner();
+            final int[] frameScores = new int[Game.MAX_FRAMES];
+            scanner.scan("X 7/ 9- X X 8/ 6- X 9/ X8/");
+            assertEquals(Game.MAX_FRAMES, scanner.score(frameScores));
+            assertArrayEquals(new int[] {20, 39, 48, 76, 96, 112, 118, 138, 158, 178}, frameScores);
+        }
+
+        @Test
+        void score_withPerfectGame_thenSuccessful() {
+            final NotationScanner scanner = new NotationScanner();
+            final int[] frameScores = new int[Game.MAX_FRAMES];
+            scanner.scan("x x x x x x x x x xxx");
+            assertEquals(Game.MAX_FRAMES, scanner.score(frameScores));
+            assertEquals(300, frameScores[Game.MAX_FRAMES - 1]);
+        }
+
+        @Test
+        void score_withPartialGame_thenScoreSettledFrames() {
+            final NotationScanner scanner = new NotationScanner();
+            final int[] frameScores = new int[Game.MAX_FRAMES];
+            scanner.scan("X 7/ 9");
+            assertEquals(2, scanner.score(frameScores));
+            assertEquals(39, frameScores[1]);
+        }
+    }
+}
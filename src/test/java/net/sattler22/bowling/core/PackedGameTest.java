@@ -0,0 +1,226 @@
+package net.sattler22.bowling.core;
+
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ten Pin Bowling Packed Game Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Packed Game Unit Tests")
+final class PackedGameTest {
+
+    //X 7/ 9- X X 8/ 6- X 9/ X8/ (178):
+    private static final int[] TYPICAL_ROLLS = {10, 7, 3, 9, 0, 10, 10, 8, 2, 6, 0, 10, 9, 1, 10, 8, 2};
+    private static final int[] TYPICAL_SCORES = {20, 39, 48, 76, 96, 112, 118, 138, 158, 178};
+
+    @Nested
+    @DisplayName("Pack a Series of Rolls")
+    final class OfRollsTest {
+        @Test
+        void of_withNullRolls_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of((int[]) null)
+            );
+        }
+
+        @Test
+        void of_withTooManyRolls_thenThrowIllegalArgumentException() {
+            final int[] rolls = new int[Game.MAX_ROLLS + 1];
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of(rolls)
+            );
+        }
+
+        @Test
+        void of_withTooManyPins_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of(Frame.MAX_PINS + 1)
+            );
+        }
+
+        @Test
+        void of_withTooManyFramePins_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of(6, 5)
+            );
+        }
+
+        @Test
+        void of_withTooManyFrames_thenThrowIllegalArgumentException() {
+            final int[] rolls = new int[Game.MAX_ROLLS];
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of(rolls)  //Ten open frames use only 20 rolls
+            );
+        }
+
+        @Test
+        void of_withFrameInProgress_thenSuccessful() {
+            assertEquals(2, PackedGame.of(Frame.MAX_PINS, 3).nbrRolls());
+        }
+
+        @Test
+        void of_withUnearnedBonusRoll_thenThrowIllegalArgumentException() {
+            final int[] rolls = new int[Game.MAX_ROLLS];
+            rolls[Game.MAX_ROLLS - 3] = 4;
+            rolls[Game.MAX_ROLLS - 1] = 5;
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of(rolls)
+            );
+        }
+
+        @Test
+        void of_withHappyPath_thenSuccessful() {
+            final PackedGame packedGame = PackedGame.of(TYPICAL_ROLLS);
+            assertEquals(TYPICAL_ROLLS.length, packedGame.nbrRolls());
+            for (int index = 0; index < TYPICAL_ROLLS.length; index++)
+                assertEquals(TYPICAL_ROLLS[index], packedGame.roll(index));
+        }
+
+        @Test
+        void roll_withBadIndex_thenThrowIndexOutOfBoundsException() {
+            final PackedGame packedGame = PackedGame.of(3, 4);
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    packedGame.roll(2)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Wrap Packed Rolls")
+    final class OfPackedTest {
+        @Test
+        void of_withTooManyPackedRolls_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of(0, 0, Game.MAX_ROLLS + 1)
+            );
+        }
+
+        @Test
+        void of_withNibblePastLastRoll_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of(0x35L, 0, 1)
+            );
+        }
+
+        @Test
+        void of_withInvalidPackedRoll_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of(0x0FL, 0, 1)
+            );
+        }
+
+        @Test
+        void of_withHappyPath_thenSameAsPackedRolls() {
+            final PackedGame packedGame = PackedGame.of(TYPICAL_ROLLS);
+            assertEquals(packedGame, PackedGame.of(packedGame.low(), packedGame.high(), packedGame.nbrRolls()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Convert To and From a Game")
+    final class ConversionTest {
+        @Test
+        void of_withNullGame_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PackedGame.of((Game) null)
+            );
+        }
+
+        @Test
+        void of_withPerfectGame_thenPackAllTwelveRolls() {
+            final Game game = new Game("Perry Fect");
+            for (int i = 0; i < Game.MAX_FRAMES - 1; i++)
+                game.addFrame(DefaultFrame.strike());
+            game.addFrame(new FinalFrame(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS));
+            final PackedGame packedGame = PackedGame.of(game);
+            assertEquals(12, packedGame.nbrRolls());
+        }
+
+        @Test
+        void toGame_withTypicalGame_thenRoundTripLosslessly() {
+            final PackedGame packedGame = PackedGame.of(TYPICAL_ROLLS);
+            final Game game = packedGame.toGame("Rhoda Dendron");
+            assertEquals(178, game.score());
+            assertEquals(packedGame, PackedGame.of(game));
+        }
+
+        @Test
+        void toGame_withFrameInProgress_thenRoundTripLosslessly() {
+            final PackedGame packedGame = PackedGame.of(4, 6, 10, 7);
+            final Game game = packedGame.toGame("Justin Case");
+            assertEquals(20, game.score());  //4/ settles on the strike, the strike waits on its second bonus roll
+            assertEquals(2, game.nbrFrames());
+            assertEquals(packedGame, PackedGame.of(game));
+        }
+
+        @Test
+        void toGame_withPartialGame_thenRoundTripLosslessly() {
+            final PackedGame packedGame = PackedGame.of(10, 10, 4, 6);
+            final Game game = packedGame.toGame("Hal Fway");
+            assertEquals(44, game.score());  //X X 4/ leaves the spare waiting on its bonus
+            assertEquals(packedGame, PackedGame.of(game));
+        }
+    }
+
+    @Nested
+    @DisplayName("Score a Packed Game")
+    final class ScoreTest {
+        @Test
+        void score_withNoRolls_thenScoreNoFrames() {
+            assertEquals(0, PackedGame.of().score(new int[Game.MAX_FRAMES]));
+        }
+
+        @Test
+        void score_withTypicalGame_thenReturnCumulativeFrameScores() {
+            final int[] frameScores = new int[Game.MAX_FRAMES];
+            assertEquals(Game.MAX_FRAMES, PackedGame.of(TYPICAL_ROLLS).score(frameScores));
+            assertArrayEquals(TYPICAL_SCORES, frameScores);
+        }
+
+        @Test
+        void score_withPendingStrikes_thenStopAtFirstUnsettledFrame() {
+            final int[] frameScores = new int[Game.MAX_FRAMES];
+            assertEquals(1, PackedGame.of(3, 4, 10, 10).score(frameScores));
+            assertEquals(7, frameScores[0]);
+        }
+
+        @Test
+        void score_withAllSpares_thenReturnCorrectScore() {
+            final int[] rolls = new int[Game.MAX_ROLLS];
+            Arrays.fill(rolls, 5);
+            final int[] frameScores = new int[Game.MAX_FRAMES];
+            PackedGame.of(rolls).score(frameScores);
+            assertEquals(150, frameScores[Game.MAX_FRAMES - 1]);
+        }
+
+        @Test
+        void score_withEveryGameType_thenMatchGameScore() {
+            final int[][] games = {
+                TYPICAL_ROLLS,
+                {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10},
+                {9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0, 9, 0},
+                {0, 10, 10, 0, 10, 0, 5, 5, 0, 0, 10, 3, 7, 10, 10, 2, 8, 10}
+            };
+            for (final int[] rolls : games) {
+                final PackedGame packedGame = PackedGame.of(rolls);
+                final int[] frameScores = new int[Game.MAX_FRAMES];
+                packedGame.score(frameScores);
+                assertEquals(packedGame.toGame("Mark Down").score(), frameScores[Game.MAX_FRAMES - 1]);
+            }
+        }
+    }
+}
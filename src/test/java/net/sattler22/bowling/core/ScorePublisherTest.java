@@ -0,0 +1,143 @@
+package net.sattler22.bowling.core;
+
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.ScoreChange;
+import net.sattler22.bowling.model.ScoredFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Score Publisher Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Score Publisher Unit Tests")
+final class ScorePublisherTest {
+
+    @Nested
+    @DisplayName("Constructs a New Publisher")
+    final class NewInstanceTest {
+        @Test
+        void newInstance_withNullGame_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ScorePublisher(null, ForkJoinPool.commonPool(), 1)
+            );
+        }
+
+        @Test
+        void newInstance_withNullExecutor_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Rob Banks");
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ScorePublisher(game, null, 1)
+            );
+        }
+
+        @Test
+        void newInstance_withZeroBufferCapacity_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Sal Monella");
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ScorePublisher(game, ForkJoinPool.commonPool(), 0)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Publish Scores")
+    final class PublishTest {
+        @Test
+        void subscribe_withHappyPath_thenReceiveEveryScoredFrame() throws InterruptedException {
+            final Game game = new Game("Pat Pending");
+            final CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            try (final ScorePublisher publisher = new ScorePublisher(game, ForkJoinPool.commonPool(), 16)) {
+                publisher.subscribe(subscriber);
+                game.addFrame(DefaultFrame.of(5, 5));
+                game.addFrame(DefaultFrame.of(3, 1));
+                game.updateScore();
+            }
+            assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(ScoreChange.scored(new ScoredFrame(0, DefaultFrame.of(5, 5), 13)),
+                    ScoreChange.scored(new ScoredFrame(1, DefaultFrame.of(3, 1), 17))), subscriber.scoreChanges);
+        }
+
+        @Test
+        void subscribe_withCorrectedFrame_thenPublishFramesAsScored() throws InterruptedException {
+            final Game game = new Game("Al Beback");
+            final CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            try (final ScorePublisher publisher = new ScorePublisher(game, ForkJoinPool.commonPool(), 16)) {
+                publisher.subscribe(subscriber);
+                game.addFrame(DefaultFrame.of(3, 4));
+                game.addFrame(DefaultFrame.of(3, 4));
+                game.updateScore();
+                game.correctFrame(1, DefaultFrame.strike());
+                game.correctFrame(0, DefaultFrame.of(5, 4));
+            }
+            assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(ScoreChange.scored(new ScoredFrame(0, DefaultFrame.of(3, 4), 7)),
+                    ScoreChange.scored(new ScoredFrame(1, DefaultFrame.of(3, 4), 14)),
+                    ScoreChange.unscored(1, 7),
+                    ScoreChange.scored(new ScoredFrame(0, DefaultFrame.of(5, 4), 9))), subscriber.scoreChanges);
+        }
+
+        @Test
+        void subscribe_withSlowSubscriber_thenDropInsteadOfBlocking() throws InterruptedException {
+            final Game game = new Game("Lew Slow");
+            final CollectingSubscriber subscriber = new CollectingSubscriber(0);  //Never requests anything
+            final Executor direct = Runnable::run;
+            try (final ScorePublisher publisher = new ScorePublisher(game, direct, 1)) {
+                publisher.subscribe(subscriber);
+                for (int i = 0; i < Game.MAX_FRAMES - 1; i++)
+                    game.addFrame(DefaultFrame.of(1, 1));
+                game.updateScore();
+                assertTrue(publisher.nbrDropped() > 0);
+            }
+            assertTrue(subscriber.scoreChanges.isEmpty());
+        }
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<ScoreChange> {
+
+        private final long nbrRequested;
+        private final List<ScoreChange> scoreChanges = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private CollectingSubscriber(long nbrRequested) {
+            this.nbrRequested = nbrRequested;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            if (nbrRequested > 0)
+                subscription.request(nbrRequested);
+        }
+
+        @Override
+        public void onNext(ScoreChange scoreChange) {
+            scoreChanges.add(scoreChange);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
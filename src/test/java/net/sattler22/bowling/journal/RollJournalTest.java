@@ -0,0 +1,249 @@
+package net.sattler22.bowling.journal;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Roll Journal Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Roll Journal Unit Tests")
+final class RollJournalTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private Path journalPath() {
+        return tempDir.resolve("league-night.wal");
+    }
+
+    @Nested
+    @DisplayName("Journal Games")
+    final class JournalTest {
+        @Test
+        void open_withNullPath_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    RollJournal.open(null)
+            );
+        }
+
+        @Test
+        void open_withNewJournal_thenNothingRecovered() throws IOException {
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                assertTrue(rollJournal.recoveredGames().isEmpty());
+            }
+        }
+
+        @Test
+        void startGame_withBlankPlayerName_thenThrowIllegalArgumentException() throws IOException {
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                assertThrows(IllegalArgumentException.class, () ->
+                        rollJournal.startGame(" ")
+                );
+            }
+        }
+
+        @Test
+        void startGame_withClosedJournal_thenThrowIllegalStateException() throws IOException {
+            final RollJournal rollJournal = RollJournal.open(journalPath());
+            rollJournal.close();
+            assertThrows(IllegalStateException.class, () ->
+                    rollJournal.startGame("Justin Time")
+            );
+        }
+
+        @Test
+        void addRoll_withClosedJournal_thenLeaveGameUnchanged() throws IOException {
+            final RollJournal rollJournal = RollJournal.open(journalPath());
+            final JournaledGame journaledGame = rollJournal.startGame("Justin Time");
+            journaledGame.addFrame(DefaultFrame.of(3, 4));
+            journaledGame.addRoll(7);
+            rollJournal.close();
+            assertThrows(IllegalStateException.class, () ->
+                    journaledGame.addRoll(2)
+            );
+            assertThrows(IllegalStateException.class, () ->
+                    journaledGame.correctFrame(0, DefaultFrame.strike())
+            );
+            final Game game = journaledGame.game();
+            assertEquals(1, game.nbrFrames());
+            assertEquals(DefaultFrame.of(3, 4), game.frame(0));
+            assertEquals(7, game.score());
+        }
+
+        @Test
+        void addRoll_withInvalidRoll_thenNotJournaled() throws IOException {
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final JournaledGame journaledGame = rollJournal.startGame("Justin Time");
+                journaledGame.addRoll(7);
+                assertThrows(IllegalArgumentException.class, () ->
+                        journaledGame.addRoll(7)
+                );
+            }
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final JournaledGame journaledGame = rollJournal.recoveredGames().getFirst();
+                assertEquals(1, journaledGame.addRoll(2).size());
+                assertEquals(9, journaledGame.game().score());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Recover Games")
+    final class RecoveryTest {
+        @Test
+        void open_withGamesInProgress_thenRecoverEveryGame() throws IOException {
+            final long gameId;
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final JournaledGame journaledGame1 = rollJournal.startGame("Justin Time");
+                final JournaledGame journaledGame2 = rollJournal.startGame("Dee Railed");
+                journaledGame1.addFrame(DefaultFrame.strike());
+                journaledGame2.addFrame(DefaultFrame.of(7, 3));
+                journaledGame1.addRoll(7);
+                journaledGame1.addRoll(2);
+                journaledGame2.addRoll(4);  //Frame #2 is still in progress
+                gameId = journaledGame2.gameId();
+            }
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final List<JournaledGame> recoveredGames = rollJournal.recoveredGames();
+                assertEquals(2, recoveredGames.size());
+                final Game game1 = recoveredGames.get(0).game();
+                assertEquals("Justin Time", game1.playerName());
+                assertEquals(2, game1.nbrFrames());
+                assertEquals(28, game1.score());
+                final JournaledGame journaledGame2 = recoveredGames.get(1);
+                assertEquals(gameId, journaledGame2.gameId());
+                assertEquals(14, journaledGame2.game().score());
+                //Play resumes right where it left off:
+                assertEquals(1, journaledGame2.addRoll(5).size());
+                assertEquals(23, journaledGame2.game().score());
+                assertTrue(rollJournal.startGame("Newt Ral").gameId() > gameId);
+            }
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                assertEquals(3, rollJournal.recoveredGames().size());
+                assertEquals(23, rollJournal.recoveredGames().get(1).game().score());
+            }
+        }
+
+        @Test
+        void open_withFinishedGame_thenCompactIt() throws IOException {
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final JournaledGame journaledGame1 = rollJournal.startGame("Perry Fect");
+                final JournaledGame journaledGame2 = rollJournal.startGame("Justin Time");
+                for (int i = 0; i < Game.MAX_FRAMES - 1; i++)
+                    journaledGame1.addFrame(DefaultFrame.strike());
+                journaledGame2.addFrame(DefaultFrame.of(3, 4));
+                journaledGame1.addFrame(FinalFrame.of(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS));
+                journaledGame2.addRoll(10);  //Frame #2 waits on its bonus rolls
+                assertTrue(journaledGame1.game().isPerfect());
+            }
+            final long journalSize = Files.size(journalPath());
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                assertTrue(Files.size(journalPath()) < journalSize);
+                final List<JournaledGame> recoveredGames = rollJournal.recoveredGames();
+                assertEquals(1, recoveredGames.size());
+                assertEquals("Justin Time", recoveredGames.getFirst().game().playerName());
+                assertEquals(7, recoveredGames.getFirst().game().score());
+                recoveredGames.getFirst().addRoll(2);
+            }
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final Game game = rollJournal.recoveredGames().getFirst().game();
+                assertEquals(2, game.nbrFrames());  //Frame #3 is still in progress
+                assertEquals(7, game.score());  //The strike still waits on its second bonus roll
+            }
+        }
+
+        @Test
+        void open_withCorrectedFrames_thenReplayTheCorrections() throws IOException {
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final JournaledGame journaledGame = rollJournal.startGame("Justin Time");
+                journaledGame.addFrame(DefaultFrame.of(3, 4));
+                journaledGame.addFrame(DefaultFrame.of(3, 4));
+                journaledGame.addRoll(2);  //Frame #3 is still in progress
+                journaledGame.correctFrame(0, DefaultFrame.strike());
+                journaledGame.correctFrame(1, DefaultFrame.of(5, 5));
+                assertEquals(32, journaledGame.game().score());
+            }
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final Game game = rollJournal.recoveredGames().getFirst().game();
+                assertEquals(2, game.nbrFrames());
+                assertEquals(DefaultFrame.strike(), game.frame(0));
+                assertEquals(DefaultFrame.of(5, 5), game.frame(1));
+                assertEquals(32, game.score());  //X + 5 + 5 = 20, then 5 + 5 + 2 = 12
+            }
+        }
+
+        @Test
+        void open_withTornRecord_thenTruncateIt() throws IOException {
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                rollJournal.startGame("Justin Time").addRoll(6);
+            }
+            final long intactLength = Files.size(journalPath());
+            Files.write(journalPath(), new byte[] {0, 0, 0, 10, 2, 0, 0}, StandardOpenOption.APPEND);
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                assertEquals(intactLength, Files.size(journalPath()));
+                final JournaledGame journaledGame = rollJournal.recoveredGames().getFirst();
+                journaledGame.addRoll(3);
+            }
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                assertEquals(9, rollJournal.recoveredGames().getFirst().game().score());
+            }
+        }
+
+        @Test
+        void open_withEveryLaneRolling_thenGroupCommitAndRecover() throws Exception {
+            final int nbrGames = 500;
+            final int nbrRolls = Game.MAX_FRAMES;  //All strikes, through the first roll of the final frame
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final List<Future<?>> pinsetters = new ArrayList<>(nbrGames);
+                try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                    for (int i = 0; i < nbrGames; i++) {
+                        final String playerName = "Bowler %d".formatted(i);
+                        pinsetters.add(executor.submit(() -> {
+                            final JournaledGame journaledGame = rollJournal.startGame(playerName);
+                            for (int j = 0; j < nbrRolls; j++)
+                                journaledGame.addRoll(Frame.MAX_PINS);
+                            return null;
+                        }));
+                    }
+                    for (final Future<?> pinsetter : pinsetters)
+                        pinsetter.get(60, TimeUnit.SECONDS);
+                }
+                //Every commit is shared by all the records staged while the previous one was in progress:
+                final long nbrRecords = (long) nbrGames * (nbrRolls + 1);
+                assertTrue(rollJournal.nbrCommits() < nbrRecords / 2,
+                        "%d commits for %d records".formatted(rollJournal.nbrCommits(), nbrRecords));
+            }
+            try (final RollJournal rollJournal = RollJournal.open(journalPath())) {
+                final List<JournaledGame> recoveredGames = rollJournal.recoveredGames();
+                assertEquals(nbrGames, recoveredGames.size());
+                for (final JournaledGame journaledGame : recoveredGames)
+                    assertEquals(240, journaledGame.game().score());
+            }
+        }
+    }
+}
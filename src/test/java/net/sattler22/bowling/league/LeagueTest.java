@@ -0,0 +1,110 @@
+package net.sattler22.bowling.league;
+
+import net.sattler22.bowling.model.Frame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static net.sattler22.bowling.league.SessionTest.unscoredGame;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling League Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling League Unit Tests")
+final class LeagueTest {
+
+    private static final String LEAGUE_NAME = "Tuesday Night Rollers";
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Nested
+    @DisplayName("Constructs a New League")
+    final class NewInstanceTest {
+        @Test
+        void newInstance_withBlankName_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new League(" ", pool)
+            );
+        }
+
+        @Test
+        void newInstance_withNullPool_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new League(LEAGUE_NAME, null)
+            );
+        }
+
+        @Test
+        void addSession_withSameDate_thenThrowIllegalArgumentException() {
+            final League league = new League(LEAGUE_NAME, pool);
+            league.addSession(new Session(LocalDate.of(2026, 10, 6)));
+            assertThrows(IllegalArgumentException.class, () ->
+                    league.addSession(new Session(LocalDate.of(2026, 10, 6)))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Compute the Standings")
+    final class StandingsTest {
+        @Test
+        void standings_withNoSessions_thenEmpty() {
+            assertTrue(new League(LEAGUE_NAME, pool).standings().isEmpty());
+        }
+
+        @Test
+        void standings_withSeveralSessions_thenHighestAverageFirst() {
+            final League league = new League(LEAGUE_NAME, pool);
+            final Session firstNight = new Session(LocalDate.of(2026, 10, 6));
+            firstNight.addGame(unscoredGame("Al Lee", 4, 3));                 //70
+            firstNight.addGame(unscoredGame("Al Lee", 9, 0));                 //90
+            firstNight.addGame(unscoredGame("Sherry Pie", 5, 3));             //80
+            league.addSession(firstNight);
+            final Session secondNight = new Session(LocalDate.of(2026, 10, 13));
+            secondNight.addGame(unscoredGame("Al Lee", Frame.MAX_PINS, 0));   //300
+            secondNight.addGame(unscoredGame("Sherry Pie", 8, 0));            //80
+            secondNight.addGame(unscoredGame("Sherry Pie", 8, 1));            //90
+            secondNight.addGame(unscoredGame("Holly Roller", 6, 0));          //60
+            league.addSession(secondNight);
+            final List<BowlerStanding> standings = league.standings();
+            assertEquals(List.of("Al Lee", "Sherry Pie", "Holly Roller"),
+                    standings.stream().map(BowlerStanding::playerName).toList());
+            final BowlerStanding alLee = standings.getFirst();
+            assertEquals(3, alLee.nbrGames());
+            assertEquals(460, alLee.totalPins());
+            assertEquals(153, alLee.average());
+            assertEquals(300, alLee.highGame());
+            assertEquals(300, alLee.highSeries());
+            final BowlerStanding sherryPie = standings.get(1);
+            assertEquals(83, sherryPie.average());
+            assertEquals(90, sherryPie.highGame());
+            assertEquals(170, sherryPie.highSeries());
+        }
+
+        @Test
+        void finalizeSession_withHappyPath_thenScoredOnLeaguePool() {
+            final League league = new League(LEAGUE_NAME, pool);
+            final Session session = new Session(LocalDate.of(2026, 10, 20));
+            session.addGame(unscoredGame("Al Lee", 4, 3));
+            league.addSession(session);
+            assertEquals(70, league.finalizeSession(session).getFirst().total());
+        }
+    }
+}
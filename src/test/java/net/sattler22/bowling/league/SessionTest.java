@@ -0,0 +1,143 @@
+package net.sattler22.bowling.league;
+
+import net.sattler22.bowling.center.Match;
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling League Session Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling League Session Unit Tests")
+final class SessionTest {
+
+    private static final LocalDate LEAGUE_NIGHT = LocalDate.of(2026, 10, 13);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    /**
+     * Adds every frame without scoring, so only finalizing settles the score
+     */
+    static Game unscoredGame(String playerName, int firstRoll, int secondRoll) {
+        final Game game = new Game(playerName);
+        for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES - 1; frameIndex++)
+            game.addFrame(firstRoll == Frame.MAX_PINS ? DefaultFrame.strike() : new DefaultFrame(firstRoll, secondRoll));
+        game.addFrame(firstRoll == Frame.MAX_PINS ? new FinalFrame(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS)
+                : new FinalFrame(firstRoll, secondRoll));
+        return game;
+    }
+
+    @Nested
+    @DisplayName("Add Games")
+    final class AddGameTest {
+        @Test
+        void newInstance_withNullDate_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new Session(null)
+            );
+        }
+
+        @Test
+        void addGame_withNullGame_thenThrowIllegalArgumentException() {
+            final Session session = new Session(LEAGUE_NIGHT);
+            assertThrows(IllegalArgumentException.class, () ->
+                    session.addGame(null)
+            );
+        }
+
+        @Test
+        void addGame_withSeveralBowlers_thenGroupedByBowler() {
+            final Session session = new Session(LEAGUE_NIGHT);
+            final Game firstGame = unscoredGame("Al Lee", 4, 3);
+            final Game secondGame = unscoredGame("Al Lee", 5, 4);
+            session.addGame(firstGame);
+            session.addGame(unscoredGame("Sherry Pie", 4, 4));
+            session.addGame(secondGame);
+            assertEquals(List.of("Al Lee", "Sherry Pie"), session.bowlers());
+            assertEquals(List.of(firstGame, secondGame), session.games("Al Lee"));
+            assertTrue(session.games("Ann Other").isEmpty());
+            assertEquals(3, session.nbrGames());
+        }
+
+        @Test
+        void addMatch_withHappyPath_thenEveryGameAdded() {
+            final Match match = new Match(List.of("Al Lee", "Sherry Pie"));
+            final Session session = new Session(LEAGUE_NIGHT);
+            session.addMatch(match);
+            assertEquals(List.of("Al Lee", "Sherry Pie"), session.bowlers());
+            assertEquals(2, session.nbrGames());
+        }
+    }
+
+    @Nested
+    @DisplayName("Finalize a Session")
+    final class FinalizeTest {
+        @Test
+        void finalizeScores_withNullPool_thenThrowIllegalArgumentException() {
+            final Session session = new Session(LEAGUE_NIGHT);
+            assertThrows(IllegalArgumentException.class, () ->
+                    session.finalizeScores(null)
+            );
+        }
+
+        @Test
+        void finalizeScores_withNoGames_thenEmpty() {
+            assertTrue(new Session(LEAGUE_NIGHT).finalizeScores(pool).isEmpty());
+        }
+
+        @Test
+        void finalizeScores_withThreeGameSeries_thenHighestTotalFirst() {
+            final Session session = new Session(LEAGUE_NIGHT);
+            for (int i = 0; i < 3; i++) {
+                session.addGame(unscoredGame("Al Lee", 4, 3 + i));  //70, 80, 90
+                session.addGame(unscoredGame("Sherry Pie", 9, 0));  //90
+            }
+            session.addGame(unscoredGame("Chris P. Bacon", Frame.MAX_PINS, 0));  //300
+            final List<Series> series = session.finalizeScores(pool);
+            assertEquals(List.of("Chris P. Bacon", "Sherry Pie", "Al Lee"),
+                    series.stream().map(Series::playerName).toList());
+            final Series alLee = series.get(2);
+            assertEquals(3, alLee.nbrGames());
+            assertEquals(80, alLee.gameScore(1));
+            assertEquals(240, alLee.total());
+            assertEquals(90, alLee.highGame());
+            assertEquals(300, session.games("Chris P. Bacon").getFirst().score());
+        }
+
+        @Test
+        void finalizeScores_withManyBowlers_thenEveryGameScored() {
+            final Session session = new Session(LEAGUE_NIGHT);
+            for (int bowler = 0; bowler < 100; bowler++)
+                for (int i = 0; i < 3; i++)
+                    session.addGame(unscoredGame("Bowler #" + bowler, bowler % 10, 0));
+            final List<Series> series = session.finalizeScores(pool);
+            assertEquals(100, series.size());
+            for (final Series bowlerSeries : series) {
+                final int pins = Integer.parseInt(bowlerSeries.playerName().substring(8)) % 10;
+                assertEquals(3 * Game.MAX_FRAMES * pins, bowlerSeries.total());
+            }
+        }
+    }
+}
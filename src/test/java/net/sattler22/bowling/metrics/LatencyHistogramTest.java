@@ -0,0 +1,110 @@
+package net.sattler22.bowling.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Latency Histogram Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Latency Histogram Unit Tests")
+final class LatencyHistogramTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Nested
+    @DisplayName("Buckets")
+    final class BucketTest {
+        @Test
+        void bucketIndex_withSmallValues_thenExact() {
+            for (int value = 0; value < 64; value++)
+                assertEquals(value, LatencyHistogram.highestValue(LatencyHistogram.bucketIndex(value)));
+        }
+
+        @Test
+        void bucketIndex_withLargeValues_thenWithinPrecision() {
+            final Random random = new Random(300);
+            for (int trial = 0; trial < 10_000; trial++) {
+                final long value = random.nextLong(Long.MAX_VALUE);
+                final long highestValue = LatencyHistogram.highestValue(LatencyHistogram.bucketIndex(value));
+                assertTrue(highestValue >= value);
+                assertTrue(highestValue - value <= value / 32, () -> "Imprecise bucket for " + value);
+            }
+        }
+
+        @Test
+        void bucketIndex_withLongMaxValue_thenLastBucket() {
+            assertEquals(Long.MAX_VALUE,
+                    LatencyHistogram.highestValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Recording")
+    final class RecordTest {
+        @Test
+        void valueAtPercentile_withNothingRecorded_thenZero() {
+            assertEquals(0L, histogram.valueAtPercentile(99.0));
+            assertEquals(0.0, histogram.meanNanos());
+        }
+
+        @Test
+        void valueAtPercentile_withInvalidPercentile_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    histogram.valueAtPercentile(100.1)
+            );
+        }
+
+        @Test
+        void record_withNegativeLatency_thenCountAsZero() {
+            histogram.record(-5L);
+            assertEquals(1, histogram.count());
+            assertEquals(0L, histogram.maxNanos());
+        }
+
+        @Test
+        void record_withOneToTenThousand_thenReportPercentiles() {
+            for (long nanos = 1; nanos <= 10_000; nanos++)
+                histogram.record(nanos);
+            assertEquals(10_000, histogram.count());
+            assertEquals(5_000.5, histogram.meanNanos());
+            assertEquals(10_000L, histogram.maxNanos());
+            assertEquals(1L, histogram.valueAtPercentile(0.0));
+            assertEquals(10_000L, histogram.valueAtPercentile(100.0));
+            final long median = histogram.valueAtPercentile(50.0);
+            assertTrue(median >= 5_000 && median <= 5_000 + 5_000 / 32, () -> "Median was " + median);
+            final long p99 = histogram.valueAtPercentile(99.0);
+            assertTrue(p99 >= 9_900 && p99 <= 9_900 + 9_900 / 32, () -> "99th percentile was " + p99);
+        }
+
+        @Test
+        void snapshot_withRecordedValues_thenMatchHistogram() {
+            histogram.record(100L);
+            histogram.record(300L);
+            final LatencySnapshot snapshot = histogram.snapshot();
+            assertEquals(2, snapshot.getCount());
+            assertEquals(200.0, snapshot.getMeanNanos());
+            assertEquals(histogram.valueAtPercentile(50.0), snapshot.getP50Nanos());
+            assertEquals(300L, snapshot.getMaxNanos());
+        }
+
+        @Test
+        void record_fromManyThreadsAtOnce_thenNothingIsLost() {
+            IntStream.range(0, 100_000).parallel().forEach(histogram::record);
+            assertEquals(100_000, histogram.count());
+            assertEquals(99_999L, histogram.maxNanos());
+            assertEquals(99_999L, histogram.valueAtPercentile(100.0));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package net.sattler22.bowling.metrics;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Scoring Metrics Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Scoring Metrics Unit Tests")
+final class ScoringMetricsTest {
+
+    private final ScoringMetrics globalMetrics = ScoringMetrics.global();
+
+    @Nested
+    @DisplayName("Game Metrics")
+    final class GameMetricsTest {
+        @Test
+        void addRoll_withPerfectGame_thenCountEveryFrameAndBonus() {
+            final long framesAdded = globalMetrics.getFramesAdded();
+            final long bonusesSettled = globalMetrics.getBonusesSettled();
+            final long gamesCompleted = globalMetrics.getGamesCompleted();
+            final long nbrRollsTimed = globalMetrics.addRollLatency().count();
+            final Game game = new Game("Perry Fect");
+            for (int roll = 0; roll < 12; roll++)
+                game.addRoll(10);
+            assertTrue(globalMetrics.getFramesAdded() - framesAdded >= 10);
+            assertTrue(globalMetrics.getBonusesSettled() - bonusesSettled >= 9);
+            assertTrue(globalMetrics.getGamesCompleted() - gamesCompleted >= 1);
+            assertTrue(globalMetrics.addRollLatency().count() - nbrRollsTimed >= 12);
+        }
+
+        @Test
+        void correctFrame_withRescoredBonuses_thenCountThemOnce() {
+            final Game game = new Game("Perry Fect");
+            for (int roll = 0; roll < 12; roll++)
+                game.addRoll(10);
+            final long bonusesSettled = globalMetrics.getBonusesSettled();
+            final long gamesCompleted = globalMetrics.getGamesCompleted();
+            assertEquals(8, game.correctFrame(4, DefaultFrame.strike()).size());
+            assertEquals(bonusesSettled, globalMetrics.getBonusesSettled());
+            assertEquals(gamesCompleted, globalMetrics.getGamesCompleted());
+        }
+
+        @Test
+        void addFrame_withOpenFrames_thenTimeEachUpdate() {
+            final long nbrFramesTimed = globalMetrics.addFrameLatency().count();
+            final long nbrUpdatesTimed = globalMetrics.updateScoreLatency().count();
+            final Game game = new Game("Al Ley");
+            for (int frameIndex = 0; frameIndex < 3; frameIndex++) {
+                game.addFrame(new DefaultFrame(7, 2));
+                game.updateScore();
+            }
+            assertTrue(globalMetrics.addFrameLatency().count() - nbrFramesTimed >= 3);
+            assertTrue(globalMetrics.updateScoreLatency().count() - nbrUpdatesTimed >= 3);
+        }
+
+        @Test
+        void updateScore_whileAnotherThreadHoldsTheLock_thenRecordLockWait() throws Exception {
+            final Game game = new Game("Wade Long");
+            game.addFrame(new DefaultFrame(7, 2));
+            final long lockContentions = globalMetrics.getLockContentions();
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            //Listeners run after the lock is released, so keep two scorers colliding on it instead:
+            final Runnable scorer = () -> {
+                while (globalMetrics.getLockContentions() == lockContentions && System.nanoTime() < deadline)
+                    game.updateScore();
+            };
+            final Thread scorer1 = Thread.ofPlatform().start(scorer);
+            final Thread scorer2 = Thread.ofPlatform().start(scorer);
+            scorer1.join();
+            scorer2.join();
+            assertTrue(globalMetrics.getLockContentions() - lockContentions >= 1);
+            assertTrue(globalMetrics.getLockWait().getCount() >= 1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Reporting")
+    final class ReportTest {
+        private final ScoringMetrics metrics = new ScoringMetrics();
+
+        @Test
+        void counters_withNewMetrics_thenCountFromZero() {
+            metrics.frameAdded();
+            metrics.frameAdded();
+            metrics.bonusSettled();
+            metrics.gameCompleted();
+            metrics.lockWaited(1_000L);
+            assertEquals(2, metrics.getFramesAdded());
+            assertEquals(1, metrics.getBonusesSettled());
+            assertEquals(1, metrics.getGamesCompleted());
+            assertEquals(1, metrics.getLockContentions());
+            assertEquals(1_000L, metrics.getLockWait().getMaxNanos());
+        }
+
+        @Test
+        void scheduleReports_withZeroPeriod_thenThrowIllegalArgumentException() {
+            try (final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor()) {
+                assertThrows(IllegalArgumentException.class, () ->
+                        metrics.scheduleReports(scheduler, new LoggingMetricsReporter(), Duration.ZERO)
+                );
+            }
+        }
+
+        @Test
+        void scheduleReports_withFailingReporter_thenKeepReporting() throws Exception {
+            final AtomicInteger nbrReports = new AtomicInteger();
+            final CountDownLatch reported = new CountDownLatch(3);
+            try (final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor()) {
+                final ScheduledFuture<?> reports = metrics.scheduleReports(scheduler, reportedMetrics -> {
+                    nbrReports.incrementAndGet();
+                    reported.countDown();
+                    throw new IllegalStateException("Display went dark");
+                }, Duration.ofMillis(5));
+                assertTrue(reported.await(10, TimeUnit.SECONDS));
+                reports.cancel(false);
+            }
+            assertTrue(nbrReports.get() >= 3);
+        }
+
+        @Test
+        void report_withLoggingReporter_thenNothingThrown() {
+            metrics.addFrameLatency().record(250L);
+            new LoggingMetricsReporter().report(metrics);
+            assertEquals(1, metrics.getAddFrameLatency().getCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("JMX")
+    final class JmxTest {
+        @Test
+        void registerMBean_calledTwice_thenReadAttributes() throws Exception {
+            ScoringMetrics.registerMBean();
+            ScoringMetrics.registerMBean();
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(ScoringMetrics.OBJECT_NAME);
+            new Game("Jay Mix").addFrame(new DefaultFrame(3, 4));
+            assertTrue((Long) mBeanServer.getAttribute(objectName, "FramesAdded") >= 1);
+            final CompositeData addFrameLatency = (CompositeData) mBeanServer.getAttribute(objectName,
+                    "AddFrameLatency");
+            assertTrue((Long) addFrameLatency.get("count") >= 1);
+            assertTrue((Long) addFrameLatency.get("p99Nanos") >= 0);
+        }
+    }
+}
@@ -6,9 +6,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -17,7 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  *
  * @author Pete Sattler
  * @since July 2025
- * @version June 2026
+ * @version October 2026
  */
 @DisplayName("Default Frame Unit Tests")
 final class DefaultFrameTest {
@@ -85,15 +84,39 @@ final class DefaultFrameTest {
     }
 
     @Nested
-    @DisplayName("Copy an Existing Frame")
-    final class CopyInstanceTest {
+    @DisplayName("Get a Shared Frame")
+    final class OfTest {
         @Test
-        void copyInstance_withHappyPath_thenSuccessful() {
-            final Frame frame = spareFrame(4);
-            final Frame frameCopy = Frame.copyOf(frame);
-            assertInstanceOf(DefaultFrame.class, frameCopy);
-            assertEquals(frame, frameCopy);
-            assertNotSame(frameCopy, frame);
+        void of_withTooManyTotalPins_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    DefaultFrame.of(5, 6)
+            );
+        }
+
+        @Test
+        void of_withStrikeWithSecondRoll_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    DefaultFrame.of(Frame.MAX_PINS, 1)
+            );
+        }
+
+        @Test
+        void of_withTooFewPins_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    DefaultFrame.of(-1, 0)
+            );
+        }
+
+        @Test
+        void of_withHappyPath_thenReturnSameInstance() {
+            final DefaultFrame spareFrame = DefaultFrame.of(4, 6);
+            assertEquals(spareFrame(4), spareFrame);
+            assertSame(spareFrame, DefaultFrame.of(4, 6));
+        }
+
+        @Test
+        void strike_withHappyPath_thenReturnSameInstance() {
+            assertSame(DefaultFrame.of(Frame.MAX_PINS, 0), DefaultFrame.strike());
         }
     }
 
@@ -184,84 +207,35 @@ final class DefaultFrameTest {
     }
 
     @Nested
-    @DisplayName("Score Condition Check")
-    final class HasScoreTest {
-        @Test
-        void hasScore_withoutUpdate_thenReturnFalse() {
-            assertFalse(zeroFrame().hasScore());
-        }
-
+    @DisplayName("Get Total")
+    final class TotalTest {
         @Test
-        void hasScore_withHappyPath_thenReturnTrue() {
-            final DefaultFrame zeroFrame = zeroFrame();
-            zeroFrame.updateScore(0, 0);
-            assertTrue(zeroFrame.hasScore());
+        void total_withHappyPath_thenSuccessful() {
+            final int nbrPins1 = 7;
+            final int nbrPins2 = 2;
+            final DefaultFrame defaultFrame = new DefaultFrame(nbrPins1, nbrPins2);
+            assertEquals(nbrPins1 + nbrPins2, defaultFrame.total());
         }
     }
 
     @Nested
-    @DisplayName("Update the Score")
-    final class UpdateScoreTest {
+    @DisplayName("Get a Frame from the Standing Pins")
+    final class OfStandingPinsTest {
         @Test
-        void updateScore_withNegativeStartingPoints_thenThrowIllegalArgumentException() {
-            final DefaultFrame zeroFrame = zeroFrame();
+        void ofStandingPins_withPinStandingAgain_thenThrowIllegalArgumentException() {
             assertThrows(IllegalArgumentException.class, () ->
-                    zeroFrame.updateScore(-1, 0));
-        }
-
-        @Test
-        void updateScore_withNegativeBonusPoints_thenThrowIllegalArgumentException() {
-            final DefaultFrame zeroFrame = zeroFrame();
-            assertThrows(IllegalArgumentException.class, () ->
-                    zeroFrame.updateScore(0, -1));
-        }
-
-        @Test
-        void updateScore_withExistingScore_thenThrowIllegalStateException() {
-            final DefaultFrame zeroFrame = zeroFrame();
-            zeroFrame.updateScore(0, 0);
-            assertThrows(IllegalStateException.class, () ->
-                    zeroFrame.updateScore(0, 0));
-        }
-
-        @Test
-        void updateScore_withHappyPath_thenSuccessful() {
-            final int nbrPins1 = 6;
-            final int nbrPins2 = 3;
-            final int start = 25;
-            final int bonus = 10;
-            final DefaultFrame openFrame = new DefaultFrame(nbrPins1, nbrPins2);
-            openFrame.updateScore(start, bonus);
-            assertEquals(nbrPins1 + nbrPins2 + start + bonus, openFrame.score().orElse(-1));
-        }
-    }
-
-    @Nested
-    @DisplayName("Get Score")
-    final class ScoreTest {
-        @Test
-        void score_withoutUpdate_thenReturnEmpty() {
-            assertTrue(zeroFrame().score().isEmpty());
+                    DefaultFrame.ofStandingPins(PinMask.of(7), PinMask.of(7, 10))
+            );
         }
 
         @Test
-        void score_withHappyPath_thenReturnTrue() {
-            final DefaultFrame zeroFrame = zeroFrame();
-            zeroFrame.updateScore(0, 0);
-            assertTrue(zeroFrame.score().isPresent());
-            assertEquals(0, zeroFrame.score().orElse(-1));
+        void ofStandingPins_withOpenFrame_thenReturnSameInstance() {
+            assertSame(DefaultFrame.of(8, 1), DefaultFrame.ofStandingPins(PinMask.of(7, 10), PinMask.of(10)));
         }
-    }
 
-    @Nested
-    @DisplayName("Get Total")
-    final class TotalTest {
         @Test
-        void total_withHappyPath_thenSuccessful() {
-            final int nbrPins1 = 7;
-            final int nbrPins2 = 2;
-            final DefaultFrame defaultFrame = new DefaultFrame(nbrPins1, nbrPins2);
-            assertEquals(nbrPins1 + nbrPins2, defaultFrame.total());
+        void ofStandingPins_withStrike_thenReturnSameInstance() {
+            assertSame(DefaultFrame.strike(), DefaultFrame.ofStandingPins(PinMask.NO_PINS, PinMask.NO_PINS));
         }
     }
 
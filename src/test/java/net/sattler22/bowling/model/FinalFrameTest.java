@@ -6,9 +6,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
-import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -17,7 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  *
  * @author Pete Sattler
  * @since July 2025
- * @version June 2026
+ * @version October 2026
  */
 @DisplayName("Final Frame Unit Tests")
 final class FinalFrameTest {
@@ -125,15 +124,68 @@ final class FinalFrameTest {
     }
 
     @Nested
-    @DisplayName("Copy an Existing Frame")
-    final class CopyInstanceTest {
+    @DisplayName("Get a Shared Frame")
+    final class OfTest {
         @Test
-        void copyInstance_withHappyPath_thenSuccessful() {
-            final Frame frame = spareFrame(4, 3);
-            final Frame frameCopy = Frame.copyOf(frame);
-            assertInstanceOf(FinalFrame.class, frameCopy);
-            assertEquals(frame, frameCopy);
-            assertNotSame(frameCopy, frame);
+        void of_withTooManyTotalPins_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    FinalFrame.of(5, 6)
+            );
+        }
+
+        @Test
+        void of_withUnearnedBonus_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    FinalFrame.of(1, 3, 4)
+            );
+        }
+
+        @Test
+        void of_withFirstStrikeWithTooManyBonusPins_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    FinalFrame.of(Frame.MAX_PINS, 8, 3)
+            );
+        }
+
+        @Test
+        void of_withImpliedZeroBonus_thenReturnSameInstance() {
+            assertSame(FinalFrame.of(Frame.MAX_PINS, 0, 0), FinalFrame.of(Frame.MAX_PINS, 0));
+        }
+
+        @Test
+        void of_withHappyPath_thenReturnSameInstance() {
+            final FinalFrame spareFrame = FinalFrame.of(4, 6, 3);
+            assertEquals(spareFrame(4, 3), spareFrame);
+            assertSame(spareFrame, FinalFrame.of(4, 6, 3));
+        }
+
+        @Test
+        void of_withTurkey_thenReturnSameInstance() {
+            final FinalFrame turkey = FinalFrame.of(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS);
+            assertTrue(turkey.isTurkey());
+            assertSame(turkey, FinalFrame.of(Frame.MAX_PINS, Frame.MAX_PINS, Frame.MAX_PINS));
+        }
+    }
+
+    @Nested
+    @DisplayName("Get a Frame from the Standing Pins")
+    final class OfStandingPinsTest {
+        @Test
+        void ofStandingPins_withSpare_thenReturnSameInstance() {
+            final short leave = PinMask.of(2, 4, 5, 7, 8, 9);
+            final short afterBonusRoll = PinMask.of(1, 2, 3, 4, 5, 6, 7);
+            assertSame(FinalFrame.of(4, 6, 3), FinalFrame.ofStandingPins(leave, PinMask.NO_PINS, afterBonusRoll));
+        }
+
+        @Test
+        void ofStandingPins_withFirstStrike_thenResetRack() {
+            assertSame(FinalFrame.of(Frame.MAX_PINS, 9, 1),
+                    FinalFrame.ofStandingPins(PinMask.NO_PINS, PinMask.of(10), PinMask.NO_PINS));
+        }
+
+        @Test
+        void ofStandingPins_withOpenFrame_thenReturnSameInstance() {
+            assertSame(FinalFrame.of(9, 0), FinalFrame.ofStandingPins(PinMask.of(10), PinMask.of(10)));
         }
     }
 
@@ -331,68 +383,6 @@ final class FinalFrameTest {
         }
     }
 
-    @Nested
-    @DisplayName("Score Condition Check")
-    final class HasScoreTest {
-        @Test
-        void hasScore_withoutUpdate_thenReturnFalse() {
-            assertFalse(zeroFrame().hasScore());
-        }
-
-        @Test
-        void hasScore_withHappyPath_thenReturnTrue() {
-            final FinalFrame zeroFrame = zeroFrame();
-            zeroFrame.updateScore(0);
-            assertTrue(zeroFrame.hasScore());
-        }
-    }
-
-    @Nested
-    @DisplayName("Update the Score")
-    final class UpdateScoreTest {
-        @Test
-        void updateScore_withNegativeStartingPoints_thenThrowIllegalArgumentException() {
-            final FinalFrame zeroFrame = zeroFrame();
-            assertThrows(IllegalArgumentException.class, () ->
-                    zeroFrame.updateScore(-1));
-        }
-
-        @Test
-        void updateScore_withExistingScore_thenThrowIllegalStateException() {
-            final FinalFrame zeroFrame = zeroFrame();
-            zeroFrame.updateScore(0);
-            assertThrows(IllegalStateException.class, () ->
-                    zeroFrame.updateScore(0));
-        }
-
-        @Test
-        void updateScore_withHappyPath_thenSuccessful() {
-            final int nbrPins1 = 6;
-            final int nbrPins2 = 4;
-            final int bonusNbrPins = 8;
-            final int start = 35;
-            final FinalFrame openFrame = new FinalFrame(nbrPins1, nbrPins2, bonusNbrPins);
-            openFrame.updateScore(start);
-            assertEquals(nbrPins1 + nbrPins2 + start + bonusNbrPins, openFrame.score().orElse(-1));
-        }
-    }
-
-    @Nested
-    @DisplayName("Get Score")
-    final class ScoreTest {
-        @Test
-        void score_withoutUpdate_thenReturnEmpty() {
-            assertTrue(zeroFrame().score().isEmpty());
-        }
-
-        @Test
-        void score_withHappyPath_thenReturnTrue() {
-            final FinalFrame zeroFrame = zeroFrame();
-            zeroFrame.updateScore(0);
-            assertEquals(0, zeroFrame.score().orElse(-1));
-        }
-    }
-
     @Nested
     @DisplayName("Get Total")
     final class TotalTest {
@@ -0,0 +1,112 @@
+package net.sattler22.bowling.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Pin Mask Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Pin Mask Unit Tests")
+final class PinMaskTest {
+
+    @Nested
+    @DisplayName("Gets a Pin Mask")
+    final class OfTest {
+        @Test
+        void of_withInvalidPin_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PinMask.of(0)
+            );
+        }
+
+        @Test
+        void of_withAllPins_thenReturnFullRack() {
+            assertEquals(PinMask.ALL_PINS, PinMask.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+            assertEquals(Frame.MAX_PINS, PinMask.nbrPins(PinMask.ALL_PINS));
+        }
+
+        @Test
+        void of_withSevenTenSplit_thenSuccessful() {
+            final short leave = PinMask.of(7, 10);
+            assertEquals(2, PinMask.nbrPins(leave));
+            assertTrue(PinMask.isStanding(leave, 7));
+            assertFalse(PinMask.isStanding(leave, 1));
+            assertEquals("7-10", PinMask.toString(leave));
+        }
+
+        @Test
+        void toString_withNoPins_thenReturnDash() {
+            assertEquals("-", PinMask.toString(PinMask.NO_PINS));
+        }
+    }
+
+    @Nested
+    @DisplayName("Knocked Down Pins")
+    final class KnockedDownTest {
+        @Test
+        void knockedDown_withInvalidMask_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PinMask.knockedDown((short) -1, PinMask.NO_PINS)
+            );
+        }
+
+        @Test
+        void knockedDown_withPinStandingAgain_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PinMask.knockedDown(PinMask.of(7), PinMask.of(7, 10))
+            );
+        }
+
+        @Test
+        void knockedDown_withHappyPath_thenSuccessful() {
+            assertEquals(8, PinMask.knockedDown(PinMask.ALL_PINS, PinMask.of(7, 10)));
+            assertEquals(1, PinMask.knockedDown(PinMask.of(7, 10), PinMask.of(10)));
+            assertEquals(0, PinMask.knockedDown(PinMask.of(10), PinMask.of(10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Split Condition Check")
+    final class IsSplitTest {
+        @Test
+        void isSplit_withPinDownBetween_thenReturnTrue() {
+            assertTrue(PinMask.isSplit(PinMask.of(7, 10)));
+            assertTrue(PinMask.isSplit(PinMask.of(4, 6)));
+            assertTrue(PinMask.isSplit(PinMask.of(2, 7)));
+            assertTrue(PinMask.isSplit(PinMask.of(4, 7, 10)));
+        }
+
+        @Test
+        void isSplit_withPinDownAhead_thenReturnTrue() {
+            assertTrue(PinMask.isSplit(PinMask.of(5, 6)));
+            assertTrue(PinMask.isSplit(PinMask.of(8, 9)));
+        }
+
+        @Test
+        void isSplit_withHeadpinStanding_thenReturnFalse() {
+            assertFalse(PinMask.isSplit(PinMask.of(1, 7, 10)));
+        }
+
+        @Test
+        void isSplit_withConnectedPins_thenReturnFalse() {
+            assertFalse(PinMask.isSplit(PinMask.of(10)));
+            assertFalse(PinMask.isSplit(PinMask.of(3, 6, 10)));
+            assertFalse(PinMask.isSplit(PinMask.of(2, 4, 5, 8)));
+        }
+
+        @Test
+        void isSplit_withInvalidMask_thenReturnFalse() {
+            assertFalse(PinMask.isSplit((short) -1));
+        }
+    }
+}
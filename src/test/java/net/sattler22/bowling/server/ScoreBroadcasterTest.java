@@ -0,0 +1,171 @@
+package net.sattler22.bowling.server;
+
+import net.sattler22.bowling.center.BowlingCenter;
+import net.sattler22.bowling.center.Lane;
+import net.sattler22.bowling.model.DefaultFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Score Broadcaster Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Score Broadcaster Unit Tests")
+final class ScoreBroadcasterTest {
+
+    private static final String PLAYER_NAME = "Carrie Oakey";
+
+    private static String event(int laneNbr, int frameNbr, int frameTotal, int score) {
+        return ("event: score\ndata: {\"laneNbr\":%d,\"playerName\":\"%s\",\"frameNbr\":%d,"
+                + "\"frameTotal\":%d,\"score\":%d}\n\n").formatted(laneNbr, PLAYER_NAME, frameNbr, frameTotal, score);
+    }
+
+    private static String poll(ScoreBroadcaster.Subscriber subscriber) throws InterruptedException {
+        final byte[] event = subscriber.poll(0, TimeUnit.SECONDS);
+        return event == null ? null : new String(event, StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Constructs a New Broadcaster")
+    final class NewInstanceTest {
+        @Test
+        void newInstance_withNullBowlingCenter_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ScoreBroadcaster(null, 1)
+            );
+        }
+
+        @Test
+        void newInstance_withZeroBacklog_thenThrowIllegalArgumentException() {
+            final BowlingCenter bowlingCenter = new BowlingCenter("Pin Palace", 1);
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ScoreBroadcaster(bowlingCenter, 0)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Broadcast Scores")
+    final class BroadcastTest {
+        @Test
+        void encode_withQuotedPlayerName_thenEscapeJson() {
+            final byte[] event = ScoreBroadcaster.encode(1, "Dwayne \"The Pin\"", 0, 9, 9);
+            assertTrue(new String(event, StandardCharsets.UTF_8).contains("\"playerName\":\"Dwayne \\\"The Pin\\\"\""));
+        }
+
+        @Test
+        void frameScored_withSubscribers_thenShareOneEncodedEvent() throws InterruptedException {
+            final BowlingCenter bowlingCenter = new BowlingCenter("Pin Palace", 2);
+            try (final ScoreBroadcaster scoreBroadcaster = new ScoreBroadcaster(bowlingCenter, 8)) {
+                final ScoreBroadcaster.Subscriber subscriber1 = scoreBroadcaster.subscribe(2);
+                final ScoreBroadcaster.Subscriber subscriber2 = scoreBroadcaster.subscribe(2);
+                final ScoreBroadcaster.Subscriber otherLane = scoreBroadcaster.subscribe(1);
+                final Lane lane = bowlingCenter.lane(2);
+                lane.startMatch(List.of(PLAYER_NAME));
+                lane.addFrame(PLAYER_NAME, 4, 5);
+                final byte[] event = subscriber1.poll(0, TimeUnit.SECONDS);
+                assertEquals(event(2, 1, 9, 9), new String(event, StandardCharsets.UTF_8));
+                assertSame(event, subscriber2.poll(0, TimeUnit.SECONDS));
+                assertNull(poll(otherLane));
+            }
+        }
+
+        @Test
+        void subscribe_withGameInProgress_thenReplayScoredFrames() throws InterruptedException {
+            final BowlingCenter bowlingCenter = new BowlingCenter("Pin Palace", 1);
+            try (final ScoreBroadcaster scoreBroadcaster = new ScoreBroadcaster(bowlingCenter, 8)) {
+                final Lane lane = bowlingCenter.lane(1);
+                lane.startMatch(List.of(PLAYER_NAME));
+                lane.addFrame(PLAYER_NAME, 4, 6);
+                lane.addFrame(PLAYER_NAME, 2, 3);
+                final ScoreBroadcaster.Subscriber subscriber = scoreBroadcaster.subscribe(1);
+                assertEquals(event(1, 1, 10, 12), poll(subscriber));
+                assertEquals(event(1, 2, 5, 17), poll(subscriber));
+                assertNull(poll(subscriber));
+            }
+        }
+
+        @Test
+        void subscribe_whileBowling_thenDeliverEveryFrameOnceInOrder() throws InterruptedException {
+            final List<String> expected = new ArrayList<>();
+            for (int frameNbr = 1; frameNbr <= 10; frameNbr++)
+                expected.add(event(1, frameNbr, 5, frameNbr * 5));
+            for (int i = 0; i < 200; i++) {
+                final BowlingCenter bowlingCenter = new BowlingCenter("Pin Palace", 1);
+                try (final ScoreBroadcaster scoreBroadcaster = new ScoreBroadcaster(bowlingCenter, 16)) {
+                    final Lane lane = bowlingCenter.lane(1);
+                    lane.startMatch(List.of(PLAYER_NAME));
+                    final Thread bowler = Thread.ofPlatform().start(() -> {
+                        for (int frameNbr = 1; frameNbr <= 10; frameNbr++)
+                            lane.addFrame(PLAYER_NAME, 2, 3);
+                    });
+                    final ScoreBroadcaster.Subscriber subscriber = scoreBroadcaster.subscribe(1);
+                    bowler.join();
+                    final List<String> events = new ArrayList<>();
+                    for (String event = poll(subscriber); event != null; event = poll(subscriber))
+                        events.add(event);
+                    assertEquals(expected, events);
+                }
+            }
+        }
+
+        @Test
+        void framesUnscored_withCorrectedFrame_thenBroadcastUnscoredEvent() throws InterruptedException {
+            final BowlingCenter bowlingCenter = new BowlingCenter("Pin Palace", 1);
+            try (final ScoreBroadcaster scoreBroadcaster = new ScoreBroadcaster(bowlingCenter, 8)) {
+                final Lane lane = bowlingCenter.lane(1);
+                lane.startMatch(List.of(PLAYER_NAME));
+                lane.addFrame(PLAYER_NAME, 2, 3);
+                final ScoreBroadcaster.Subscriber subscriber = scoreBroadcaster.subscribe(1);
+                assertEquals(event(1, 1, 5, 5), poll(subscriber));
+                lane.correctFrame(PLAYER_NAME, 0, DefaultFrame.strike());
+                final String unscoredEvent = "event: unscored\ndata: {\"laneNbr\":1,\"playerName\":\"%s\","
+                        + "\"frameNbr\":1,\"score\":0}\n\n";
+                assertEquals(unscoredEvent.formatted(PLAYER_NAME), poll(subscriber));
+            }
+        }
+
+        @Test
+        void frameScored_withSlowSubscriber_thenDropOldestEvents() throws InterruptedException {
+            final BowlingCenter bowlingCenter = new BowlingCenter("Pin Palace", 1);
+            try (final ScoreBroadcaster scoreBroadcaster = new ScoreBroadcaster(bowlingCenter, 2)) {
+                final ScoreBroadcaster.Subscriber subscriber = scoreBroadcaster.subscribe(1);
+                final Lane lane = bowlingCenter.lane(1);
+                lane.startMatch(List.of(PLAYER_NAME));
+                for (int i = 0; i < 4; i++)
+                    lane.addFrame(PLAYER_NAME, 1, 1);
+                assertEquals(2, scoreBroadcaster.nbrDropped());
+                assertEquals(event(1, 3, 2, 6), poll(subscriber));
+                assertEquals(event(1, 4, 2, 8), poll(subscriber));
+            }
+        }
+
+        @Test
+        void close_withSubscriber_thenEndStream() throws InterruptedException {
+            final BowlingCenter bowlingCenter = new BowlingCenter("Pin Palace", 1);
+            final ScoreBroadcaster scoreBroadcaster = new ScoreBroadcaster(bowlingCenter, 2);
+            final ScoreBroadcaster.Subscriber subscriber = scoreBroadcaster.subscribe(1);
+            scoreBroadcaster.close();
+            assertEquals(0, subscriber.poll(0, TimeUnit.SECONDS).length);
+            assertEquals(0, subscriber.poll(0, TimeUnit.SECONDS).length);
+            assertThrows(IllegalStateException.class, () ->
+                    scoreBroadcaster.subscribe(1)
+            );
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package net.sattler22.bowling.server;
+
+import net.sattler22.bowling.center.BowlingCenter;
+import net.sattler22.bowling.center.Lane;
+import net.sattler22.bowling.core.Game;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Scoring Server Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Scoring Server Unit Tests")
+final class ScoringServerTest {
+
+    private static final int NBR_LANES = 8;
+
+    private BowlingCenter bowlingCenter;
+    private ScoringServer scoringServer;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        bowlingCenter = new BowlingCenter("Loopback Lanes", NBR_LANES);
+        scoringServer = new ScoringServer(bowlingCenter, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        scoringServer.start();
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        scoringServer.close();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:%d%s".formatted(scoringServer.port(), path));
+    }
+
+    private HttpResponse<String> post(String path, String body) throws IOException, InterruptedException {
+        final HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Nested
+    @DisplayName("Constructs a New Scoring Server")
+    final class NewInstanceTest {
+        @Test
+        void newInstance_withNullBowlingCenter_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ScoringServer(null, new InetSocketAddress(0))
+            );
+        }
+
+        @Test
+        void newInstance_withNullAddress_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new ScoringServer(bowlingCenter, null)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Post Rolls and Frames")
+    final class PostTest {
+        @Test
+        void post_withNewMatch_thenCreated() throws Exception {
+            final HttpResponse<String> response = post("/lanes/1/match", "Al Lee\nSherry Pie\n");
+            assertEquals(201, response.statusCode());
+            assertEquals("{\"laneNbr\":1,\"bowlers\":[\"Al Lee\",\"Sherry Pie\"]}", response.body());
+        }
+
+        @Test
+        void post_withRolls_thenRespondWithUpdatedFrames() throws Exception {
+            post("/lanes/2/match", "Al Lee");
+            assertEquals("{\"laneNbr\":2,\"playerName\":\"Al Lee\",\"updatedFrames\":[]}",
+                    post("/lanes/2/players/Al%20Lee/rolls", "10").body());
+            assertEquals("{\"laneNbr\":2,\"playerName\":\"Al Lee\",\"updatedFrames\":[]}",
+                    post("/lanes/2/players/Al%20Lee/rolls", "7").body());
+            final HttpResponse<String> response = post("/lanes/2/players/Al%20Lee/rolls", "2");
+            assertEquals(200, response.statusCode());
+            assertEquals("{\"laneNbr\":2,\"playerName\":\"Al Lee\",\"updatedFrames\":["
+                    + "{\"frameNbr\":1,\"rolls\":[10],\"score\":19},"
+                    + "{\"frameNbr\":2,\"rolls\":[7,2],\"score\":28}]}", response.body());
+        }
+
+        @Test
+        void post_withFrame_thenRespondWithUpdatedFrames() throws Exception {
+            post("/lanes/3/match", "Sherry Pie");
+            final HttpResponse<String> response = post("/lanes/3/players/Sherry%20Pie/frames", "6 3");
+            assertEquals(200, response.statusCode());
+            assertEquals("{\"laneNbr\":3,\"playerName\":\"Sherry Pie\",\"updatedFrames\":["
+                    + "{\"frameNbr\":1,\"rolls\":[6,3],\"score\":9}]}", response.body());
+        }
+
+        @Test
+        void post_withCorrectedFrame_thenRespondWithRescoredFrames() throws Exception {
+            post("/lanes/3/match", "Sherry Pie");
+            post("/lanes/3/players/Sherry%20Pie/frames", "6 3");
+            post("/lanes/3/players/Sherry%20Pie/frames", "5 2");
+            final HttpResponse<String> response = post("/lanes/3/players/Sherry%20Pie/frames/1", "6 4");
+            assertEquals(200, response.statusCode());
+            assertEquals("{\"laneNbr\":3,\"playerName\":\"Sherry Pie\",\"updatedFrames\":["
+                    + "{\"frameNbr\":1,\"rolls\":[6,4],\"score\":15},"
+                    + "{\"frameNbr\":2,\"rolls\":[5,2],\"score\":22}]}", response.body());
+            assertEquals(400, post("/lanes/3/players/Sherry%20Pie/frames/3", "6 4").statusCode());
+        }
+
+        @Test
+        void post_withTooManyPins_thenBadRequest() throws Exception {
+            post("/lanes/4/match", "Sherry Pie");
+            post("/lanes/4/players/Sherry%20Pie/rolls", "6");
+            assertEquals(400, post("/lanes/4/players/Sherry%20Pie/rolls", "6").statusCode());
+        }
+
+        @Test
+        void post_withGarbledRoll_thenBadRequest() throws Exception {
+            post("/lanes/4/match", "Sherry Pie");
+            assertEquals(400, post("/lanes/4/players/Sherry%20Pie/rolls", "six").statusCode());
+        }
+
+        @Test
+        void post_withWrongBowler_thenConflict() throws Exception {
+            post("/lanes/5/match", "Al Lee\nSherry Pie");
+            final HttpResponse<String> response = post("/lanes/5/players/Sherry%20Pie/rolls", "5");
+            assertEquals(409, response.statusCode());
+            assertEquals("{\"error\":\"It's Al Lee's turn on lane #5\"}", response.body());
+        }
+
+        @Test
+        void post_withUnknownLane_thenNotFound() throws Exception {
+            assertEquals(404, post("/lanes/%d/match".formatted(NBR_LANES + 1), "Al Lee").statusCode());
+        }
+
+        @Test
+        void post_withUnknownResource_thenNotFound() throws Exception {
+            assertEquals(404, post("/lanes/1/standings", "").statusCode());
+        }
+
+        @Test
+        void get_withAnyResource_thenMethodNotAllowed() throws Exception {
+            final HttpRequest request = HttpRequest.newBuilder(uri("/lanes/1/match")).build();
+            assertEquals(405, httpClient.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream Scores")
+    final class StreamTest {
+        private static String data(int laneNbr, String playerName, int frameNbr, int frameTotal, int score) {
+            return "{\"laneNbr\":%d,\"playerName\":\"%s\",\"frameNbr\":%d,\"frameTotal\":%d,\"score\":%d}"
+                    .formatted(laneNbr, playerName, frameNbr, frameTotal, score);
+        }
+
+        private static String nextData(Iterator<String> lines) {
+            while (lines.hasNext()) {
+                final String line = lines.next();
+                if (line.startsWith("data: "))
+                    return line.substring("data: ".length());
+            }
+            return null;
+        }
+
+        @Test
+        void get_withScoresStream_thenPushEveryScoredFrame() throws Exception {
+            post("/lanes/6/match", "Al Lee\nSherry Pie");
+            post("/lanes/6/players/Al%20Lee/frames", "3 4");
+            final HttpRequest request = HttpRequest.newBuilder(uri("/lanes/6/scores")).build();
+            final HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+            assertEquals(200, response.statusCode());
+            assertEquals("text/event-stream", response.headers().firstValue("Content-Type").orElseThrow());
+            try (final Stream<String> lines = response.body()) {
+                final Iterator<String> iterator = lines.iterator();
+                assertEquals(data(6, "Al Lee", 1, 7, 7), nextData(iterator));
+                post("/lanes/6/players/Sherry%20Pie/frames", "10");
+                post("/lanes/6/players/Al%20Lee/frames", "1 1");
+                post("/lanes/6/players/Sherry%20Pie/frames", "2 2");
+                assertEquals(data(6, "Al Lee", 2, 2, 9), nextData(iterator));
+                assertEquals(data(6, "Sherry Pie", 1, 10, 14), nextData(iterator));
+                assertEquals(data(6, "Sherry Pie", 2, 4, 18), nextData(iterator));
+            }
+        }
+
+        @Test
+        void post_withScoresStream_thenMethodNotAllowed() throws Exception {
+            assertEquals(405, post("/lanes/1/scores", "").statusCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Post to Every Lane at Once")
+    final class ConcurrentPostTest {
+        @Test
+        void post_withEveryLaneBusy_thenScoreEveryGame() throws Exception {
+            for (final Lane lane : bowlingCenter.lanes())
+                assertEquals(201, post("/lanes/%d/match".formatted(lane.laneNbr()), "Bo Ling").statusCode());
+            final List<Future<?>> pinsetters = new ArrayList<>();
+            try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (final Lane lane : bowlingCenter.lanes())
+                    pinsetters.add(executor.submit(() -> {
+                        final String path = "/lanes/%d/players/Bo%%20Ling/rolls".formatted(lane.laneNbr());
+                        for (int i = 0; i < Game.MAX_FRAMES + 2; i++)  //All strikes
+                            assertEquals(200, post(path, "10").statusCode());
+                        return null;
+                    }));
+                for (final Future<?> pinsetter : pinsetters)
+                    pinsetter.get(30, TimeUnit.SECONDS);
+            }
+            for (final Lane lane : bowlingCenter.lanes())
+                assertTrue(lane.games().getFirst().isPerfect());
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package net.sattler22.bowling.stats;
+
+import net.sattler22.bowling.model.PinMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ten Pin Bowling Leave Analytics Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Leave Analytics Unit Tests")
+final class LeaveAnalyticsTest {
+
+    private static final short SEVEN_TEN = PinMask.of(7, 10);
+    private static final short TEN_PIN = PinMask.of(10);
+
+    @Nested
+    @DisplayName("Add Frames")
+    final class AddTest {
+        @Test
+        void add_withPinStandingAgain_thenThrowIllegalArgumentException() {
+            final LeaveAnalytics analytics = new LeaveAnalytics();
+            assertThrows(IllegalArgumentException.class, () ->
+                    analytics.add(TEN_PIN, SEVEN_TEN)
+            );
+        }
+
+        @Test
+        void addAll_withInvalidMask_thenThrowIllegalArgumentException() {
+            final LeaveAnalytics analytics = new LeaveAnalytics();
+            final short[] leaves = {TEN_PIN, (short) -1};
+            final short[] afterSecondRolls = {PinMask.NO_PINS, PinMask.NO_PINS};
+            assertThrows(IllegalArgumentException.class, () ->
+                    analytics.addAll(leaves, afterSecondRolls, 0, leaves.length)
+            );
+        }
+
+        @Test
+        void addAll_withMismatchedColumns_thenThrowIllegalArgumentException() {
+            final LeaveAnalytics analytics = new LeaveAnalytics();
+            assertThrows(IllegalArgumentException.class, () ->
+                    analytics.addAll(new short[2], new short[1], 0, 1)
+            );
+        }
+
+        @Test
+        void add_withHappyPath_thenSuccessful() {
+            final LeaveAnalytics analytics = new LeaveAnalytics();
+            analytics.add(PinMask.NO_PINS, PinMask.NO_PINS);  //Strike
+            analytics.add(TEN_PIN, PinMask.NO_PINS);
+            analytics.add(TEN_PIN, TEN_PIN);
+            analytics.add(TEN_PIN, PinMask.NO_PINS);
+            analytics.add(SEVEN_TEN, TEN_PIN);
+            assertEquals(1, analytics.nbrStrikes());
+            assertEquals(3, analytics.nbrAttempts(TEN_PIN));
+            assertEquals(2, analytics.nbrConversions(TEN_PIN));
+            assertEquals(OptionalDouble.of(2.0 / 3), analytics.conversionRate(TEN_PIN));
+            assertEquals(OptionalDouble.of(0), analytics.splitConversionRate());
+            assertEquals(OptionalDouble.of(0.5), analytics.conversionRate());
+            assertArrayEquals(new short[] {TEN_PIN, SEVEN_TEN}, analytics.mostCommonLeaves(5));
+        }
+
+        @Test
+        void conversionRate_withNoAttempts_thenReturnEmpty() {
+            final LeaveAnalytics analytics = new LeaveAnalytics();
+            assertEquals(OptionalDouble.empty(), analytics.conversionRate(SEVEN_TEN));
+            assertEquals(OptionalDouble.empty(), analytics.splitConversionRate());
+        }
+
+        @Test
+        void nbrAttempts_withNoPins_thenThrowIllegalArgumentException() {
+            final LeaveAnalytics analytics = new LeaveAnalytics();
+            assertThrows(IllegalArgumentException.class, () ->
+                    analytics.nbrAttempts(PinMask.NO_PINS)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Analyze an Archive")
+    final class AnalyzeTest {
+        @Test
+        void of_withNullPool_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    LeaveAnalytics.of(new short[0], new short[0], null)
+            );
+        }
+
+        @Test
+        void of_withLargeArchive_thenMatchSequentialTally() {
+            final Random random = new Random(7_10L);
+            final int nbrFrames = 1_000_000;
+            final short[] leaves = new short[nbrFrames];
+            final short[] afterSecondRolls = new short[nbrFrames];
+            for (int index = 0; index < nbrFrames; index++) {
+                leaves[index] = (short) random.nextInt(PinMask.ALL_PINS + 1);
+                afterSecondRolls[index] = (short) (leaves[index] & random.nextInt(PinMask.ALL_PINS + 1));
+            }
+            final LeaveAnalytics expected = new LeaveAnalytics();
+            for (int index = 0; index < nbrFrames; index++)
+                expected.add(leaves[index], afterSecondRolls[index]);
+            try (final ForkJoinPool pool = new ForkJoinPool(4)) {
+                final LeaveAnalytics actual = LeaveAnalytics.of(leaves, afterSecondRolls, pool);
+                assertEquals(expected.nbrStrikes(), actual.nbrStrikes());
+                for (int leave = 1; leave <= PinMask.ALL_PINS; leave++) {
+                    assertEquals(expected.nbrAttempts((short) leave), actual.nbrAttempts((short) leave));
+                    assertEquals(expected.nbrConversions((short) leave), actual.nbrConversions((short) leave));
+                }
+                assertEquals(expected.splitConversionRate(), actual.splitConversionRate());
+            }
+        }
+    }
+}
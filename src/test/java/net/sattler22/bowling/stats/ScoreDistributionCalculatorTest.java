@@ -0,0 +1,121 @@
+package net.sattler22.bowling.stats;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import net.sattler22.bowling.model.FinalFrame;
+import net.sattler22.bowling.model.Frame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ten Pin Bowling Score Distribution Calculator Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Score Distribution Calculator Unit Tests")
+final class ScoreDistributionCalculatorTest {
+
+    private static final double TOLERANCE = 1e-12;
+
+    @Nested
+    @DisplayName("Count Legal Games")
+    final class CountTest {
+        @Test
+        void nbrGames_withAllLegalGames_thenSuccessful() {
+            assertEquals(5_726_805_883_325_784_576L, ScoreDistributionCalculator.nbrGames());
+        }
+
+        @Test
+        void gameCounts_withExtremeScores_thenSuccessful() {
+            final long[] gameCounts = ScoreDistributionCalculator.gameCounts();
+            assertEquals(ScoreDistribution.MAX_SCORE + 1, gameCounts.length);
+            assertEquals(1, gameCounts[ScoreDistribution.MAX_SCORE]);  //Twelve strikes
+            assertEquals(1, gameCounts[ScoreDistribution.MAX_SCORE - 1]);  //Eleven strikes and a nine
+            assertEquals(1, gameCounts[0]);  //Twenty gutter balls
+            assertEquals(20, gameCounts[1]);  //A single pin on any of the twenty rolls
+        }
+
+        @Test
+        void legalGames_withAllScores_thenAddUpToOne() {
+            final ScoreDistribution scoreDistribution = ScoreDistributionCalculator.legalGames();
+            assertEquals(1, scoreDistribution.atLeast(0), TOLERANCE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Score a Roll Distribution")
+    final class RollDistributionTest {
+        @Test
+        void of_withNullRollDistribution_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    ScoreDistributionCalculator.of(null)
+            );
+        }
+
+        @Test
+        void of_withProbabilitiesNotAddingUpToOne_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    ScoreDistributionCalculator.of((pinsStanding, nbrPins) -> 0.5)
+            );
+        }
+
+        @Test
+        void of_withAlwaysStrike_thenPerfectGame() {
+            final ScoreDistribution scoreDistribution = ScoreDistributionCalculator.of((pinsStanding, nbrPins) ->
+                    nbrPins == pinsStanding ? 1 : 0);
+            assertEquals(1, scoreDistribution.probability(ScoreDistribution.MAX_SCORE), TOLERANCE);
+            assertEquals(ScoreDistribution.MAX_SCORE, scoreDistribution.mean(), TOLERANCE);
+        }
+
+        @Test
+        void of_withAlwaysNineSpare_thenOneNinety() {
+            //Nine on every full rack, then the last pin:
+            final ScoreDistribution scoreDistribution = ScoreDistributionCalculator.of((pinsStanding, nbrPins) ->
+                    nbrPins == (pinsStanding == Frame.MAX_PINS ? 9 : pinsStanding) ? 1 : 0);
+            assertEquals(1, scoreDistribution.probability(190), TOLERANCE);
+            assertEquals(0, scoreDistribution.atLeast(191), TOLERANCE);
+        }
+
+        @Test
+        void of_withUniformRolls_thenMatchSimulatedGames() {
+            final ScoreDistribution scoreDistribution = ScoreDistributionCalculator.of(RollDistribution.uniform());
+            assertEquals(1, scoreDistribution.atLeast(0), TOLERANCE);
+            final Random random = new Random(178);
+            final int nbrGames = 20_000;
+            long totalScore = 0;
+            for (int i = 0; i < nbrGames; i++) {
+                final Game game = new Game("Monty Carlo");
+                for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES - 1; frameIndex++) {
+                    final int firstRoll = random.nextInt(Frame.MAX_PINS + 1);
+                    game.addFrame(firstRoll == Frame.MAX_PINS ? DefaultFrame.strike()
+                            : DefaultFrame.of(firstRoll, random.nextInt(Frame.MAX_PINS - firstRoll + 1)));
+                }
+                final int firstRoll = random.nextInt(Frame.MAX_PINS + 1);
+                final int secondRoll = random.nextInt(
+                        (firstRoll == Frame.MAX_PINS ? Frame.MAX_PINS : Frame.MAX_PINS - firstRoll) + 1);
+                final int bonusRoll = FinalFrame.hasEarnedBonusRoll(firstRoll, secondRoll)
+                        ? random.nextInt(FinalFrame.bonusPinsStanding(firstRoll, secondRoll) + 1) : 0;
+                game.addFrame(FinalFrame.of(firstRoll, secondRoll, bonusRoll));
+                game.updateScore();
+                totalScore += game.score();
+            }
+            assertEquals(scoreDistribution.mean(), (double) totalScore / nbrGames, 1.0);
+        }
+
+        @Test
+        void probability_withInvalidScore_thenThrowIllegalArgumentException() {
+            final ScoreDistribution scoreDistribution = ScoreDistributionCalculator.legalGames();
+            assertThrows(IllegalArgumentException.class, () ->
+                    scoreDistribution.probability(ScoreDistribution.MAX_SCORE + 1)
+            );
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package net.sattler22.bowling.store;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.core.PackedGame;
+import net.sattler22.bowling.model.DefaultFrame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Ten Pin Bowling Game Store Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Game Store Unit Tests")
+final class GameStoreTest {
+
+    private static final PackedGame TYPICAL_GAME =
+            PackedGame.of(10, 7, 3, 9, 0, 10, 10, 8, 2, 6, 0, 10, 9, 1, 10, 8, 2);  //178
+    private static final PackedGame PERFECT_GAME = PackedGame.of(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10);
+    private static final PackedGame PARTIAL_GAME = PackedGame.of(10, 7, 3, 9);  //Frames #1-2 are scored
+
+    private final GameStore gameStore = new GameStore(8);
+
+    @AfterEach
+    void tearDown() {
+        gameStore.close();
+    }
+
+    @Nested
+    @DisplayName("Append Games")
+    final class AppendTest {
+        @Test
+        void newInstance_withInvalidBlockSize_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    new GameStore(12)
+            );
+        }
+
+        @Test
+        void append_withNullPackedGame_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    gameStore.append(1, (PackedGame) null)
+            );
+        }
+
+        @Test
+        void append_withInvalidNbrRolls_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    gameStore.append(1, 0L, 0L, Game.MAX_ROLLS + 1)
+            );
+        }
+
+        @Test
+        void append_withGame_thenSuccessful() {
+            final Game game = new Game("Holly Roller");
+            game.addFrame(DefaultFrame.strike());
+            game.addFrame(new DefaultFrame(7, 3));
+            game.addFrame(new DefaultFrame(9, 0));
+            game.updateScore();
+            assertEquals(0, gameStore.append(42, game));
+            assertEquals(1, gameStore.size());
+            assertEquals(42, gameStore.playerId(0));
+            assertEquals(game.score(), gameStore.score(0));
+            assertEquals(3, gameStore.nbrScoredFrames(0));
+        }
+
+        @Test
+        void append_withPerfectGame_thenSuccessful() {
+            gameStore.append(7, PERFECT_GAME);
+            assertEquals(300, gameStore.score(0));
+            assertEquals(Game.MAX_FRAMES, gameStore.nbrScoredFrames(0));
+            assertEquals(PERFECT_GAME, gameStore.toPackedGame(0));
+        }
+
+        @Test
+        void append_withPartialGame_thenOnlySettledFramesScored() {
+            gameStore.append(7, PARTIAL_GAME);
+            assertEquals(2, gameStore.nbrScoredFrames(0));
+            assertEquals(20, gameStore.frameScore(0, 0));
+            assertEquals(39, gameStore.score(0));
+            assertEquals(PARTIAL_GAME, gameStore.toPackedGame(0));
+        }
+
+        @Test
+        void append_acrossBlocks_thenSuccessful() {
+            for (int i = 0; i < 20; i++)
+                gameStore.append(1_000 + i, i % 2 == 0 ? TYPICAL_GAME : PERFECT_GAME);
+            assertEquals(20, gameStore.size());
+            assertEquals(3L * 8 * GameStore.BYTES_PER_GAME, gameStore.nbrBytes());
+            for (int i = 0; i < 20; i++) {
+                assertEquals(1_000 + i, gameStore.playerId(i));
+                assertEquals(i % 2 == 0 ? 178 : 300, gameStore.score(i));
+                assertEquals(i % 2 == 0 ? TYPICAL_GAME : PERFECT_GAME, gameStore.toPackedGame(i));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Random Access")
+    final class RandomAccessTest {
+        @Test
+        void score_withInvalidIndex_thenThrowIndexOutOfBoundsException() {
+            gameStore.append(1, TYPICAL_GAME);
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    gameStore.score(1)
+            );
+        }
+
+        @Test
+        void frameScore_withUnscoredFrame_thenThrowIndexOutOfBoundsException() {
+            gameStore.append(1, PARTIAL_GAME);
+            assertThrows(IndexOutOfBoundsException.class, () ->
+                    gameStore.frameScore(0, 2)
+            );
+        }
+
+        @Test
+        void frameScore_withTypicalGame_thenMatchesPackedGame() {
+            gameStore.append(1, TYPICAL_GAME);
+            final int[] frameScores = new int[Game.MAX_FRAMES];
+            TYPICAL_GAME.score(frameScores);
+            for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES; frameIndex++)
+                assertEquals(frameScores[frameIndex], gameStore.frameScore(0, frameIndex));
+        }
+
+        @Test
+        void score_afterClose_thenThrowIllegalStateException() {
+            gameStore.append(1, TYPICAL_GAME);
+            gameStore.close();
+            assertThrows(IllegalStateException.class, () ->
+                    gameStore.score(0)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Close a Game Store")
+    final class CloseTest {
+        @Test
+        void append_afterClose_thenThrowIllegalStateException() {
+            gameStore.close();
+            assertThrows(IllegalStateException.class, () ->
+                    gameStore.append(1, TYPICAL_GAME)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Bulk Scans")
+    final class ScanTest {
+        @Test
+        void scan_withNullVisitor_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    gameStore.scan(null)
+            );
+        }
+
+        @Test
+        void scan_acrossBlocks_thenVisitEveryGameInOrder() {
+            for (int i = 0; i < 10; i++)
+                gameStore.append(i, TYPICAL_GAME);
+            final List<Long> indexes = new ArrayList<>();
+            gameStore.scan((index, playerId, score) -> {
+                assertEquals(index, playerId);
+                assertEquals(178, score);
+                indexes.add(index);
+            });
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L), indexes);
+        }
+
+        @Test
+        void scan_whileAppendingAcrossBlocks_thenVisitEveryPublishedGame() throws InterruptedException {
+            for (int round = 0; round < 2_000; round++) {
+                try (final GameStore sharedStore = new GameStore(8)) {
+                    final Thread appender = Thread.ofPlatform().start(() -> {
+                        for (int i = 0; i < 256; i++)
+                            sharedStore.append(i, TYPICAL_GAME);
+                    });
+                    while (appender.isAlive()) {
+                        final long[] nbrVisited = new long[1];
+                        sharedStore.scan((index, playerId, score) -> {
+                            assertEquals(nbrVisited[0]++, index);
+                            assertEquals(index, playerId);
+                        });
+                        assertEquals(0, sharedStore.totalScore() % 178);
+                    }
+                    appender.join();
+                    assertEquals(256 * 178, sharedStore.totalScore());
+                }
+            }
+        }
+
+        @Test
+        void totalScore_withMixedGames_thenSuccessful() {
+            gameStore.append(1, TYPICAL_GAME);
+            gameStore.append(2, PERFECT_GAME);
+            gameStore.append(3, PARTIAL_GAME);
+            assertEquals(178 + 300 + 39, gameStore.totalScore());
+        }
+
+        @Test
+        void scoreHistogram_withMixedGames_thenSuccessful() {
+            for (int i = 0; i < 9; i++)
+                gameStore.append(i, i < 3 ? PERFECT_GAME : TYPICAL_GAME);
+            final long[] histogram = gameStore.scoreHistogram();
+            assertEquals(3, histogram[300]);
+            assertEquals(6, histogram[178]);
+        }
+
+        @Test
+        void totalScore_withEmptyStore_thenZero() {
+            assertEquals(0, gameStore.totalScore());
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package net.sattler22.bowling.tournament;
+
+import net.sattler22.bowling.core.Game;
+import net.sattler22.bowling.model.DefaultFrame;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ten Pin Bowling Tournament Leaderboard Unit Tests
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@DisplayName("Ten Pin Bowling Tournament Leaderboard Unit Tests")
+final class LeaderboardTest {
+
+    private final Leaderboard leaderboard = new Leaderboard();
+
+    private void addField() {
+        leaderboard.addPins("Al Ley", 610);
+        leaderboard.addPins("Sherry Pin", 705);
+        leaderboard.addPins("Chris Cross", 650);
+        leaderboard.addPins("Bo Ling", 650);
+        leaderboard.addPins("Gutter Gus", 480);
+    }
+
+    @Nested
+    @DisplayName("Add Pins")
+    final class AddPinsTest {
+        @Test
+        void addPins_withBlankName_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    leaderboard.addPins(" ", 10)
+            );
+        }
+
+        @Test
+        void addPins_withNegativePins_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    leaderboard.addPins("Al Ley", -1)
+            );
+        }
+
+        @Test
+        void addPins_withSeveralGames_thenAccumulate() {
+            leaderboard.addPins("Al Ley", 200);
+            leaderboard.addPins("Al Ley", 180);
+            assertEquals(380, leaderboard.entry("Al Ley").orElseThrow().score());
+            assertEquals(1, leaderboard.nbrBowlers());
+            assertEquals(List.of(new LeaderboardEntry("Al Ley", 380)), leaderboard.topK(10));
+        }
+
+        @Test
+        void addPins_fromManyLanesAtOnce_thenNoPinsAreLost() throws Exception {
+            final int nbrLanes = 8;
+            final int nbrBowlers = 50;
+            final int nbrUpdates = 2_000;
+            try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                final List<Future<?>> lanes = new ArrayList<>();
+                for (int laneNbr = 0; laneNbr < nbrLanes; laneNbr++)
+                    lanes.add(executor.submit(() -> {
+                        for (int update = 0; update < nbrUpdates; update++)
+                            leaderboard.addPins("Bowler " + update % nbrBowlers, 1);
+                    }));
+                for (final Future<?> lane : lanes)
+                    lane.get();
+            }
+            final List<LeaderboardEntry> standings = leaderboard.topK(Integer.MAX_VALUE);
+            assertEquals(nbrBowlers, standings.size());
+            for (final LeaderboardEntry entry : standings)
+                assertEquals(nbrLanes * nbrUpdates / nbrBowlers, entry.score());
+        }
+    }
+
+    @Nested
+    @DisplayName("Track Games")
+    final class TrackTest {
+        @Test
+        void track_withScoredGame_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Al Ley");
+            game.addRoll(7);
+            game.addRoll(2);
+            assertThrows(IllegalArgumentException.class, () ->
+                    leaderboard.track(game)
+            );
+        }
+
+        @Test
+        void track_withGutterFrames_thenThrowIllegalArgumentException() {
+            final Game game = new Game("Al Ley");
+            game.addRoll(0);
+            game.addRoll(0);
+            game.updateScore();
+            assertThrows(IllegalArgumentException.class, () ->
+                    leaderboard.track(game)
+            );
+        }
+
+        @Test
+        void track_withNewGame_thenListBowlerRightAway() {
+            leaderboard.track(new Game("Al Ley"));
+            assertEquals(0, leaderboard.entry("Al Ley").orElseThrow().score());
+        }
+
+        @Test
+        void track_withRollsAdded_thenFollowTheRunningScore() {
+            final Game game = new Game("Al Ley");
+            leaderboard.track(game);
+            game.addRoll(10);
+            assertEquals(0, leaderboard.entry("Al Ley").orElseThrow().score());  //The strike is not settled yet
+            game.addRoll(7);
+            game.addRoll(2);
+            assertEquals(28, leaderboard.entry("Al Ley").orElseThrow().score());
+            for (int roll = 0; roll < 15; roll++)
+                game.addRoll(3);
+            assertEquals(game.score(), leaderboard.entry("Al Ley").orElseThrow().score());
+        }
+
+        @Test
+        void track_withCorrectedFrame_thenTakePinsAway() {
+            final Game game = new Game("Al Ley");
+            leaderboard.track(game);
+            for (int roll = 0; roll < 3; roll++)
+                game.addRoll(10);
+            game.addRoll(0);
+            game.addRoll(0);
+            assertEquals(60, leaderboard.entry("Al Ley").orElseThrow().score());  //30 + 20 + 10 + 0
+            game.correctFrame(1, DefaultFrame.of(2, 3));
+            assertEquals(30, leaderboard.entry("Al Ley").orElseThrow().score());  //15 + 5 + 10 + 0
+        }
+
+        @Test
+        void track_withCorrectionLeavingFramesUnscored_thenTakePinsAway() {
+            final Game game = new Game("Al Ley");
+            leaderboard.track(game);
+            game.addFrame(DefaultFrame.of(3, 4));
+            game.addFrame(DefaultFrame.of(3, 4));
+            game.updateScore();
+            assertEquals(14, leaderboard.entry("Al Ley").orElseThrow().score());
+            game.correctFrame(1, DefaultFrame.strike());
+            assertEquals(7, leaderboard.entry("Al Ley").orElseThrow().score());  //The strike is not settled yet
+        }
+
+        @Test
+        void track_withTwoGames_thenAddThemUp() {
+            final Game firstGame = new Game("Sherry Pin");
+            final Game secondGame = new Game("Sherry Pin");
+            leaderboard.track(firstGame);
+            leaderboard.track(secondGame);
+            for (int roll = 0; roll < 12; roll++)
+                firstGame.addRoll(10);
+            for (int roll = 0; roll < 20; roll++)
+                secondGame.addRoll(4);
+            assertEquals(380, leaderboard.entry("Sherry Pin").orElseThrow().score());
+        }
+    }
+
+    @Nested
+    @DisplayName("Queries")
+    final class QueryTest {
+        @Test
+        void topK_withNegativeK_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    leaderboard.topK(-1)
+            );
+        }
+
+        @Test
+        void topK_withTies_thenOrderByName() {
+            addField();
+            assertEquals(List.of(new LeaderboardEntry("Sherry Pin", 705), new LeaderboardEntry("Bo Ling", 650),
+                    new LeaderboardEntry("Chris Cross", 650)), leaderboard.topK(3));
+        }
+
+        @Test
+        void topK_withMoreThanTheField_thenReturnEveryone() {
+            addField();
+            assertEquals(5, leaderboard.topK(100).size());
+        }
+
+        @Test
+        void topK_afterUpdate_thenReorder() {
+            addField();
+            leaderboard.addPins("Gutter Gus", 300);
+            assertEquals(new LeaderboardEntry("Gutter Gus", 780), leaderboard.topK(1).getFirst());
+            assertEquals(5, leaderboard.topK(100).size());
+        }
+
+        @Test
+        void rank_withTies_thenShareTheRank() {
+            addField();
+            assertEquals(OptionalInt.of(1), leaderboard.rank("Sherry Pin"));
+            assertEquals(OptionalInt.of(2), leaderboard.rank("Bo Ling"));
+            assertEquals(OptionalInt.of(2), leaderboard.rank("Chris Cross"));
+            assertEquals(OptionalInt.of(4), leaderboard.rank("Al Ley"));
+            assertEquals(OptionalInt.of(5), leaderboard.rank("Gutter Gus"));
+        }
+
+        @Test
+        void rank_withUnknownBowler_thenEmpty() {
+            addField();
+            assertTrue(leaderboard.rank("Split Happens").isEmpty());
+            assertTrue(leaderboard.entry("Split Happens").isEmpty());
+        }
+
+        @Test
+        void range_withInvalidRange_thenThrowIllegalArgumentException() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    leaderboard.range(600, 500)
+            );
+        }
+
+        @Test
+        void range_withBoundsOnScores_thenIncludeBothEnds() {
+            addField();
+            assertEquals(List.of(new LeaderboardEntry("Bo Ling", 650), new LeaderboardEntry("Chris Cross", 650),
+                    new LeaderboardEntry("Al Ley", 610)), leaderboard.range(610, 650));
+        }
+
+        @Test
+        void range_withWholeField_thenReturnEveryone() {
+            addField();
+            assertEquals(leaderboard.topK(5), leaderboard.range(0, Integer.MAX_VALUE));
+        }
+
+        @Test
+        void range_withNoScores_thenEmpty() {
+            addField();
+            assertTrue(leaderboard.range(490, 600).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package net.sattler22.bowling.core;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import net.jcip.annotations.ThreadSafe;
+import net.sattler22.bowling.model.Frame;
+
+/**
+ * Ten Pin Bowling Vector Frame Scorer
+ *
+ * <p>
+ * The SIMD kernel of the {@link ColumnarScorer}. Each lane of a vector follows one game. Instead of gathering the
+ * rolls of a frame from a different roll index per game, the kernel walks the roll positions in order, so every roll
+ * is one contiguous load across the games, and the lanes whose next frame starts at the current roll score it. A lane
+ * stops scoring at the first frame whose rolls are not all known, exactly like {@link Game#updateScore()}. Only
+ * built by the {@code vector} profile, and only loaded when the {@code jdk.incubator.vector} module is present.
+ * </p>
+ *
+ * @author Pete Sattler
+ * @since October 2026
+ * @version October 2026
+ */
+@ThreadSafe
+final class VectorFrameScorer {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int LAST_FRAME_START = 2 * (Game.MAX_FRAMES - 1);  //Roll index of the latest final frame
+
+    private VectorFrameScorer() {
+    }
+
+    static int laneWidth() {
+        return SPECIES.length();
+    }
+
+    /**
+     * Score every complete group of lanes
+     *
+     * @return The index of the first game that was not scored
+     */
+    static int score(int[] rolls, int[] nbrRolls, int nbrGames, int[] frameScores, int[] nbrScoredFrames) {
+        final int upperBound = SPECIES.loopBound(nbrGames);
+        final IntVector zeros = IntVector.zero(SPECIES);
+        final IntVector ones = IntVector.broadcast(SPECIES, 1);
+        final IntVector twos = IntVector.broadcast(SPECIES, 2);
+        final IntVector threes = IntVector.broadcast(SPECIES, 3);
+        final IntVector noFrame = IntVector.broadcast(SPECIES, Game.MAX_ROLLS);
+        for (int firstGame = 0; firstGame < upperBound; firstGame += SPECIES.length()) {
+            for (int frameIndex = 0; frameIndex < Game.MAX_FRAMES; frameIndex++)
+                zeros.intoArray(frameScores, frameIndex * nbrGames + firstGame);
+            final IntVector nbrGameRolls = IntVector.fromArray(SPECIES, nbrRolls, firstGame);
+            IntVector frameIndexes = zeros;
+            IntVector frameStarts = zeros;  //The roll index each lane's next frame starts at
+            IntVector runningScores = zeros;
+            IntVector nbrScored = zeros;
+            VectorMask<Integer> scoring = SPECIES.maskAll(true);
+            IntVector firstRolls = roll(rolls, nbrGames, firstGame, 0, nbrGameRolls);
+            IntVector secondRolls = roll(rolls, nbrGames, firstGame, 1, nbrGameRolls);
+            //No early exits in here: a branch around vector code makes C2 box every vector it merges
+            for (int rollIndex = 0; rollIndex <= LAST_FRAME_START; rollIndex++) {
+                final IntVector thirdRolls = roll(rolls, nbrGames, firstGame, rollIndex + 2, nbrGameRolls);
+                final VectorMask<Integer> starting = frameStarts.compare(VectorOperators.EQ, rollIndex).and(scoring);
+                final VectorMask<Integer> finalFrames =
+                        frameIndexes.compare(VectorOperators.EQ, Game.MAX_FRAMES - 1);
+                final VectorMask<Integer> strikes = firstRolls.compare(VectorOperators.EQ, Frame.MAX_PINS);
+                //An unknown second roll reads as zero, so only a strike adds up to ten without it:
+                final VectorMask<Integer> marks = firstRolls.add(secondRolls)
+                        .compare(VectorOperators.EQ, Frame.MAX_PINS).or(strikes)
+                        .andNot(finalFrames.andNot(nbrGameRolls.compare(VectorOperators.GT, rollIndex + 1)));
+                final IntVector nbrCountedRolls = twos.blend(threes, marks);
+                scoring = scoring.andNot(starting.andNot(
+                        nbrCountedRolls.add(rollIndex).compare(VectorOperators.LE, nbrGameRolls)));
+                final VectorMask<Integer> scored = starting.and(scoring);
+                runningScores = runningScores.add(firstRolls.add(secondRolls).add(thirdRolls, marks), scored);
+                //Only frames #((rollIndex + 1) / 2) through #(rollIndex) can start at this roll:
+                for (int frameIndex = (rollIndex + 1) / 2; frameIndex <= Math.min(rollIndex, Game.MAX_FRAMES - 1);
+                     frameIndex++)
+                    runningScores.intoArray(frameScores, frameIndex * nbrGames + firstGame,
+                            scored.and(frameIndexes.compare(VectorOperators.EQ, frameIndex)));
+                nbrScored = nbrScored.add(ones, scored);
+                frameStarts = frameStarts.blend(twos.blend(ones, strikes).add(rollIndex), scored)
+                        .blend(noFrame, scored.and(finalFrames));
+                frameIndexes = frameIndexes.add(ones, scored);
+                firstRolls = secondRolls;
+                secondRolls = thirdRolls;
+            }
+            nbrScored.intoArray(nbrScoredFrames, firstGame);
+        }
+        return upperBound;
+    }
+
+    /**
+     * Load one roll of every lane (zero once past the last roll of the game)
+     */
+    private static IntVector roll(int[] rolls, int nbrGames, int firstGame, int rollIndex, IntVector nbrGameRolls) {
+        return IntVector.fromArray(SPECIES, rolls, rollIndex * nbrGames + firstGame,
+                nbrGameRolls.compare(VectorOperators.GT, rollIndex));
+    }
+}